@@ -0,0 +1,118 @@
+package com.example.companieshouse.benchmarks;
+
+import com.example.companieshouse.client.offline.AddressIndex;
+import com.example.companieshouse.client.offline.BasicCompanyDataImporter;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of opening the memory-mapped offline {@link AddressIndex} and of looking up a
+ * company in it.
+ *
+ * <p>The index is imported once per trial from a generated BasicCompanyData CSV of
+ * {@code companies} rows. Lookups cycle through precomputed random indexed companies
+ * (hit) or numbers outside the index (miss), so they are spread over the whole file and
+ * formatting the company number is not measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressIndexBenchmark {
+
+    private static final int SAMPLES = 1 << 16;
+
+    @Param({"1000000"})
+    public int companies;
+
+    private final String[] hits = new String[SAMPLES];
+
+    private final String[] misses = new String[SAMPLES];
+
+    private int next;
+
+    private Path directory;
+
+    private Path indexFile;
+
+    private AddressIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("address-index-benchmark");
+        Path csv = directory.resolve("BasicCompanyData.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write("CompanyName, CompanyNumber,RegAddress.CareOf,RegAddress.POBox,RegAddress.AddressLine1,"
+                + " RegAddress.AddressLine2,RegAddress.PostTown,RegAddress.County,RegAddress.Country,"
+                + "RegAddress.PostCode\n");
+            for (int i = 0; i < companies; i++) {
+                writer.write("\"COMPANY " + i + " LIMITED\"," + companyNumber(i) + ",,,\"" + i
+                    + " High Street\",\"Floor 2\",London,\"Greater London\",\"United Kingdom\",\"SW1A 1AA\"\n");
+            }
+        }
+        indexFile = directory.resolve("addresses.idx");
+        new BasicCompanyDataImporter().importFile(csv, indexFile);
+        Files.delete(csv);
+        index = AddressIndex.open(indexFile);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < SAMPLES; i++) {
+            hits[i] = companyNumber(random.nextInt(companies));
+            misses[i] = companyNumber(companies + random.nextInt(companies));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+        index = null;
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public RegisteredAddressResponse hit() {
+        return index.find(hits[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public RegisteredAddressResponse miss() {
+        return index.find(misses[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public int open() throws IOException {
+        try (AddressIndex opened = AddressIndex.open(indexFile)) {
+            return opened.size();
+        }
+    }
+
+    private static String companyNumber(int i) {
+        return String.format("%08d", i);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.companieshouse.benchmarks;
+
+import com.example.companieshouse.client.CompaniesHouseClientImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating and normalizing a company number before a lookup.
+ *
+ * <p>"09370669" is already normalized and returned as is; "9370669" and "  sc123456  "
+ * are normalized into a new string.
+ *
+ * <p>Validation is private to {@link CompaniesHouseClientImpl}, so it is invoked through a
+ * private method handle; the handle is a constant and inlines like a direct call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompanyNumberValidationBenchmark {
+
+    private static final MethodHandle VALIDATE = validateHandle();
+
+    @Param({"09370669", "SC123456", "9370669", "  sc123456  "})
+    public String companyNumber;
+
+    @Benchmark
+    public String validate() throws Throwable {
+        return (String) VALIDATE.invoke(companyNumber);
+    }
+
+    private static MethodHandle validateHandle() {
+        try {
+            MethodHandles.Lookup lookup =
+                MethodHandles.privateLookupIn(CompaniesHouseClientImpl.class, MethodHandles.lookup());
+            MethodHandle handle = lookup.findVirtual(CompaniesHouseClientImpl.class, "normalizeCompanyNumber",
+                MethodType.methodType(String.class, String.class));
+            return handle.bindTo(new CompaniesHouseClientImpl(null, null, null, null, null, null));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
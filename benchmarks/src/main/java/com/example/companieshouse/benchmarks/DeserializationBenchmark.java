@@ -0,0 +1,67 @@
+package com.example.companieshouse.benchmarks;
+
+import com.example.companieshouse.dto.response.CompanyAddressProjection;
+import com.example.companieshouse.dto.response.CompanyProfileResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a response body into DTOs.
+ *
+ * <p>Compares full {@link CompanyProfileResponse} binding with the streaming
+ * {@link CompanyAddressProjection} for each payload. The mapper is configured like
+ * Spring Boot's (unknown properties ignored).
+ *
+ * @see AddressDeserializationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeserializationBenchmark {
+
+    @Param({Payloads.SMALL, Payloads.LARGE, Payloads.CARE_OF_PO_BOX})
+    public String payload;
+
+    private byte[] profileJson;
+
+    private ObjectReader profileReader;
+
+    private ObjectReader projectionReader;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        profileReader = objectMapper.readerFor(CompanyProfileResponse.class);
+        projectionReader = objectMapper.readerFor(CompanyAddressProjection.class);
+        profileJson = Payloads.profile(payload);
+    }
+
+    @Benchmark
+    public CompanyProfileResponse fullProfile() throws IOException {
+        return profileReader.readValue(profileJson);
+    }
+
+    @Benchmark
+    public CompanyAddressProjection streamingProjection() throws IOException {
+        return projectionReader.readValue(profileJson);
+    }
+}
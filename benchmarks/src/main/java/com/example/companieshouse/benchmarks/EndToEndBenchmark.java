@@ -0,0 +1,106 @@
+package com.example.companieshouse.benchmarks;
+
+import com.example.companieshouse.client.BatchLookupExecutor;
+import com.example.companieshouse.client.CompaniesHouseClientImpl;
+import com.example.companieshouse.client.metrics.CompaniesHouseMetrics;
+import com.example.companieshouse.client.ratelimit.RequestRateLimiter;
+import com.example.companieshouse.client.retry.RetryPolicy;
+import com.example.companieshouse.config.CompaniesHouseProperties;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a complete {@code getRegisteredAddress} call against an in-process stub server.
+ *
+ * <p>The stub answers every request with the same canned profile over loopback, so the
+ * result is dominated by client-side work: request building, the HTTP exchange, response
+ * parsing and address extraction. Rate limiting and retries are disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    @Param({Payloads.SMALL, Payloads.LARGE})
+    public String payload;
+
+    @Param({"FULL", "STREAMING"})
+    public CompaniesHouseProperties.ResponseParsing responseParsing;
+
+    private ExecutorService serverExecutor;
+
+    private HttpServer server;
+
+    private HttpClient httpClient;
+
+    private BatchLookupExecutor batchLookupExecutor;
+
+    private CompaniesHouseClientImpl client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] body = Payloads.profile(payload);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/company/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        RestClient restClient = RestClient.builder()
+            .baseUrl("http://localhost:" + server.getAddress().getPort())
+            .requestFactory(new JdkClientHttpRequestFactory(httpClient))
+            .build();
+
+        CompaniesHouseProperties properties = new CompaniesHouseProperties();
+        properties.setResponseParsing(responseParsing);
+        batchLookupExecutor = new BatchLookupExecutor(Executors.newSingleThreadExecutor(), 1);
+        client = new CompaniesHouseClientImpl(restClient, batchLookupExecutor, RequestRateLimiter.unlimited(),
+            RetryPolicy.none(), properties, CompaniesHouseMetrics.noop());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchLookupExecutor.close();
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public RegisteredAddressResponse getRegisteredAddress() {
+        return client.getRegisteredAddress("09370669");
+    }
+}
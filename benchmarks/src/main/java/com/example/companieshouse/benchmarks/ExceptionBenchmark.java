@@ -0,0 +1,114 @@
+package com.example.companieshouse.benchmarks;
+
+import com.example.companieshouse.client.CompaniesHouseClientImpl;
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.config.CompaniesHouseProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of translating HTTP client errors into client exceptions.
+ *
+ * <p>{@code handleClientError} is private to {@link CompaniesHouseClientImpl}, so it is
+ * invoked through a private method handle, with and without stackless exceptions. The
+ * Spring exception it translates is created once in setup; only the translation and the
+ * resulting exception are measured. Direct construction of {@link CompanyNotFoundException},
+ * with and without a stack trace, is measured for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionBenchmark {
+
+    private static final String COMPANY_NUMBER = "09370669";
+
+    private static final MethodHandle HANDLE_CLIENT_ERROR = handleClientErrorHandle();
+
+    @Param({"false", "true"})
+    public boolean stacklessExceptions;
+
+    private CompaniesHouseClientImpl client;
+
+    private HttpClientErrorException notFound;
+
+    private HttpClientErrorException tooManyRequests;
+
+    @Setup
+    public void setUp() {
+        CompaniesHouseProperties properties = new CompaniesHouseProperties();
+        properties.setStacklessExceptions(stacklessExceptions);
+        client = new CompaniesHouseClientImpl(null, null, null, null, properties, null);
+
+        notFound = HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found",
+            HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+
+        HttpHeaders retryAfter = new HttpHeaders();
+        retryAfter.add("Retry-After", "60");
+        tooManyRequests = HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+            retryAfter, new byte[0], StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CompaniesHouseApiException handleNotFound() throws Throwable {
+        return translate(client, notFound);
+    }
+
+    @Benchmark
+    public CompaniesHouseApiException handleRateLimited() throws Throwable {
+        return translate(client, tooManyRequests);
+    }
+
+    @Benchmark
+    public CompanyNotFoundException newCompanyNotFound() {
+        return new CompanyNotFoundException(COMPANY_NUMBER);
+    }
+
+    @Benchmark
+    public CompanyNotFoundException stacklessCompanyNotFound() {
+        return CompanyNotFoundException.withoutStackTrace(COMPANY_NUMBER);
+    }
+
+    private static CompaniesHouseApiException translate(CompaniesHouseClientImpl client,
+                                                        HttpClientErrorException error) throws Throwable {
+        try {
+            HANDLE_CLIENT_ERROR.invoke(client, error, COMPANY_NUMBER);
+        } catch (CompaniesHouseApiException e) {
+            return e;
+        }
+        throw new IllegalStateException("handleClientError did not throw for HTTP " + error.getStatusCode());
+    }
+
+    private static MethodHandle handleClientErrorHandle() {
+        try {
+            MethodHandles.Lookup lookup =
+                MethodHandles.privateLookupIn(CompaniesHouseClientImpl.class, MethodHandles.lookup());
+            MethodHandle handle = lookup.findVirtual(CompaniesHouseClientImpl.class, "handleClientError",
+                MethodType.methodType(void.class, HttpClientErrorException.class, String.class));
+            return handle;
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.companieshouse.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Realistic Companies House response bodies used by the benchmarks.
+ */
+final class Payloads {
+
+    /**
+     * Profile with a typical registered office address.
+     */
+    static final String SMALL = "small";
+
+    /**
+     * Profile of a long-established company with accounts, links, SIC codes and previous names.
+     */
+    static final String LARGE = "large";
+
+    /**
+     * Profile whose address uses every field, including care_of and po_box.
+     */
+    static final String CARE_OF_PO_BOX = "care_of_po_box";
+
+    private Payloads() {
+    }
+
+    /**
+     * Returns the profile body for a payload name.
+     *
+     * @param name one of {@link #SMALL}, {@link #LARGE} or {@link #CARE_OF_PO_BOX}
+     * @return the UTF-8 encoded JSON body
+     */
+    static byte[] profile(String name) {
+        return switch (name) {
+            case SMALL -> load("profile-small.json");
+            case LARGE -> load("profile-large.json");
+            case CARE_OF_PO_BOX -> load("profile-care-of-po-box.json");
+            default -> throw new IllegalArgumentException("Unknown payload: " + name);
+        };
+    }
+
+    /**
+     * Returns a bare registered office address body.
+     *
+     * @return the UTF-8 encoded JSON body
+     */
+    static byte[] address() {
+        return load("address.json");
+    }
+
+    private static byte[] load(String file) {
+        try (InputStream in = Payloads.class.getResourceAsStream("/payloads/" + file)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing payload resource: " + file);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
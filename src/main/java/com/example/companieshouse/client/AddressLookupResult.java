@@ -0,0 +1,100 @@
+package com.example.companieshouse.client;
+
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Outcome of a single company lookup, within a batch or on its own.
+ *
+ * <p>Each result carries either the registered office address or the specific
+ * {@link CompaniesHouseApiException} subclass raised for that company, so a single
+ * failure (for example a {@code CompanyNotFoundException}) does not abort the
+ * rest of the batch.
+ *
+ * <p>Example usage:
+ * <pre>
+ * AddressLookupResult result = results.get("09370669");
+ * if (result.isSuccess()) {
+ *     System.out.println(result.getAddress().getPostalCode());
+ * } else if (result.getException() instanceof CompanyNotFoundException) {
+ *     System.err.println("Company not found: " + result.getCompanyNumber());
+ * }
+ * </pre>
+ *
+ * @see CompaniesHouseClient#getRegisteredAddresses(java.util.Collection)
+ * @see CompaniesHouseClient#lookupRegisteredAddress(String)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AddressLookupResult {
+
+    /**
+     * The company number this result belongs to.
+     */
+    private final String companyNumber;
+
+    /**
+     * The registered office address, or null if the lookup failed.
+     */
+    private final RegisteredAddressResponse address;
+
+    /**
+     * The exception raised by the lookup, or null if the lookup succeeded.
+     */
+    private final CompaniesHouseApiException exception;
+
+    /**
+     * Creates a successful result.
+     *
+     * @param companyNumber the company number that was looked up
+     * @param address       the registered office address (must not be null)
+     * @return a successful lookup result
+     */
+    public static AddressLookupResult success(String companyNumber, RegisteredAddressResponse address) {
+        if (address == null) {
+            throw new IllegalArgumentException("Address must not be null for a successful result");
+        }
+        return new AddressLookupResult(companyNumber, address, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param companyNumber the company number that was looked up
+     * @param exception     the exception raised by the lookup (must not be null)
+     * @return a failed lookup result
+     */
+    public static AddressLookupResult failure(String companyNumber, CompaniesHouseApiException exception) {
+        if (exception == null) {
+            throw new IllegalArgumentException("Exception must not be null for a failed result");
+        }
+        return new AddressLookupResult(companyNumber, null, exception);
+    }
+
+    /**
+     * Indicates whether the lookup succeeded.
+     *
+     * @return true if an address is present, false if the lookup failed
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * Returns the address, rethrowing the original exception if the lookup failed.
+     *
+     * @return the registered office address, never null
+     * @throws CompaniesHouseApiException the exception raised by the lookup
+     */
+    public RegisteredAddressResponse getAddressOrThrow() {
+        if (exception != null) {
+            throw exception;
+        }
+        return address;
+    }
+}
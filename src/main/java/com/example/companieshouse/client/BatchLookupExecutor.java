@@ -0,0 +1,314 @@
+package com.example.companieshouse.client;
+
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.client.exception.InvalidCompanyNumberException;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs many single-company lookups with bounded parallel fan-out.
+ *
+ * <p>Used by {@link CompaniesHouseClient} implementations to back the batch and
+ * streaming lookup methods. Company numbers are normalized first, so repeated numbers,
+ * including differently written forms of the same number such as "9370669" and
+ * "09370669", are looked up once. At most {@code maxConcurrency} lookups are in flight
+ * at any time, and every company number produces an {@link AddressLookupResult} so a
+ * single failure does not abort the batch. A number that is not valid yields a failed
+ * result with an {@link InvalidCompanyNumberException} without running the lookup.
+ *
+ * <p>Only {@link CompaniesHouseApiException}s are captured into results. Any other
+ * runtime exception indicates a programming error and is rethrown to the caller.
+ *
+ * <p>The underlying executor decides how lookups are scheduled: a fixed pool of
+ * platform threads, or one virtual thread per lookup so that blocking HTTP calls do
+ * not pin an OS thread for the whole round trip.
+ *
+ * <p>Thread-safety: This class is thread-safe. Concurrent batches share the underlying
+ * executor but each batch enforces its own concurrency bound.
+ */
+@Slf4j
+public class BatchLookupExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+
+    private final int maxConcurrency;
+
+    /**
+     * Creates a batch executor.
+     *
+     * @param executor       the executor that runs individual lookups
+     * @param maxConcurrency maximum number of lookups in flight per batch (must be positive)
+     */
+    public BatchLookupExecutor(ExecutorService executor, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Looks up every distinct company number and waits for all results.
+     *
+     * <p>The lookup is applied to normalized company numbers. Every company number given
+     * gets an entry in the results under the number as given, so forms of the same number
+     * share one lookup but each find their own result.
+     *
+     * @param companyNumbers the company numbers to look up (duplicates are looked up once)
+     * @param lookup         the single-company lookup to apply
+     * @return results keyed by company number as given, in first-seen order
+     */
+    public Map<String, AddressLookupResult> lookupAll(
+            Collection<String> companyNumbers, Function<String, RegisteredAddressResponse> lookup) {
+
+        Map<String, String> normalizedNumbers = new LinkedHashMap<>();
+        Map<String, Future<AddressLookupResult>> futures = new HashMap<>();
+        Semaphore permits = new Semaphore(maxConcurrency);
+
+        try {
+            for (String companyNumber : companyNumbers) {
+                if (normalizedNumbers.containsKey(companyNumber)) {
+                    continue;
+                }
+                String normalized = CompanyNumber.normalize(companyNumber);
+                normalizedNumbers.put(companyNumber, normalized);
+                if (normalized != null && !futures.containsKey(normalized)) {
+                    permits.acquire();
+                    futures.put(normalized, submit(companyNumber, normalized, lookup, permits));
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CompaniesHouseApiException("Interrupted while submitting batch lookup", e);
+        }
+        log.debug("Ran batch lookup for {} distinct company numbers ({} requested)",
+            futures.size(), companyNumbers.size());
+
+        Map<String, AddressLookupResult> completed = new HashMap<>();
+        Map<String, AddressLookupResult> results = new LinkedHashMap<>();
+        normalizedNumbers.forEach((companyNumber, normalized) -> {
+            if (normalized == null) {
+                results.put(companyNumber, invalid(companyNumber));
+                return;
+            }
+            AddressLookupResult result = completed.computeIfAbsent(normalized, key -> await(futures.get(key)));
+            results.put(companyNumber, forCompanyNumber(result, companyNumber));
+        });
+        return results;
+    }
+
+    /**
+     * Lazily looks up company numbers as the returned stream is consumed.
+     *
+     * <p>Results are emitted in completion order, not input order. The source stream is
+     * pulled only as fast as lookups complete, so memory stays bounded by
+     * {@code maxConcurrency} regardless of the input size. Closing the returned stream
+     * cancels any lookups still in flight. Each distinct normalized number yields one
+     * result, under the first form in which it was given.
+     *
+     * @param companyNumbers the company numbers to look up (duplicates are looked up once)
+     * @param lookup         the single-company lookup to apply
+     * @return a stream of lookup results
+     */
+    public Stream<AddressLookupResult> stream(
+            Stream<String> companyNumbers, Function<String, RegisteredAddressResponse> lookup) {
+
+        CompletionOrderIterator iterator = new CompletionOrderIterator(companyNumbers.iterator(), lookup);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+            .onClose(iterator::cancel)
+            .onClose(companyNumbers::close);
+    }
+
+    /**
+     * Runs a single lookup asynchronously on the underlying executor.
+     *
+     * <p>Unlike batches, asynchronous lookups are not bounded by {@code maxConcurrency};
+     * with a virtual-thread executor every call gets its own virtual thread.
+     *
+     * @param lookup the lookup to run
+     * @param <T>    the lookup result type
+     * @return a future completed with the lookup result, or exceptionally with the
+     *         exception the lookup threw
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> lookup) {
+        try {
+            return CompletableFuture.supplyAsync(lookup, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                new CompaniesHouseApiException("Lookup executor rejected asynchronous lookup", e));
+        }
+    }
+
+    /**
+     * Shuts down the underlying executor.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private Future<AddressLookupResult> submit(String companyNumber, String normalized,
+            Function<String, RegisteredAddressResponse> lookup, Semaphore permits) {
+        try {
+            return executor.submit(() -> {
+                try {
+                    return lookupOne(companyNumber, normalized, lookup);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new CompaniesHouseApiException("Batch lookup executor rejected company: " + companyNumber, e);
+        }
+    }
+
+    private static AddressLookupResult lookupOne(String companyNumber, String normalized,
+            Function<String, RegisteredAddressResponse> lookup) {
+        try {
+            return AddressLookupResult.success(companyNumber, lookup.apply(normalized));
+        } catch (CompaniesHouseApiException e) {
+            return AddressLookupResult.failure(companyNumber, e);
+        }
+    }
+
+    private static AddressLookupResult invalid(String companyNumber) {
+        return AddressLookupResult.failure(companyNumber, new InvalidCompanyNumberException(companyNumber));
+    }
+
+    /**
+     * Returns a result under another form of the company number it was looked up with.
+     */
+    private static AddressLookupResult forCompanyNumber(AddressLookupResult result, String companyNumber) {
+        if (companyNumber.equals(result.getCompanyNumber())) {
+            return result;
+        }
+        return result.isSuccess()
+            ? AddressLookupResult.success(companyNumber, result.getAddress())
+            : AddressLookupResult.failure(companyNumber, result.getException());
+    }
+
+    private static AddressLookupResult await(Future<AddressLookupResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompaniesHouseApiException("Interrupted while waiting for batch lookup", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompaniesHouseApiException("Batch lookup failed", cause);
+        }
+    }
+
+    /**
+     * Iterator that keeps up to {@code maxConcurrency} lookups in flight and yields
+     * each result as soon as it completes.
+     */
+    private final class CompletionOrderIterator implements Iterator<AddressLookupResult> {
+
+        private final Iterator<String> source;
+
+        private final Function<String, RegisteredAddressResponse> lookup;
+
+        private final CompletionService<AddressLookupResult> completionService;
+
+        private final Set<String> seen = new HashSet<>();
+
+        private final Set<Future<AddressLookupResult>> inFlight = new HashSet<>();
+
+        /**
+         * Results known without a lookup, such as invalid company numbers.
+         */
+        private final Deque<AddressLookupResult> ready = new ArrayDeque<>();
+
+        private CompletionOrderIterator(
+                Iterator<String> source, Function<String, RegisteredAddressResponse> lookup) {
+            this.source = source;
+            this.lookup = lookup;
+            this.completionService = new ExecutorCompletionService<>(executor);
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !ready.isEmpty() || !inFlight.isEmpty();
+        }
+
+        @Override
+        public AddressLookupResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (!ready.isEmpty()) {
+                return ready.poll();
+            }
+            try {
+                Future<AddressLookupResult> completed = completionService.take();
+                inFlight.remove(completed);
+                return await(completed);
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new CompaniesHouseApiException("Interrupted while streaming batch lookup", e);
+            }
+        }
+
+        private void fill() {
+            while (inFlight.size() < maxConcurrency && ready.isEmpty() && source.hasNext()) {
+                String companyNumber = source.next();
+                String normalized = CompanyNumber.normalize(companyNumber);
+                if (normalized == null) {
+                    if (seen.add(companyNumber)) {
+                        ready.add(invalid(companyNumber));
+                    }
+                } else if (seen.add(normalized)) {
+                    try {
+                        inFlight.add(completionService.submit(
+                            () -> lookupOne(companyNumber, normalized, lookup)));
+                    } catch (RejectedExecutionException e) {
+                        throw new CompaniesHouseApiException(
+                            "Batch lookup executor rejected company: " + companyNumber, e);
+                    }
+                }
+            }
+        }
+
+        private void cancel() {
+            inFlight.forEach(future -> future.cancel(true));
+            inFlight.clear();
+        }
+    }
+}
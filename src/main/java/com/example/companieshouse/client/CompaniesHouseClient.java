@@ -4,8 +4,14 @@ import com.example.companieshouse.client.exception.CompaniesHouseApiException;
 import com.example.companieshouse.client.exception.CompaniesHouseAuthenticationException;
 import com.example.companieshouse.client.exception.CompanyNotFoundException;
 import com.example.companieshouse.client.exception.RateLimitExceededException;
+import com.example.companieshouse.dto.response.RegisteredAddress;
 import com.example.companieshouse.dto.response.RegisteredAddressResponse;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 /**
  * Client for the Companies House Public Data API.
  *
@@ -60,4 +66,125 @@ public interface CompaniesHouseClient {
      *         an invalid format
      */
     RegisteredAddressResponse getRegisteredAddress(String companyNumber);
+
+    /**
+     * Asynchronously retrieves the registered office address for a UK company.
+     *
+     * <p>The lookup runs on the client's lookup executor, which uses virtual threads
+     * when companies-house.api.execution-mode is {@code VIRTUAL}. The returned future
+     * completes exceptionally with the same exceptions {@link #getRegisteredAddress(String)}
+     * would throw.
+     *
+     * @param companyNumber the UK company registration number (e.g., "09370669").
+     *                      Must not be null or blank.
+     * @return a future completed with the registered office address, never null
+     * @throws IllegalArgumentException if companyNumber is null, blank, or has
+     *         an invalid format; thrown immediately rather than through the future
+     */
+    CompletableFuture<RegisteredAddressResponse> getRegisteredAddressAsync(String companyNumber);
+
+    /**
+     * Retrieves the registered office addresses for many UK companies.
+     *
+     * <p>Lookups run in parallel with bounded concurrency and repeated company numbers,
+     * compared once normalized, are looked up only once. Each company gets its own
+     * {@link AddressLookupResult} carrying either the address or the specific
+     * {@link CompaniesHouseApiException} raised for it, so one failure (for example a 404)
+     * does not abort the batch. A null, blank or malformed entry gets a failed result with
+     * an {@link com.example.companieshouse.client.exception.InvalidCompanyNumberException}
+     * and is never sent to the API.
+     *
+     * <p>This method blocks until every lookup has completed.
+     *
+     * @param companyNumbers the UK company registration numbers to look up. Must not be null.
+     * @return results keyed by company number as given, in the order each number first appears
+     * @throws IllegalArgumentException if companyNumbers is null
+     */
+    Map<String, AddressLookupResult> getRegisteredAddresses(Collection<String> companyNumbers);
+
+    /**
+     * Streaming variant of {@link #getRegisteredAddresses(Collection)}.
+     *
+     * <p>Company numbers are pulled from the source stream only as fast as lookups
+     * complete, so arbitrarily large inputs can be processed in bounded memory.
+     * Results are emitted in completion order rather than input order; use
+     * {@link AddressLookupResult#getCompanyNumber()} to correlate them. Repeated
+     * company numbers, compared once normalized, are looked up only once, and invalid
+     * entries yield failed results as in {@link #getRegisteredAddresses(Collection)}.
+     *
+     * <p>Closing the returned stream cancels any lookups still in flight.
+     *
+     * @param companyNumbers the UK company registration numbers to look up. Must not be null.
+     * @return a lazily evaluated stream of lookup results
+     * @throws IllegalArgumentException if companyNumbers is null
+     */
+    Stream<AddressLookupResult> streamRegisteredAddresses(Stream<String> companyNumbers);
+
+    /**
+     * Non-throwing variant of {@link #getRegisteredAddress(String)}.
+     *
+     * <p>API failures are returned in the result instead of being thrown, so callers that
+     * expect many misses (for example reconciliation jobs) can branch on
+     * {@link AddressLookupResult#isSuccess()} without try/catch. The default
+     * implementation still throws and catches the exception internally; combined with
+     * companies-house.api.stackless-exceptions, only the stack-trace fill is skipped.
+     *
+     * @param companyNumber the UK company registration number (e.g., "09370669").
+     *                      Must not be null or blank.
+     * @return the address, or the {@link CompaniesHouseApiException} describing the failure
+     * @throws IllegalArgumentException if companyNumber is null, blank, or has
+     *         an invalid format
+     */
+    default AddressLookupResult lookupRegisteredAddress(String companyNumber) {
+        try {
+            return AddressLookupResult.success(companyNumber, getRegisteredAddress(companyNumber));
+        } catch (CompaniesHouseApiException e) {
+            return AddressLookupResult.failure(companyNumber, e);
+        }
+    }
+
+    /**
+     * Variant of {@link #getRegisteredAddress(String)} that returns the immutable
+     * {@link RegisteredAddress}.
+     *
+     * <p>The result may be shared between threads without copying. Caching
+     * implementations return their cached instance, so a cache hit allocates nothing.
+     *
+     * <p>The default implementation copies the result of {@link #getRegisteredAddress(String)}.
+     *
+     * @param companyNumber the UK company registration number (e.g., "09370669").
+     *                      Must not be null or blank.
+     * @return the registered office address for the company, never null
+     * @throws CompaniesHouseApiException on the same failures as
+     *         {@link #getRegisteredAddress(String)}
+     * @throws IllegalArgumentException if companyNumber is null, blank, or has
+     *         an invalid format
+     */
+    default RegisteredAddress getImmutableRegisteredAddress(String companyNumber) {
+        return RegisteredAddress.from(getRegisteredAddress(companyNumber));
+    }
+
+    /**
+     * Conditional variant of {@link #getRegisteredAddress(String)} for revalidating a
+     * previously fetched address.
+     *
+     * <p>Pass the entity tag from an earlier result to ask whether the company profile
+     * has changed since. An unchanged profile yields a
+     * {@link ConditionalAddressResult#notModified(String) not-modified} result without an
+     * address; a changed one yields the new address and its entity tag. Pass null to
+     * fetch unconditionally and obtain the first entity tag.
+     *
+     * <p>The default implementation cannot revalidate: it always performs a full lookup
+     * and reports no entity tag.
+     *
+     * @param companyNumber the UK company registration number (e.g., "09370669").
+     *                      Must not be null or blank.
+     * @param etag          the entity tag of the copy held by the caller, or null
+     * @return the revalidation outcome, never null
+     * @throws IllegalArgumentException if companyNumber is null, blank, or has
+     *         an invalid format
+     */
+    default ConditionalAddressResult getRegisteredAddressIfModified(String companyNumber, String etag) {
+        return ConditionalAddressResult.modified(getRegisteredAddress(companyNumber), null);
+    }
 }
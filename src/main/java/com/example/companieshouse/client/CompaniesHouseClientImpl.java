@@ -2,14 +2,24 @@ package com.example.companieshouse.client;
 
 import com.example.companieshouse.client.exception.CompaniesHouseApiException;
 import com.example.companieshouse.client.exception.CompaniesHouseAuthenticationException;
+import com.example.companieshouse.client.exception.CompaniesHouseServerException;
 import com.example.companieshouse.client.exception.CompanyNotFoundException;
 import com.example.companieshouse.client.exception.InvalidResponseException;
 import com.example.companieshouse.client.exception.RateLimitExceededException;
+import com.example.companieshouse.client.metrics.CompaniesHouseMetrics;
+import com.example.companieshouse.client.metrics.RequestOutcome;
+import com.example.companieshouse.client.ratelimit.RequestRateLimiter;
+import com.example.companieshouse.client.retry.RetryPolicy;
+import com.example.companieshouse.config.CompaniesHouseProperties;
+import com.example.companieshouse.dto.response.CompanyAddressProjection;
 import com.example.companieshouse.dto.response.CompanyProfileResponse;
 import com.example.companieshouse.dto.response.RegisteredAddressResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -17,6 +27,12 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 /**
  * Implementation of {@link CompaniesHouseClient} using Spring's RestClient.
  *
@@ -24,6 +40,42 @@ import org.springframework.web.client.RestClientException;
  * Public Data API. The RestClient is pre-configured with the base URL, API key
  * authentication, and timeout settings via {@link com.example.companieshouse.config.CompaniesHouseConfig}.
  *
+ * <p>Batch, streaming and asynchronous lookups run on the injected {@link BatchLookupExecutor},
+ * which bounds the number of concurrent requests a batch makes to the API and, in
+ * virtual-thread execution mode, runs each lookup on its own virtual thread.
+ *
+ * <p>Company numbers are validated and normalized with {@link CompanyNumber} before
+ * any I/O, so malformed input never reaches the API and "9370669" and "09370669" are
+ * the same lookup.
+ *
+ * <p>Concurrent lookups of the same company number are coalesced: while a request for
+ * a company is in flight, other callers asking for it wait for that request and receive
+ * the same address or the same exception instead of issuing duplicate GETs.
+ *
+ * <p>Every HTTP request first acquires a permit from the injected {@link RequestRateLimiter},
+ * which paces requests to stay within the Companies House quota.
+ *
+ * <p>Rate limit, server and connection failures are retried according to the injected
+ * {@link RetryPolicy}; each attempt acquires its own rate limiter permit. Coalesced
+ * callers share the retries of the request they joined.
+ *
+ * <p>With companies-house.api.response-parsing set to STREAMING, only the
+ * {@code registered_office_address} object of each profile is read; the rest of the
+ * response is skipped at the token level instead of being bound to
+ * {@link CompanyProfileResponse}.
+ *
+ * <p>With companies-house.api.stackless-exceptions enabled, 404 and 429 responses are
+ * translated straight into {@link CompanyNotFoundException} and
+ * {@link RateLimitExceededException} without capturing a stack trace, skipping the
+ * exception RestClient would otherwise build for them.
+ *
+ * <p>{@link #getRegisteredAddressIfModified(String, String)} revalidates a previously
+ * fetched address with {@code If-None-Match}, so an unchanged profile costs a 304 with
+ * no body instead of a full response.
+ *
+ * <p>Every request is timed and classified by outcome in the injected
+ * {@link CompaniesHouseMetrics}.
+ *
  * <p>Thread-safety: This class is thread-safe. The injected RestClient is immutable
  * and can be safely shared across multiple threads.
  *
@@ -37,33 +89,220 @@ public class CompaniesHouseClientImpl implements CompaniesHouseClient {
 
     private final RestClient restClient;
 
+    private final BatchLookupExecutor batchLookupExecutor;
+
+    private final RequestRateLimiter rateLimiter;
+
+    private final RetryPolicy retryPolicy;
+
+    private final CompaniesHouseProperties properties;
+
+    private final CompaniesHouseMetrics metrics;
+
+    private final SingleFlight<String, RegisteredAddressResponse> inFlightLookups = new SingleFlight<>();
+
+    private final SingleFlight<String, ConditionalAddressResult> inFlightConditionalLookups = new SingleFlight<>();
+
     /**
      * {@inheritDoc}
      */
     @Override
     public RegisteredAddressResponse getRegisteredAddress(String companyNumber) {
-        validateCompanyNumber(companyNumber);
+        String normalized = normalizeCompanyNumber(companyNumber);
+
+        return inFlightLookups.execute(normalized,
+            () -> retryPolicy.execute(() -> fetchRegisteredAddress(normalized)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The entity tag is sent as {@code If-None-Match}. Concurrent revalidations of the
+     * same company against the same entity tag are coalesced into one request.
+     */
+    @Override
+    public ConditionalAddressResult getRegisteredAddressIfModified(String companyNumber, String etag) {
+        String normalized = normalizeCompanyNumber(companyNumber);
+
+        String key = etag == null ? normalized : normalized + '/' + etag;
+        return inFlightConditionalLookups.execute(key,
+            () -> retryPolicy.execute(() -> fetchRegisteredAddressIfModified(normalized, etag)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<RegisteredAddressResponse> getRegisteredAddressAsync(String companyNumber) {
+        String normalized = normalizeCompanyNumber(companyNumber);
+
+        return batchLookupExecutor.supplyAsync(() -> getRegisteredAddress(normalized));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, AddressLookupResult> getRegisteredAddresses(Collection<String> companyNumbers) {
+        if (companyNumbers == null) {
+            throw new IllegalArgumentException("Company numbers must not be null");
+        }
+
+        return batchLookupExecutor.lookupAll(companyNumbers, this::getRegisteredAddress);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<AddressLookupResult> streamRegisteredAddresses(Stream<String> companyNumbers) {
+        if (companyNumbers == null) {
+            throw new IllegalArgumentException("Company numbers must not be null");
+        }
+
+        return batchLookupExecutor.stream(companyNumbers, this::getRegisteredAddress);
+    }
 
+    /**
+     * Fetches the registered address from the API and records the request in metrics.
+     *
+     * @param companyNumber the validated company number
+     * @return the registered office address
+     */
+    private RegisteredAddressResponse fetchRegisteredAddress(String companyNumber) {
+        rateLimiter.acquire();
         log.debug("Fetching registered address for company: {}", companyNumber);
 
+        long startTime = metrics.startRequest(CompaniesHouseMetrics.COMPANY_PROFILE);
+        try {
+            RegisteredAddressResponse address = requestRegisteredAddress(companyNumber);
+            metrics.recordRequest(CompaniesHouseMetrics.COMPANY_PROFILE, startTime, RequestOutcome.SUCCESS);
+            return address;
+        } catch (RuntimeException e) {
+            metrics.recordRequest(CompaniesHouseMetrics.COMPANY_PROFILE, startTime, RequestOutcome.of(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Revalidates the registered address with the API and records the request in metrics.
+     *
+     * @param companyNumber the validated company number
+     * @param etag          the entity tag held by the caller, or null
+     * @return the revalidation outcome
+     */
+    private ConditionalAddressResult fetchRegisteredAddressIfModified(String companyNumber, String etag) {
+        rateLimiter.acquire();
+        log.debug("Revalidating registered address for company: {}", companyNumber);
+
+        long startTime = metrics.startRequest(CompaniesHouseMetrics.COMPANY_PROFILE);
+        try {
+            ConditionalAddressResult result = requestRegisteredAddressIfModified(companyNumber, etag);
+            metrics.recordRequest(CompaniesHouseMetrics.COMPANY_PROFILE, startTime,
+                result.isModified() ? RequestOutcome.SUCCESS : RequestOutcome.NOT_MODIFIED);
+            return result;
+        } catch (RuntimeException e) {
+            metrics.recordRequest(CompaniesHouseMetrics.COMPANY_PROFILE, startTime, RequestOutcome.of(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Requests the company profile and extracts its registered office address.
+     *
+     * @param companyNumber the validated company number
+     * @return the registered office address
+     */
+    private RegisteredAddressResponse requestRegisteredAddress(String companyNumber) {
+        return request(companyNumber, null, response -> {
+            if (properties.getResponseParsing() == CompaniesHouseProperties.ResponseParsing.STREAMING) {
+                return extractAddress(response.body(CompanyAddressProjection.class), companyNumber);
+            }
+            return extractAddress(response.body(CompanyProfileResponse.class), companyNumber);
+        });
+    }
+
+    /**
+     * Requests the company profile with {@code If-None-Match} and reports whether it changed.
+     *
+     * <p>A 304 response means the profile is unchanged. Where the API ignores the header
+     * and sends the full profile anyway, its {@code etag} field is compared with the one
+     * sent, and a match is reported as not modified too, so the caller keeps the address it
+     * already holds instead of replacing it with an identical copy.
+     *
+     * @param companyNumber the validated company number
+     * @param etag          the entity tag held by the caller, or null
+     * @return the revalidation outcome
+     */
+    private ConditionalAddressResult requestRegisteredAddressIfModified(String companyNumber, String etag) {
+        return request(companyNumber, etag, response -> {
+            RegisteredAddressResponse address;
+            String currentEtag;
+            if (properties.getResponseParsing() == CompaniesHouseProperties.ResponseParsing.STREAMING) {
+                ResponseEntity<CompanyAddressProjection> entity = response.toEntity(CompanyAddressProjection.class);
+                if (isNotModified(entity, etag)) {
+                    return ConditionalAddressResult.notModified(etag);
+                }
+                CompanyAddressProjection projection = entity.getBody();
+                currentEtag = projection != null ? projection.getEtag() : null;
+                if (etag != null && etag.equals(currentEtag)) {
+                    return ConditionalAddressResult.notModified(etag);
+                }
+                address = extractAddress(projection, companyNumber);
+            } else {
+                ResponseEntity<CompanyProfileResponse> entity = response.toEntity(CompanyProfileResponse.class);
+                if (isNotModified(entity, etag)) {
+                    return ConditionalAddressResult.notModified(etag);
+                }
+                CompanyProfileResponse profile = entity.getBody();
+                currentEtag = profile != null ? profile.getEtag() : null;
+                if (etag != null && etag.equals(currentEtag)) {
+                    return ConditionalAddressResult.notModified(etag);
+                }
+                address = extractAddress(profile, companyNumber);
+            }
+            return ConditionalAddressResult.modified(address, currentEtag);
+        });
+    }
+
+    /**
+     * Sends a company profile request and translates HTTP errors.
+     *
+     * @param companyNumber the validated company number
+     * @param ifNoneMatch   entity tag to send as {@code If-None-Match}, or null for none
+     * @param reader        reads the result from the response
+     * @param <T>           the result type
+     * @return the result of the reader
+     */
+    private <T> T request(String companyNumber, String ifNoneMatch, Function<RestClient.ResponseSpec, T> reader) {
         try {
-            CompanyProfileResponse profile = restClient.get()
-                .uri("/company/{companyNumber}", companyNumber)
-                .retrieve()
-                .body(CompanyProfileResponse.class);
+            RestClient.RequestHeadersSpec<?> requestSpec = restClient.get()
+                .uri("/company/{companyNumber}", companyNumber);
+            if (ifNoneMatch != null) {
+                requestSpec = requestSpec.header(HttpHeaders.IF_NONE_MATCH, quoteEtag(ifNoneMatch));
+            }
+            RestClient.ResponseSpec response = requestSpec.retrieve();
+            if (properties.isStacklessExceptions()) {
+                // Translate expected failures directly, before RestClient builds its own exception
+                response = response.onStatus(CompaniesHouseClientImpl::isExpectedFailure,
+                    (request, failure) -> {
+                        throw expectedFailure(failure.getStatusCode(), failure.getHeaders(), companyNumber);
+                    });
+            }
 
-            return extractAddress(profile, companyNumber);
+            return reader.apply(response);
 
         } catch (HttpClientErrorException e) {
             handleClientError(e, companyNumber);
             throw new CompaniesHouseApiException(
                 "Client error: HTTP " + e.getStatusCode().value(), e);
         } catch (HttpServerErrorException e) {
-            throw new CompaniesHouseApiException(
-                "Companies House API server error (HTTP " + e.getStatusCode().value() + ")", e);
+            throw new CompaniesHouseServerException(
+                "Companies House API server error (HTTP " + e.getStatusCode().value() + ")",
+                e.getStatusCode().value(), e);
         } catch (ResourceAccessException e) {
-            throw new CompaniesHouseApiException(
-                "Failed to connect to Companies House API: " + e.getMessage(), e);
+            throw new CompaniesHouseServerException(
+                "Failed to connect to Companies House API: " + e.getMessage(), null, e);
         } catch (RestClientException e) {
             throw new InvalidResponseException(
                 "Failed to parse API response for company: " + companyNumber, e);
@@ -71,16 +310,38 @@ public class CompaniesHouseClientImpl implements CompaniesHouseClient {
     }
 
     /**
-     * Validates the company number parameter.
+     * Returns the number of requests that can be sent right now without waiting for
+     * the client-side rate limiter.
+     *
+     * @return the remaining request budget
+     */
+    public long getRemainingRateLimitBudget() {
+        return rateLimiter.availablePermits();
+    }
+
+    /**
+     * Validates and normalizes the company number parameter before any I/O.
+     *
+     * <p>Malformed numbers are rejected here in a single allocation-free pass instead of
+     * costing a rate limiter permit and a round trip that can only end in a 404. Valid
+     * short forms are padded, so "9370669" is requested as "09370669".
      *
      * @param companyNumber the company number to validate
-     * @throws IllegalArgumentException if the company number is null or blank
+     * @return the normalized company number; the argument itself if already normalized
+     * @throws IllegalArgumentException if the company number is null, blank or malformed
+     * @see CompanyNumber
      */
-    private void validateCompanyNumber(String companyNumber) {
+    private String normalizeCompanyNumber(String companyNumber) {
         if (companyNumber == null || companyNumber.isBlank()) {
             throw new IllegalArgumentException(
                 "Company number must not be null or blank");
         }
+        String normalized = CompanyNumber.normalize(companyNumber);
+        if (normalized == null) {
+            throw new IllegalArgumentException(
+                "Company number is not valid: " + companyNumber);
+        }
+        return normalized;
     }
 
     /**
@@ -95,13 +356,8 @@ public class CompaniesHouseClientImpl implements CompaniesHouseClient {
     private void handleClientError(HttpClientErrorException exception, String companyNumber) {
         HttpStatus status = (HttpStatus) exception.getStatusCode();
 
-        if (status == HttpStatus.NOT_FOUND) {
-            throw new CompanyNotFoundException(companyNumber);
-        }
-
-        if (status == HttpStatus.TOO_MANY_REQUESTS) {
-            Long retryAfter = extractRetryAfter(exception);
-            throw new RateLimitExceededException("Rate limit exceeded", retryAfter);
+        if (isExpectedFailure(status)) {
+            throw expectedFailure(status, exception.getResponseHeaders(), companyNumber);
         }
 
         if (status == HttpStatus.UNAUTHORIZED) {
@@ -114,15 +370,74 @@ public class CompaniesHouseClientImpl implements CompaniesHouseClient {
     }
 
     /**
-     * Extracts the Retry-After header value from an HTTP exception.
+     * Checks whether a status is an expected outcome of a lookup rather than an error:
+     * 404 (company not found) or 429 (rate limited).
+     *
+     * @param status the HTTP status
+     * @return true for 404 and 429
+     */
+    private static boolean isExpectedFailure(HttpStatusCode status) {
+        return status.value() == HttpStatus.NOT_FOUND.value()
+            || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * Checks whether a conditional request was answered with 304 Not Modified.
+     *
+     * @param entity the response entity
+     * @param etag   the entity tag that was sent, or null
+     * @return true if an entity tag was sent and the status is 304
+     */
+    private static boolean isNotModified(ResponseEntity<?> entity, String etag) {
+        return etag != null && entity.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value();
+    }
+
+    /**
+     * Formats an entity tag for {@code If-None-Match}. Profile {@code etag} fields are
+     * bare strings, while the header requires a quoted (optionally weak) entity tag.
+     *
+     * @param etag the entity tag, quoted or not
+     * @return the quoted entity tag
+     */
+    private static String quoteEtag(String etag) {
+        return etag.startsWith("\"") || etag.startsWith("W/\"") ? etag : '"' + etag + '"';
+    }
+
+    /**
+     * Creates the exception for an expected failure, without a stack trace when
+     * companies-house.api.stackless-exceptions is enabled.
      *
-     * @param exception the HTTP exception
+     * @param status        404 or 429
+     * @param headers       the response headers (may be null)
+     * @param companyNumber the company number (for error context)
+     * @return CompanyNotFoundException for 404, RateLimitExceededException for 429
+     */
+    private CompaniesHouseApiException expectedFailure(
+            HttpStatusCode status, HttpHeaders headers, String companyNumber) {
+
+        boolean stackless = properties.isStacklessExceptions();
+        if (status.value() == HttpStatus.NOT_FOUND.value()) {
+            return stackless
+                ? CompanyNotFoundException.withoutStackTrace(companyNumber)
+                : new CompanyNotFoundException(companyNumber);
+        }
+
+        Long retryAfter = extractRetryAfter(headers);
+        return stackless
+            ? RateLimitExceededException.withoutStackTrace("Rate limit exceeded", retryAfter)
+            : new RateLimitExceededException("Rate limit exceeded", retryAfter);
+    }
+
+    /**
+     * Extracts the Retry-After header value from response headers.
+     *
+     * @param headers the response headers (may be null)
      * @return the retry-after value in seconds, or null if not present or unparseable
      */
-    private Long extractRetryAfter(HttpClientErrorException exception) {
+    private Long extractRetryAfter(HttpHeaders headers) {
         try {
-            String retryAfterHeader = exception.getResponseHeaders() != null
-                ? exception.getResponseHeaders().getFirst("Retry-After")
+            String retryAfterHeader = headers != null
+                ? headers.getFirst("Retry-After")
                 : null;
 
             return retryAfterHeader != null ? Long.parseLong(retryAfterHeader) : null;
@@ -148,7 +463,29 @@ public class CompaniesHouseClientImpl implements CompaniesHouseClient {
                 "API returned null response for company: " + companyNumber, null);
         }
 
-        RegisteredAddressResponse address = profile.getRegisteredOfficeAddress();
+        return requireAddress(profile.getRegisteredOfficeAddress(), companyNumber);
+    }
+
+    /**
+     * Extracts the registered office address from a streamed address projection.
+     *
+     * @param projection    the address projection (may be null)
+     * @param companyNumber the company number (for error messages)
+     * @return the registered office address
+     * @throws InvalidResponseException if the projection or address is null
+     */
+    private RegisteredAddressResponse extractAddress(
+            CompanyAddressProjection projection, String companyNumber) {
+
+        if (projection == null) {
+            throw new InvalidResponseException(
+                "API returned null response for company: " + companyNumber, null);
+        }
+
+        return requireAddress(projection.getRegisteredOfficeAddress(), companyNumber);
+    }
+
+    private RegisteredAddressResponse requireAddress(RegisteredAddressResponse address, String companyNumber) {
         if (address == null) {
             throw new InvalidResponseException(
                 "No registered address found for company: " + companyNumber, null);
@@ -0,0 +1,216 @@
+package com.example.companieshouse.client;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A normalized Companies House company number packed into a {@code long}.
+ *
+ * <p>Company numbers are eight characters: eight digits ("09370669"), one letter and
+ * seven digits ("R0000123"), or a two-letter prefix and six digits ("SC123456",
+ * "NI012345", "OC301234"). Input is normalized before validation: surrounding
+ * whitespace is ignored, letters are upper-cased, and numbers with fewer digits are
+ * left-padded with zeros after any prefix, so "9370669" becomes "09370669" and "sc1234"
+ * becomes "SC001234".
+ *
+ * <p>The eight ASCII characters are packed big-endian into a {@code long}, so a number
+ * costs no more than a primitive as a map key, and packed values order the same way as
+ * the numbers they encode. {@link #pack(CharSequence)} normalizes and packs in a single
+ * pass without allocating, for callers that only need the primitive.
+ *
+ * <p>Thread-safety: This class is immutable and thread-safe.
+ */
+public final class CompanyNumber implements Comparable<CompanyNumber> {
+
+    /**
+     * Number of characters in a normalized company number.
+     */
+    public static final int LENGTH = 8;
+
+    /**
+     * Returned by {@link #pack(CharSequence)} for input that is not a valid company
+     * number. Never equal to a packed number, whose bytes are all ASCII.
+     */
+    public static final long INVALID = -1L;
+
+    private static final int MAX_PREFIX_LENGTH = 2;
+
+    private final long packed;
+
+    private CompanyNumber(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Normalizes and validates a company number.
+     *
+     * @param companyNumber the company number
+     * @return the normalized company number
+     * @throws IllegalArgumentException if the input is not a valid company number
+     */
+    public static CompanyNumber of(CharSequence companyNumber) {
+        long packed = pack(companyNumber);
+        if (packed == INVALID) {
+            throw new IllegalArgumentException("Invalid company number: " + companyNumber);
+        }
+        return new CompanyNumber(packed);
+    }
+
+    /**
+     * Wraps a value previously returned by {@link #pack(CharSequence)} or {@link #toLong()}.
+     *
+     * @param packed the packed company number
+     * @return the company number
+     * @throws IllegalArgumentException if the value is not a packed company number
+     */
+    public static CompanyNumber fromLong(long packed) {
+        if (!isPacked(packed)) {
+            throw new IllegalArgumentException("Not a packed company number: " + packed);
+        }
+        return new CompanyNumber(packed);
+    }
+
+    /**
+     * Checks whether input is a valid company number once normalized.
+     *
+     * @param companyNumber the company number, may be null
+     * @return true if the input is valid
+     */
+    public static boolean isValid(CharSequence companyNumber) {
+        return pack(companyNumber) != INVALID;
+    }
+
+    /**
+     * Normalizes, validates and packs a company number without allocating.
+     *
+     * @param companyNumber the company number, may be null
+     * @return the packed company number, or {@link #INVALID} if the input is null or not
+     *         a valid company number
+     */
+    public static long pack(CharSequence companyNumber) {
+        if (companyNumber == null) {
+            return INVALID;
+        }
+        int start = 0;
+        int end = companyNumber.length();
+        while (start < end && Character.isWhitespace(companyNumber.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(companyNumber.charAt(end - 1))) {
+            end--;
+        }
+
+        long prefix = 0;
+        int prefixLength = 0;
+        long digits = 0;
+        int digitCount = 0;
+        for (int i = start; i < end; i++) {
+            char c = companyNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = (digits << 8) | c;
+                digitCount++;
+            } else if (digitCount == 0 && prefixLength < MAX_PREFIX_LENGTH
+                    && ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+                prefix = (prefix << 8) | (c & ~0x20);
+                prefixLength++;
+            } else {
+                return INVALID;
+            }
+            if (prefixLength + digitCount > LENGTH) {
+                return INVALID;
+            }
+        }
+        if (digitCount == 0) {
+            return INVALID;
+        }
+
+        long packed = prefix;
+        for (int i = prefixLength + digitCount; i < LENGTH; i++) {
+            packed = (packed << 8) | '0';
+        }
+        for (int shift = 8 * (digitCount - 1); shift >= 0; shift -= 8) {
+            packed = (packed << 8) | ((digits >>> shift) & 0xFF);
+        }
+        return packed;
+    }
+
+    /**
+     * Normalizes a company number, returning the input itself when it is already in
+     * normalized form so the common case allocates nothing.
+     *
+     * @param companyNumber the company number, may be null
+     * @return the eight-character company number, or null if the input is null or not a
+     *         valid company number
+     */
+    public static String normalize(String companyNumber) {
+        long packed = pack(companyNumber);
+        if (packed == INVALID) {
+            return null;
+        }
+        return isNormalized(companyNumber, packed) ? companyNumber : unpack(packed);
+    }
+
+    /**
+     * Returns the normalized text of a packed company number.
+     *
+     * @param packed a value returned by {@link #pack(CharSequence)}
+     * @return the eight-character company number
+     */
+    public static String unpack(long packed) {
+        byte[] ascii = new byte[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            ascii[i] = (byte) packed;
+            packed >>>= 8;
+        }
+        return new String(ascii, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the packed form of this company number.
+     *
+     * @return the eight ASCII characters packed big-endian
+     */
+    public long toLong() {
+        return packed;
+    }
+
+    @Override
+    public int compareTo(CompanyNumber other) {
+        return Long.compare(packed, other.packed);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof CompanyNumber other && packed == other.packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    /**
+     * Returns the normalized company number.
+     *
+     * @return the eight-character company number
+     */
+    @Override
+    public String toString() {
+        return unpack(packed);
+    }
+
+    private static boolean isPacked(long packed) {
+        return packed != INVALID && pack(unpack(packed)) == packed;
+    }
+
+    private static boolean isNormalized(String companyNumber, long packed) {
+        if (companyNumber.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            if (companyNumber.charAt(i) != (char) ((packed >>> (8 * (LENGTH - 1 - i))) & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.companieshouse.client;
+
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Outcome of a conditional lookup made with the entity tag of a previously fetched profile.
+ *
+ * <p>Either the profile is unchanged, in which case no address is returned and the caller
+ * keeps using the copy it already holds, or it has changed and the result carries the new
+ * address together with its entity tag for the next revalidation.
+ *
+ * <p>Example usage:
+ * <pre>
+ * ConditionalAddressResult result = client.getRegisteredAddressIfModified("09370669", etag);
+ * if (result.isModified()) {
+ *     cached = result.getAddress();
+ *     etag = result.getEtag();
+ * }
+ * </pre>
+ *
+ * @see CompaniesHouseClient#getRegisteredAddressIfModified(String, String)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConditionalAddressResult {
+
+    /**
+     * The current registered office address, or null if the profile was not modified.
+     */
+    private final RegisteredAddressResponse address;
+
+    /**
+     * The entity tag of the current profile, or null if the API did not supply one.
+     */
+    private final String etag;
+
+    /**
+     * Creates a result for a profile that was fetched in full.
+     *
+     * @param address the registered office address (must not be null)
+     * @param etag    the entity tag of the profile, may be null
+     * @return a modified result
+     */
+    public static ConditionalAddressResult modified(RegisteredAddressResponse address, String etag) {
+        if (address == null) {
+            throw new IllegalArgumentException("Address must not be null for a modified result");
+        }
+        return new ConditionalAddressResult(address, etag);
+    }
+
+    /**
+     * Creates a result for a profile that still matches the entity tag it was checked against.
+     *
+     * @param etag the entity tag that was matched (must not be null)
+     * @return a not-modified result
+     */
+    public static ConditionalAddressResult notModified(String etag) {
+        if (etag == null) {
+            throw new IllegalArgumentException("Entity tag must not be null for a not-modified result");
+        }
+        return new ConditionalAddressResult(null, etag);
+    }
+
+    /**
+     * Indicates whether the profile changed since the entity tag was issued.
+     *
+     * @return true if a new address is present, false if the cached copy is still current
+     */
+    public boolean isModified() {
+        return address != null;
+    }
+}
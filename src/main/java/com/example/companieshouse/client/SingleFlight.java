@@ -0,0 +1,81 @@
+package com.example.companieshouse.client;
+
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ *
+ * <p>The first caller for a key runs the supplied call; callers that arrive while it
+ * is still running wait for it and receive the same result, or the same exception
+ * instance if it failed. Once the call completes the key is released, so later callers
+ * trigger a fresh execution. Nothing is cached beyond the lifetime of the call.
+ *
+ * <p>Thread-safety: This class is thread-safe.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the call for a key, or joins a call for the same key that is already running.
+     *
+     * @param key  the key identifying equivalent calls
+     * @param call the call to run if none is in flight for the key
+     * @return the result of the shared call
+     * @throws RuntimeException the exception thrown by the shared call
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Returns the number of keys with a call currently in flight.
+     *
+     * @return number of in-flight calls
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompaniesHouseApiException("Interrupted while waiting for in-flight lookup", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompaniesHouseApiException("In-flight lookup failed", cause);
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.dto.response.RegisteredAddress;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-process cache of registered office addresses.
+ *
+ * <p>Entries expire after a fixed time-to-live and the least recently used entries are
+ * evicted once either the entry count or the total weight exceeds its bound. Weight is
+ * an estimate of the retained heap size of each address in bytes.
+ *
+ * <p>Entries are keyed by company numbers packed with
+ * {@link com.example.companieshouse.client.CompanyNumber#pack(CharSequence)} and held in
+ * a {@link LongLinkedHashMap}, so an entry carries no key String, map node or boxed
+ * timestamp.
+ *
+ * <p>An address may be cached with the entity tag of the profile it came from. Such an
+ * entry is kept after it expires, until it is evicted or replaced, so that it can be
+ * revalidated: {@link #expiredEtag(long)} returns the tag to send with
+ * {@code If-None-Match}, and {@link #renew(long, String)} restarts the time-to-live of the
+ * entry when the API reports it unchanged. Expired entries are never returned by
+ * {@link #get(long)}.
+ *
+ * <p>{@link #lookup(long)} additionally supports refreshing entries off the request path.
+ * An entry read within the refresh-ahead window before it expires is returned with
+ * {@link Freshness#REFRESH_DUE}, and an entry read within the stale window after it
+ * expires is still returned, with {@link Freshness#STALE}; in both cases the caller is
+ * expected to refresh it in the background. Entries are only discarded as expired once
+ * the stale window has passed too.
+ *
+ * <p>The contents can be saved to and restored from a file with {@link AddressCacheSnapshot},
+ * so that a new instance starts warm.
+ *
+ * <p>Entries hold immutable {@link RegisteredAddress} instances. A mutable
+ * {@link RegisteredAddressResponse} is copied once when it is cached, and
+ * {@link #get}, {@link #renew} and {@link CachedAddress#address()} hand out a fresh mutable
+ * copy, so callers can never modify a cached entry. Callers that can work with the
+ * immutable type read {@link CachedAddress#sharedAddress()} instead, which returns the
+ * cached instance itself and allocates nothing per hit.
+ *
+ * <p>Thread-safety: This class is thread-safe. All structural access is guarded by a
+ * {@link ReentrantLock} rather than {@code synchronized} so virtual threads waiting on
+ * the cache do not pin their carrier thread.
+ */
+public class AddressCache {
+
+    /**
+     * Estimated fixed cost of an entry: map array and table slots, entry record and
+     * address object headers.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    /**
+     * Estimated fixed cost of a String instance excluding its characters.
+     */
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private final int maxEntries;
+
+    private final long maxWeight;
+
+    private final long ttlMillis;
+
+    private final long refreshAheadMillis;
+
+    private final long staleMillis;
+
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongLinkedHashMap<Entry> entries = new LongLinkedHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private long totalWeight;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries maximum number of entries (must be positive)
+     * @param maxWeight  maximum total weight in estimated bytes (must be positive)
+     * @param ttlMillis  time-to-live of each entry in milliseconds (must be positive)
+     * @param clock      clock used to compute expiry
+     */
+    public AddressCache(int maxEntries, long maxWeight, long ttlMillis, Clock clock) {
+        this(maxEntries, maxWeight, ttlMillis, 0, 0, clock);
+    }
+
+    /**
+     * Creates a cache that supports refresh-ahead and stale-while-revalidate reads.
+     *
+     * @param maxEntries         maximum number of entries (must be positive)
+     * @param maxWeight          maximum total weight in estimated bytes (must be positive)
+     * @param ttlMillis          time-to-live of each entry in milliseconds (must be positive)
+     * @param refreshAheadMillis how long before expiry a read reports the entry as due for
+     *                           refresh, in milliseconds (zero to disable, less than the TTL)
+     * @param staleMillis        how long after expiry an entry may still be served while it
+     *                           is refreshed, in milliseconds (zero to disable)
+     * @param clock              clock used to compute expiry
+     */
+    public AddressCache(int maxEntries, long maxWeight, long ttlMillis, long refreshAheadMillis,
+                        long staleMillis, Clock clock) {
+        if (maxEntries <= 0 || maxWeight <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache bounds and TTL must be positive");
+        }
+        if (refreshAheadMillis < 0 || refreshAheadMillis >= ttlMillis || staleMillis < 0) {
+            throw new IllegalArgumentException(
+                "Refresh-ahead must be between zero and the TTL and the stale window must not be negative");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlMillis;
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.staleMillis = staleMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a copy of the cached address for a company, if present and not expired.
+     *
+     * <p>Expired entries are removed once the stale window has passed, unless they carry
+     * an entity tag, in which case they are kept for revalidation.
+     *
+     * @param companyNumber the packed company number
+     * @return a copy of the cached address, or null on a miss
+     */
+    public RegisteredAddressResponse get(long companyNumber) {
+        CachedAddress cached = read(companyNumber, false);
+        return cached != null ? cached.address() : null;
+    }
+
+    /**
+     * Returns the cached address for a company together with how fresh it is.
+     *
+     * <p>Unlike {@link #get(long)}, an entry is still returned during the stale window
+     * after it expires.
+     *
+     * @param companyNumber the packed company number
+     * @return the cached address, or null on a miss
+     */
+    public CachedAddress lookup(long companyNumber) {
+        return read(companyNumber, true);
+    }
+
+    /**
+     * Returns the entity tag of an expired entry that can be revalidated.
+     *
+     * @param companyNumber the packed company number
+     * @return the entity tag, or null if there is no expired entry with an entity tag
+     */
+    public String expiredEtag(long companyNumber) {
+        lock.lock();
+        try {
+            int index = entries.find(companyNumber);
+            if (index < 0 || entries.expiresAt(index) > clock.millis()) {
+                return null;
+            }
+            return entries.value(index).etag;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Restarts the time-to-live of an entry the API reported unchanged.
+     *
+     * @param companyNumber the packed company number
+     * @param etag          the entity tag that was revalidated
+     * @return the cached immutable address, or null if the entry was evicted or replaced
+     *         with a different entity tag in the meantime
+     */
+    public RegisteredAddress renew(long companyNumber, String etag) {
+        long expiresAtMillis = clock.millis() + ttlMillis;
+
+        lock.lock();
+        try {
+            int index = entries.find(companyNumber);
+            if (index < 0 || !etag.equals(entries.value(index).etag)) {
+                return null;
+            }
+            Entry entry = entries.value(index);
+            entries.put(companyNumber, entry, expiresAtMillis);
+            hits.increment();
+            return entry.address;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches a copy of an address, evicting least recently used entries as needed.
+     *
+     * <p>Addresses heavier than the whole cache weight bound are not cached, and any entry
+     * already cached for the company is removed so it cannot outlive the newer address.
+     *
+     * @param companyNumber the packed company number
+     * @param address       the address to cache (must not be null)
+     */
+    public void put(long companyNumber, RegisteredAddressResponse address) {
+        put(companyNumber, address, null);
+    }
+
+    /**
+     * Caches a copy of an address with the entity tag of its profile, evicting least
+     * recently used entries as needed.
+     *
+     * <p>Addresses heavier than the whole cache weight bound are not cached, and any entry
+     * already cached for the company is removed so it cannot outlive the newer address.
+     *
+     * @param companyNumber the packed company number
+     * @param address       the address to cache (must not be null)
+     * @param etag          the entity tag of the profile, or null if it cannot be revalidated
+     */
+    public void put(long companyNumber, RegisteredAddressResponse address, String etag) {
+        put(companyNumber, RegisteredAddress.from(address), etag);
+    }
+
+    /**
+     * Caches an immutable address with the entity tag of its profile, evicting least
+     * recently used entries as needed. The address is stored as given, without copying.
+     *
+     * <p>Addresses heavier than the whole cache weight bound are not cached, and any entry
+     * already cached for the company is removed so it cannot outlive the newer address.
+     *
+     * @param companyNumber the packed company number
+     * @param address       the address to cache (must not be null)
+     * @param etag          the entity tag of the profile, or null if it cannot be revalidated
+     */
+    public void put(long companyNumber, RegisteredAddress address, String etag) {
+        int weight = weigh(address) + weigh(etag);
+        if (weight > maxWeight) {
+            invalidate(companyNumber);
+            return;
+        }
+        Entry entry = new Entry(address, etag, weight);
+        long expiresAtMillis = clock.millis() + ttlMillis;
+
+        lock.lock();
+        try {
+            Entry previous = entries.put(companyNumber, entry, expiresAtMillis);
+            if (previous != null) {
+                totalWeight -= previous.weight;
+            }
+            totalWeight += weight;
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for a company, if present.
+     *
+     * @param companyNumber the packed company number
+     */
+    public void invalidate(long companyNumber) {
+        lock.lock();
+        try {
+            Entry removed = entries.remove(companyNumber);
+            if (removed != null) {
+                totalWeight -= removed.weight;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries. Counters are not reset.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the entries, least recently used first, for writing a snapshot.
+     *
+     * <p>The addresses are the cache's own immutable instances rather than copies.
+     *
+     * @return the entries, including expired entries not yet removed
+     */
+    List<SnapshotEntry> snapshotEntries() {
+        lock.lock();
+        try {
+            List<SnapshotEntry> snapshot = new ArrayList<>(entries.size());
+            for (int index = entries.eldest(); index >= 0; index = entries.newer(index)) {
+                Entry entry = entries.value(index);
+                snapshot.add(new SnapshotEntry(entries.key(index), entry.address, entry.etag,
+                    entries.expiresAt(index) - ttlMillis));
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an entry read from a snapshot as the most recently used, with its time-to-live
+     * counted from when it was fetched.
+     *
+     * <p>The immutable address is stored as given. An entry is not restored if
+     * the company is already cached, since the cached entry is newer, or if it has expired
+     * beyond the stale window and has no entity tag to revalidate it with.
+     *
+     * @param entry the entry to restore
+     * @return true if the entry was added
+     */
+    boolean restore(SnapshotEntry entry) {
+        long expiresAtMillis = entry.fetchedAt() + ttlMillis;
+        if (entry.etag() == null && expiresAtMillis + staleMillis <= clock.millis()) {
+            return false;
+        }
+        int weight = weigh(entry.address()) + weigh(entry.etag());
+        if (weight > maxWeight) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (entries.find(entry.companyNumber()) >= 0) {
+                return false;
+            }
+            entries.put(entry.companyNumber(), new Entry(entry.address(), entry.etag(), weight), expiresAtMillis);
+            totalWeight += weight;
+            evictIfNeeded();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return current cache statistics
+     */
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                entries.size(), totalWeight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Estimates the retained heap size of an address in bytes.
+     *
+     * @param address the address to weigh
+     * @return estimated size in bytes
+     */
+    static int weigh(RegisteredAddress address) {
+        return ENTRY_OVERHEAD_BYTES
+            + weigh(address.addressLine1())
+            + weigh(address.addressLine2())
+            + weigh(address.locality())
+            + weigh(address.postalCode())
+            + weigh(address.country())
+            + weigh(address.region())
+            + weigh(address.premises())
+            + weigh(address.careOf())
+            + weigh(address.poBox());
+    }
+
+    private static int weigh(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + value.length();
+    }
+
+    private CachedAddress read(long companyNumber, boolean allowStale) {
+        lock.lock();
+        try {
+            int index = entries.find(companyNumber);
+            if (index < 0) {
+                misses.increment();
+                return null;
+            }
+            Entry entry = entries.value(index);
+            long remaining = entries.expiresAt(index) - clock.millis();
+            Freshness freshness;
+            if (remaining > 0) {
+                freshness = remaining <= refreshAheadMillis ? Freshness.REFRESH_DUE : Freshness.FRESH;
+            } else if (-remaining < staleMillis) {
+                if (!allowStale) {
+                    misses.increment();
+                    return null;
+                }
+                freshness = Freshness.STALE;
+            } else {
+                if (entry.etag == null) {
+                    entries.removeEntry(index);
+                    totalWeight -= entry.weight;
+                    expirations.increment();
+                }
+                misses.increment();
+                return null;
+            }
+            entries.touch(index);
+            hits.increment();
+            return new CachedAddress(entry.address, entry.etag, freshness);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIfNeeded() {
+        while ((entries.size() > maxEntries || totalWeight > maxWeight) && entries.size() > 0) {
+            Entry evicted = entries.removeEntry(entries.eldest());
+            totalWeight -= evicted.weight;
+            evictions.increment();
+        }
+    }
+
+    private record Entry(RegisteredAddress address, String etag, int weight) {
+    }
+
+    /**
+     * A cache entry as saved in a snapshot.
+     *
+     * @param companyNumber the packed company number
+     * @param address       the cached address
+     * @param etag          the entity tag cached with the address, or null
+     * @param fetchedAt     epoch millis at which the address was fetched or last revalidated
+     */
+    record SnapshotEntry(long companyNumber, RegisteredAddress address, String etag, long fetchedAt) {
+    }
+
+    /**
+     * How fresh a cached address is when it is read.
+     */
+    public enum Freshness {
+
+        /**
+         * Within its time-to-live and outside the refresh-ahead window.
+         */
+        FRESH,
+
+        /**
+         * Within its time-to-live but close enough to expiry to be refreshed ahead of it.
+         */
+        REFRESH_DUE,
+
+        /**
+         * Expired, but within the stale window in which it may still be served.
+         */
+        STALE
+    }
+
+    /**
+     * A cached address read with {@link #lookup(long)}.
+     *
+     * @param sharedAddress the cached address instance, which is immutable and may be
+     *                      shared freely
+     * @param etag          the entity tag cached with the address, or null
+     * @param freshness     how fresh the entry was when it was read
+     */
+    public record CachedAddress(RegisteredAddress sharedAddress, String etag, Freshness freshness) {
+
+        /**
+         * Returns a mutable copy of the cached address.
+         *
+         * @return a new copy of the cached address
+         */
+        public RegisteredAddressResponse address() {
+            return sharedAddress.toResponse();
+        }
+
+        /**
+         * Indicates whether the entry should be refreshed in the background.
+         *
+         * @return true if the entry is due for refresh or stale
+         */
+        public boolean isRefreshDue() {
+            return freshness != Freshness.FRESH;
+        }
+    }
+}
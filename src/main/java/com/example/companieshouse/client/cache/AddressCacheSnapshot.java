@@ -0,0 +1,203 @@
+package com.example.companieshouse.client.cache;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Saves the contents of an {@link AddressCache} to a file and loads them back, so that a
+ * new process or replica starts with a warm cache.
+ *
+ * <p>The file consists of a header followed by one record per entry, least recently used
+ * first, so loading a snapshot restores the recency order as well as the entries:
+ * <pre>
+ * header   magic (int), version (int), count (int), reserved (int)
+ * record   company number packed with CompanyNumber.pack (long),
+ *          epoch millis at which the address was fetched (long),
+ *          length of the rest of the record (varint),
+ *          the entity tag, encoded by AddressCodec.encodeString,
+ *          the address, encoded by AddressCodec.encode
+ * </pre>
+ *
+ * <p>All fixed-size numbers are big-endian. Both directions are a single sequential pass
+ * through a large buffer, and records are decoded straight from the read buffer.
+ *
+ * <p>A snapshot is written to a temporary file that is moved into place once complete,
+ * so readers never see a partly written snapshot. Entries keep the time-to-live they had
+ * left when the snapshot was taken; entries that have expired by the time it is loaded
+ * are skipped as described in {@link AddressCache}.
+ */
+public final class AddressCacheSnapshot {
+
+    /**
+     * File signature, "CHAS" in ASCII.
+     */
+    private static final int MAGIC = 0x43484153;
+
+    private static final int VERSION = 2;
+
+    private static final int HEADER_BYTES = 16;
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Size of the company number, fetch time and length varint of a record, which takes
+     * one to five bytes.
+     */
+    private static final int MIN_PREFIX_BYTES = 17;
+
+    private static final int MAX_PREFIX_BYTES = 21;
+
+    private static final int MAX_RECORD_BYTES = BUFFER_BYTES - MAX_PREFIX_BYTES;
+
+    private AddressCacheSnapshot() {
+    }
+
+    /**
+     * Writes the entries of a cache to a snapshot file, replacing any existing file.
+     *
+     * <p>Entries that encode to more than 1 MiB are left out.
+     *
+     * @param cache the cache to save
+     * @param file  the snapshot file
+     * @return number of entries written
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static int write(AddressCache cache, Path file) throws IOException {
+        List<AddressCache.SnapshotEntry> entries = cache.snapshotEntries();
+        Path target = file.toAbsolutePath();
+        Path partFile = target.resolveSibling(target.getFileName() + ".part");
+
+        int written = 0;
+        try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(0).putInt(0);
+
+            for (AddressCache.SnapshotEntry entry : entries) {
+                byte[] etag = AddressCodec.encodeString(entry.etag());
+                byte[] address = AddressCodec.encode(entry.address());
+                int length = etag.length + address.length;
+                if (length > MAX_RECORD_BYTES) {
+                    continue;
+                }
+                if (buffer.remaining() < MAX_PREFIX_BYTES + length) {
+                    writeFully(channel, buffer.flip());
+                    buffer.clear();
+                }
+                buffer.putLong(entry.companyNumber()).putLong(entry.fetchedAt());
+                AddressCodec.putVarint(buffer, length);
+                buffer.put(etag).put(address);
+                written++;
+            }
+            writeFully(channel, buffer.flip());
+
+            // The count is only known once oversized entries have been skipped
+            channel.write(ByteBuffer.allocate(4).putInt(0, written), 8);
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(partFile);
+            throw e;
+        }
+        Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    /**
+     * Adds the entries of a snapshot file to a cache.
+     *
+     * <p>Entries are added as described in {@link AddressCache}: companies already cached
+     * keep their entry, and entries expired beyond revalidation are skipped. If the file
+     * turns out to be damaged part-way through, the entries read before the damage remain
+     * in the cache.
+     *
+     * @param file  the snapshot file
+     * @param cache the cache to fill
+     * @return number of entries added
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static int load(Path file, AddressCache cache) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).limit(0);
+            if (!fill(channel, buffer, HEADER_BYTES) || buffer.getInt() != MAGIC) {
+                throw new IOException("Not an address cache snapshot: " + file);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported address cache snapshot version " + version + ": " + file);
+            }
+            int count = buffer.getInt();
+            buffer.getInt();
+
+            int loaded = 0;
+            for (int i = 0; i < count; i++) {
+                if (!fill(channel, buffer, MAX_PREFIX_BYTES) && buffer.remaining() < MIN_PREFIX_BYTES) {
+                    throw new EOFException("Truncated address cache snapshot: " + file);
+                }
+                long companyNumber = buffer.getLong();
+                long fetchedAt = buffer.getLong();
+                int length = varint(buffer, file);
+                if (length > MAX_RECORD_BYTES || !fill(channel, buffer, length)) {
+                    throw new EOFException("Truncated address cache snapshot: " + file);
+                }
+                ByteBuffer record = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+
+                AddressCache.SnapshotEntry entry;
+                try {
+                    String etag = AddressCodec.decodeString(record);
+                    entry = new AddressCache.SnapshotEntry(companyNumber, AddressCodec.decodeImmutable(record), etag,
+                        fetchedAt);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Damaged address cache snapshot: " + file, e);
+                }
+                if (cache.restore(entry)) {
+                    loaded++;
+                }
+            }
+            return loaded;
+        }
+    }
+
+    private static int varint(ByteBuffer buffer, Path file) throws IOException {
+        try {
+            return AddressCodec.getVarint(buffer);
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IOException("Damaged address cache snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * Ensures at least the given number of bytes remain in the buffer, compacting it and
+     * reading more from the channel as needed.
+     *
+     * @return false if the channel ends first
+     */
+    private static boolean fill(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.dto.response.RegisteredAddress;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import com.example.companieshouse.dto.response.StringInternPool;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of {@link RegisteredAddressResponse} and its immutable variant
+ * {@link RegisteredAddress}, which share one format, used wherever addresses
+ * are persisted: the {@link DiskAddressStore} segments and {@link AddressCacheSnapshot}
+ * files.
+ *
+ * <p>An encoded address is laid out as follows:
+ * <pre>
+ * presence  varint  bit i set when field i is non-null, in declaration order:
+ *                   address_line_1, address_line_2, locality, postal_code, country,
+ *                   region, premises, care_of, po_box
+ * fields    one entry per present field, in the same order
+ * </pre>
+ *
+ * <p>The locality, country and region fields are dictionary-coded: each is a single varint
+ * code, where an odd code is an index into a built-in dictionary of common values
+ * ({@code code >>> 1}) and an even code is the byte length of a literal value
+ * ({@code code >>> 1}) followed by its UTF-8 bytes. The other fields are a varint byte
+ * length followed by UTF-8 bytes. Varints are unsigned LEB128: seven bits per byte, least
+ * significant group first, high bit set on all but the last byte.
+ *
+ * <p>A typical UK address encodes to 40 to 60 bytes, against several hundred bytes of
+ * heap for the object and its nine strings, or its JSON form.
+ *
+ * <p>Decoding reads straight from a {@link ByteBuffer}: strings are built from the
+ * buffer's backing array without an intermediate copy, and dictionary-coded fields reuse
+ * one shared {@code String} instance per value, so decoding many addresses allocates
+ * nothing for their most repetitive fields. Literal values of those fields go through the
+ * shared {@link StringInternPool}, so they are shared with deserialized responses.
+ *
+ * <p>The dictionary is part of the persisted format: values may be appended to it but
+ * never removed or reordered.
+ *
+ * <p>Thread-safety: This class is stateless and thread-safe.
+ */
+public final class AddressCodec {
+
+    private static final int FIELD_COUNT = 9;
+
+    private static final int LOCALITY = 2;
+
+    private static final int COUNTRY = 4;
+
+    private static final int REGION = 5;
+
+    /**
+     * Common values of the locality, country and region fields. Append only.
+     */
+    private static final List<String> DICTIONARY = List.of(
+        "United Kingdom", "England", "Wales", "Scotland", "Northern Ireland", "England And Wales",
+        "Great Britain", "Ireland", "United States", "Jersey", "Guernsey", "Isle Of Man",
+        "London", "Greater London", "Greater Manchester", "West Midlands", "West Yorkshire",
+        "South Yorkshire", "Merseyside", "Tyne And Wear", "Kent", "Essex", "Surrey",
+        "Hertfordshire", "Lancashire", "Hampshire", "Berkshire", "Buckinghamshire", "Middlesex",
+        "Cheshire", "Devon", "Norfolk", "Suffolk", "Sussex", "East Sussex", "West Sussex",
+        "Nottinghamshire", "Leicestershire", "Staffordshire", "Derbyshire", "Oxfordshire",
+        "Birmingham", "Manchester", "Leeds", "Liverpool", "Sheffield", "Bristol", "Glasgow",
+        "Edinburgh", "Cardiff", "Belfast", "Nottingham", "Leicester", "Newcastle Upon Tyne",
+        "Coventry", "Reading", "Milton Keynes", "Brighton", "Southampton", "Croydon", "Cambridge",
+        "Oxford", "Aberdeen", "Swansea");
+
+    private static final Map<String, Integer> DICTIONARY_INDEX = new HashMap<>();
+
+    static {
+        for (int i = 0; i < DICTIONARY.size(); i++) {
+            DICTIONARY_INDEX.put(DICTIONARY.get(i), i);
+        }
+    }
+
+    private AddressCodec() {
+    }
+
+    /**
+     * Encodes an address.
+     *
+     * @param address the address to encode (must not be null)
+     * @return the encoded address
+     */
+    public static byte[] encode(RegisteredAddressResponse address) {
+        return encode(fields(address));
+    }
+
+    /**
+     * Encodes an immutable address.
+     *
+     * @param address the address to encode (must not be null)
+     * @return the encoded address
+     */
+    public static byte[] encode(RegisteredAddress address) {
+        return encode(fields(address));
+    }
+
+    /**
+     * Decodes an address starting at the buffer's position, and advances the position
+     * past it.
+     *
+     * @param source the buffer holding an encoded address
+     * @return the decoded address
+     * @throws IllegalArgumentException if the bytes are not a valid encoded address
+     */
+    public static RegisteredAddressResponse decode(ByteBuffer source) {
+        String[] fields = decodeFields(source);
+        return RegisteredAddressResponse.builder()
+            .addressLine1(fields[0])
+            .addressLine2(fields[1])
+            .locality(fields[2])
+            .postalCode(fields[3])
+            .country(fields[4])
+            .region(fields[5])
+            .premises(fields[6])
+            .careOf(fields[7])
+            .poBox(fields[8])
+            .build();
+    }
+
+    /**
+     * Decodes an immutable address starting at the buffer's position, and advances the
+     * position past it.
+     *
+     * @param source the buffer holding an encoded address
+     * @return the decoded address
+     * @throws IllegalArgumentException if the bytes are not a valid encoded address
+     */
+    public static RegisteredAddress decodeImmutable(ByteBuffer source) {
+        String[] fields = decodeFields(source);
+        return new RegisteredAddress(fields[0], fields[1], fields[2], fields[3], fields[4],
+            fields[5], fields[6], fields[7], fields[8]);
+    }
+
+    private static byte[] encode(String[] fields) {
+        int presence = 0;
+        int[] codes = new int[FIELD_COUNT];
+        byte[][] literals = new byte[FIELD_COUNT][];
+        int size = 0;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            String value = fields[i];
+            if (value == null) {
+                continue;
+            }
+            presence |= 1 << i;
+            Integer index = isDictionaryCoded(i) ? DICTIONARY_INDEX.get(value) : null;
+            if (index != null) {
+                codes[i] = index << 1 | 1;
+                size += varintSize(codes[i]);
+            } else {
+                literals[i] = value.getBytes(StandardCharsets.UTF_8);
+                codes[i] = isDictionaryCoded(i) ? literals[i].length << 1 : literals[i].length;
+                size += varintSize(codes[i]) + literals[i].length;
+            }
+        }
+
+        ByteBuffer target = ByteBuffer.allocate(varintSize(presence) + size);
+        putVarint(target, presence);
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if ((presence & 1 << i) != 0) {
+                putVarint(target, codes[i]);
+                if (literals[i] != null) {
+                    target.put(literals[i]);
+                }
+            }
+        }
+        return target.array();
+    }
+
+    /**
+     * Encodes a string that may be null, such as an entity tag, as a varint of its UTF-8
+     * byte length plus one (zero for null) followed by its bytes.
+     *
+     * @param value the string, may be null
+     * @return the encoded string
+     */
+    public static byte[] encodeString(String value) {
+        if (value == null) {
+            return new byte[] {0};
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer target = ByteBuffer.allocate(varintSize(bytes.length + 1) + bytes.length);
+        putVarint(target, bytes.length + 1);
+        return target.put(bytes).array();
+    }
+
+    /**
+     * Decodes a string written by {@link #encodeString(String)} starting at the buffer's
+     * position, and advances the position past it.
+     *
+     * @param source the buffer holding an encoded string
+     * @return the decoded string, or null
+     * @throws IllegalArgumentException if the bytes are not a valid encoded string
+     */
+    public static String decodeString(ByteBuffer source) {
+        try {
+            int length = getVarint(source);
+            return length == 0 ? null : getUtf8(source, length - 1);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated encoded string", e);
+        }
+    }
+
+    /**
+     * Writes an unsigned varint.
+     *
+     * @param target the buffer to write to
+     * @param value  a non-negative value
+     */
+    static void putVarint(ByteBuffer target, int value) {
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param source the buffer to read from
+     * @return the value
+     * @throws IllegalArgumentException if the varint is longer than five bytes or negative
+     * @throws BufferUnderflowException if the buffer ends within the varint
+     */
+    static int getVarint(ByteBuffer source) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = source.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid varint");
+    }
+
+    /**
+     * Returns the number of bytes of an unsigned varint.
+     *
+     * @param value a non-negative value
+     * @return encoded size in bytes, from 1 to 5
+     */
+    static int varintSize(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    private static String[] decodeFields(ByteBuffer source) {
+        try {
+            int presence = getVarint(source);
+            if (presence >>> FIELD_COUNT != 0) {
+                throw new IllegalArgumentException("Invalid encoded address");
+            }
+            String[] fields = new String[FIELD_COUNT];
+            for (int i = 0; i < FIELD_COUNT; i++) {
+                if ((presence & 1 << i) == 0) {
+                    continue;
+                }
+                int code = getVarint(source);
+                if (!isDictionaryCoded(i)) {
+                    fields[i] = getUtf8(source, code);
+                } else if ((code & 1) != 0) {
+                    fields[i] = dictionaryValue(code >>> 1);
+                } else {
+                    fields[i] = StringInternPool.shared().intern(getUtf8(source, code >>> 1));
+                }
+            }
+            return fields;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated encoded address", e);
+        }
+    }
+
+    private static boolean isDictionaryCoded(int field) {
+        return field == LOCALITY || field == COUNTRY || field == REGION;
+    }
+
+    private static String dictionaryValue(int index) {
+        if (index >= DICTIONARY.size()) {
+            throw new IllegalArgumentException("Unknown dictionary entry " + index);
+        }
+        return DICTIONARY.get(index);
+    }
+
+    private static String getUtf8(ByteBuffer source, int length) {
+        if (length > source.remaining()) {
+            throw new IllegalArgumentException("Truncated encoded address");
+        }
+        String value;
+        if (source.hasArray()) {
+            value = new String(source.array(), source.arrayOffset() + source.position(), length,
+                StandardCharsets.UTF_8);
+            source.position(source.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            source.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private static String[] fields(RegisteredAddressResponse address) {
+        return new String[] {
+            address.getAddressLine1(),
+            address.getAddressLine2(),
+            address.getLocality(),
+            address.getPostalCode(),
+            address.getCountry(),
+            address.getRegion(),
+            address.getPremises(),
+            address.getCareOf(),
+            address.getPoBox()
+        };
+    }
+
+    private static String[] fields(RegisteredAddress address) {
+        return new String[] {
+            address.addressLine1(),
+            address.addressLine2(),
+            address.locality(),
+            address.postalCode(),
+            address.country(),
+            address.region(),
+            address.premises(),
+            address.careOf(),
+            address.poBox()
+        };
+    }
+}
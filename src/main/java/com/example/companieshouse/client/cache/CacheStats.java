@@ -0,0 +1,53 @@
+package com.example.companieshouse.client.cache;
+
+import lombok.Value;
+
+/**
+ * Point-in-time snapshot of {@link AddressCache} counters.
+ *
+ * <p>Counters are cumulative since the cache was created. Size and weight reflect
+ * the cache contents at the moment the snapshot was taken.
+ */
+@Value
+public class CacheStats {
+
+    /**
+     * Number of lookups answered from the cache.
+     */
+    long hitCount;
+
+    /**
+     * Number of lookups that were not in the cache or had expired.
+     */
+    long missCount;
+
+    /**
+     * Number of entries evicted to stay within the entry or weight bounds.
+     */
+    long evictionCount;
+
+    /**
+     * Number of entries removed because their time-to-live had elapsed.
+     */
+    long expirationCount;
+
+    /**
+     * Current number of entries.
+     */
+    long size;
+
+    /**
+     * Current total weight of all entries, in estimated bytes.
+     */
+    long weight;
+
+    /**
+     * Returns the fraction of lookups answered from the cache.
+     *
+     * @return hit rate between 0.0 and 1.0, or 0.0 if there have been no lookups
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,437 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.client.AddressLookupResult;
+import com.example.companieshouse.client.BatchLookupExecutor;
+import com.example.companieshouse.client.CompaniesHouseClient;
+import com.example.companieshouse.client.CompanyNumber;
+import com.example.companieshouse.client.ConditionalAddressResult;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.dto.response.RegisteredAddress;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * {@link CompaniesHouseClient} decorator that answers repeated lookups locally.
+ *
+ * <p>Successful lookups are kept in an {@link AddressCache}; company numbers reported as
+ * not found are remembered for a shorter time in a {@link NegativeResultCache} and
+ * answered with a stackless {@link CompanyNotFoundException}. Either cache may be
+ * disabled by passing null. Other exceptions from the delegate are propagated unchanged
+ * and never cached. Batch lookups answer cache hits locally and send only the misses to
+ * the delegate as a single batch.
+ *
+ * <p>Both caches are keyed by the {@link CompanyNumber} packed from the normalized company
+ * number, so "sc1234", "SC001234" and " SC001234 " share an entry. Input that is not a
+ * valid company number bypasses the caches and goes straight to the delegate.
+ *
+ * <p>With entity tag revalidation enabled, single lookups go through the delegate's
+ * {@link CompaniesHouseClient#getRegisteredAddressIfModified(String, String)} and cache the
+ * entity tag with the address. Once such an entry expires, the next lookup revalidates it
+ * with {@code If-None-Match}; if the profile is unchanged the cached address is served
+ * again for another time-to-live instead of being fetched in full. Batch and asynchronous
+ * lookups are not revalidated, but an expired entry they replace keeps its entity tag so
+ * the next single lookup can still revalidate it.
+ *
+ * <p>When the address cache is configured with a refresh-ahead or stale window, hot
+ * entries are refreshed off the request path: a hit within the refresh-ahead window
+ * before expiry, or on an expired entry within the stale window, returns the cached
+ * address immediately and schedules a background refresh on the
+ * {@link BatchLookupExecutor}. At most one refresh per company is in flight. A refresh
+ * that finds the company gone removes the entry and records the miss; any other failure
+ * leaves the entry to be served until its stale window ends.
+ *
+ * <p>Cached addresses are held as immutable {@link RegisteredAddress} instances.
+ * {@link #getImmutableRegisteredAddress(String)} returns the cached instance itself on a
+ * hit; the methods returning the mutable {@link RegisteredAddressResponse} return a copy.
+ *
+ * <p>Wired by {@link com.example.companieshouse.config.CompaniesHouseConfig} when
+ * companies-house.api.cache.enabled or companies-house.api.negative-cache.enabled is true.
+ *
+ * <p>Thread-safety: This class is thread-safe provided the delegate is.
+ *
+ * @see AddressCache
+ * @see NegativeResultCache
+ */
+@Slf4j
+public class CachingCompaniesHouseClient implements CompaniesHouseClient {
+
+    private final CompaniesHouseClient delegate;
+
+    private final AddressCache cache;
+
+    private final NegativeResultCache negativeCache;
+
+    private final BatchLookupExecutor batchLookupExecutor;
+
+    /**
+     * Whether expired entries are revalidated with their entity tag instead of refetched.
+     */
+    private final boolean etagRevalidation;
+
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder backgroundRefreshes = new LongAdder();
+
+    /**
+     * Creates a caching client.
+     *
+     * @param delegate            client that performs the lookups the caches cannot answer
+     * @param cache               cache of found addresses, or null to disable it
+     * @param negativeCache       cache of company numbers not found, or null to disable it
+     * @param batchLookupExecutor executor for streamed lookups and background refreshes
+     * @param etagRevalidation    whether expired entries are revalidated with their entity
+     *                            tag instead of refetched
+     */
+    public CachingCompaniesHouseClient(CompaniesHouseClient delegate, AddressCache cache,
+                                       NegativeResultCache negativeCache, BatchLookupExecutor batchLookupExecutor,
+                                       boolean etagRevalidation) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.negativeCache = negativeCache;
+        this.batchLookupExecutor = batchLookupExecutor;
+        this.etagRevalidation = etagRevalidation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RegisteredAddressResponse getRegisteredAddress(String companyNumber) {
+        long key = cacheKey(companyNumber);
+        RegisteredAddress cached = cachedAddress(companyNumber, key);
+        if (cached != null) {
+            log.debug("Cache hit for company: {}", companyNumber);
+            return cached.toResponse();
+        }
+        return fetch(companyNumber, key).response();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A cache hit returns the cached instance without copying.
+     */
+    @Override
+    public RegisteredAddress getImmutableRegisteredAddress(String companyNumber) {
+        long key = cacheKey(companyNumber);
+        RegisteredAddress cached = cachedAddress(companyNumber, key);
+        if (cached != null) {
+            log.debug("Cache hit for company: {}", companyNumber);
+            return cached;
+        }
+        return fetch(companyNumber, key).cached();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Passed straight to the delegate; the caches are neither consulted nor updated.
+     */
+    @Override
+    public ConditionalAddressResult getRegisteredAddressIfModified(String companyNumber, String etag) {
+        return delegate.getRegisteredAddressIfModified(companyNumber, etag);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<RegisteredAddressResponse> getRegisteredAddressAsync(String companyNumber) {
+        long key = cacheKey(companyNumber);
+        RegisteredAddress cached = cachedAddress(companyNumber, key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.toResponse());
+        }
+        if (isKnownMissing(key)) {
+            return CompletableFuture.failedFuture(CompanyNotFoundException.withoutStackTrace(companyNumber));
+        }
+
+        return delegate.getRegisteredAddressAsync(companyNumber)
+            .whenComplete((address, failure) -> {
+                if (address != null) {
+                    cacheAddress(key, address);
+                } else if (unwrap(failure) instanceof CompanyNotFoundException) {
+                    recordMissing(key);
+                }
+            });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Cache hits are answered locally; the remaining company numbers are looked up
+     * through the delegate's batch method and their outcomes are cached.
+     */
+    @Override
+    public Map<String, AddressLookupResult> getRegisteredAddresses(Collection<String> companyNumbers) {
+        if (companyNumbers == null) {
+            throw new IllegalArgumentException("Company numbers must not be null");
+        }
+
+        Set<String> distinct = new LinkedHashSet<>(companyNumbers);
+        Map<String, AddressLookupResult> hits = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String companyNumber : distinct) {
+            long key = cacheKey(companyNumber);
+            RegisteredAddress cached = cachedAddress(companyNumber, key);
+            if (cached != null) {
+                hits.put(companyNumber, AddressLookupResult.success(companyNumber, cached.toResponse()));
+            } else if (isKnownMissing(key)) {
+                hits.put(companyNumber, AddressLookupResult.failure(
+                    companyNumber, CompanyNotFoundException.withoutStackTrace(companyNumber)));
+            } else {
+                misses.add(companyNumber);
+            }
+        }
+
+        Map<String, AddressLookupResult> fetched = misses.isEmpty()
+            ? Map.of()
+            : delegate.getRegisteredAddresses(misses);
+        fetched.values().forEach(result -> {
+            long key = cacheKey(result.getCompanyNumber());
+            if (result.isSuccess()) {
+                cacheAddress(key, result.getAddress());
+            } else if (result.getException() instanceof CompanyNotFoundException) {
+                recordMissing(key);
+            }
+        });
+
+        Map<String, AddressLookupResult> results = new LinkedHashMap<>();
+        for (String companyNumber : distinct) {
+            AddressLookupResult hit = hits.get(companyNumber);
+            results.put(companyNumber, hit != null ? hit : fetched.get(companyNumber));
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Each company number goes through {@link #getRegisteredAddress(String)}, so cache
+     * hits are answered locally and misses are fetched and cached.
+     */
+    @Override
+    public Stream<AddressLookupResult> streamRegisteredAddresses(Stream<String> companyNumbers) {
+        if (companyNumbers == null) {
+            throw new IllegalArgumentException("Company numbers must not be null");
+        }
+
+        return batchLookupExecutor.stream(companyNumbers, this::getRegisteredAddress);
+    }
+
+    /**
+     * Returns a snapshot of the address cache counters.
+     *
+     * @return current address cache statistics, or null if the address cache is disabled
+     */
+    public CacheStats getCacheStats() {
+        return cache != null ? cache.stats() : null;
+    }
+
+    /**
+     * Returns a snapshot of the negative result cache counters.
+     *
+     * @return current negative cache statistics, or null if the negative cache is disabled
+     */
+    public CacheStats getNegativeCacheStats() {
+        return negativeCache != null ? negativeCache.stats() : null;
+    }
+
+    /**
+     * Returns the number of background refreshes started for entries that were due for
+     * refresh or stale.
+     *
+     * @return background refresh count
+     */
+    public long getBackgroundRefreshCount() {
+        return backgroundRefreshes.sum();
+    }
+
+    /**
+     * Writes the contents of the address cache to a snapshot file.
+     *
+     * @param file the snapshot file, replaced if it exists
+     * @return number of addresses written
+     * @throws IOException if the snapshot cannot be written
+     * @throws IllegalStateException if the address cache is disabled
+     * @see AddressCacheSnapshot
+     */
+    public int exportSnapshot(Path file) throws IOException {
+        if (cache == null) {
+            throw new IllegalStateException("Address cache is disabled");
+        }
+        long start = System.nanoTime();
+        int written = AddressCacheSnapshot.write(cache, file);
+        log.info("Wrote {} cached addresses to snapshot {} in {} ms", written, file,
+            (System.nanoTime() - start) / 1_000_000);
+        return written;
+    }
+
+    /**
+     * Adds the addresses of a snapshot file to the address cache.
+     *
+     * @param file the snapshot file
+     * @return number of addresses added
+     * @throws IOException if the snapshot cannot be read
+     * @throws IllegalStateException if the address cache is disabled
+     * @see AddressCacheSnapshot
+     */
+    public int importSnapshot(Path file) throws IOException {
+        if (cache == null) {
+            throw new IllegalStateException("Address cache is disabled");
+        }
+        long start = System.nanoTime();
+        int loaded = AddressCacheSnapshot.load(file, cache);
+        log.info("Loaded {} cached addresses from snapshot {} in {} ms", loaded, file,
+            (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    /**
+     * Looks up an address that is not cached through the delegate and caches the outcome.
+     */
+    private Fetched fetch(String companyNumber, long key) {
+        if (isKnownMissing(key)) {
+            log.debug("Negative cache hit for company: {}", companyNumber);
+            throw CompanyNotFoundException.withoutStackTrace(companyNumber);
+        }
+
+        try {
+            if (etagRevalidation && cache != null && key != CompanyNumber.INVALID) {
+                return revalidate(companyNumber, key, cache.expiredEtag(key));
+            }
+            RegisteredAddressResponse address = delegate.getRegisteredAddress(companyNumber);
+            return new Fetched(address, cacheAddress(key, address));
+        } catch (CompanyNotFoundException e) {
+            recordMissing(key);
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches an address through the delegate's conditional lookup, revalidating the
+     * cached entry for the company if an entity tag is given, and caches it with its
+     * entity tag.
+     */
+    private Fetched revalidate(String companyNumber, long key, String etag) {
+        ConditionalAddressResult result = delegate.getRegisteredAddressIfModified(companyNumber, etag);
+        if (!result.isModified()) {
+            RegisteredAddress renewed = cache.renew(key, etag);
+            if (renewed != null) {
+                log.debug("Revalidated cached address for company: {}", companyNumber);
+                return new Fetched(null, renewed);
+            }
+            // Evicted while the request was in flight
+            result = delegate.getRegisteredAddressIfModified(companyNumber, null);
+        }
+
+        RegisteredAddress address = RegisteredAddress.from(result.getAddress());
+        cache.put(key, address, result.getEtag());
+        if (negativeCache != null) {
+            negativeCache.invalidate(key);
+        }
+        return new Fetched(result.getAddress(), address);
+    }
+
+    private static long cacheKey(String companyNumber) {
+        return CompanyNumber.pack(companyNumber);
+    }
+
+    private RegisteredAddress cachedAddress(String companyNumber, long key) {
+        if (cache == null || key == CompanyNumber.INVALID) {
+            return null;
+        }
+        AddressCache.CachedAddress cached = cache.lookup(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isRefreshDue()) {
+            refreshInBackground(companyNumber, key, cached.etag());
+        }
+        return cached.sharedAddress();
+    }
+
+    private void refreshInBackground(String companyNumber, long key, String etag) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        backgroundRefreshes.increment();
+        log.debug("Refreshing cached address in the background for company: {}", companyNumber);
+        batchLookupExecutor.supplyAsync(() -> refresh(companyNumber, key, etag))
+            .whenComplete((address, failure) -> {
+                refreshing.remove(key);
+                if (unwrap(failure) instanceof CompanyNotFoundException) {
+                    cache.invalidate(key);
+                    recordMissing(key);
+                } else if (failure != null) {
+                    log.debug("Background refresh failed for company {}: {}", companyNumber, failure.getMessage());
+                }
+            });
+    }
+
+    private RegisteredAddress refresh(String companyNumber, long key, String etag) {
+        if (etagRevalidation) {
+            return revalidate(companyNumber, key, etag).cached();
+        }
+        return cacheAddress(key, delegate.getRegisteredAddress(companyNumber));
+    }
+
+    private RegisteredAddress cacheAddress(long key, RegisteredAddressResponse address) {
+        RegisteredAddress immutable = RegisteredAddress.from(address);
+        if (key == CompanyNumber.INVALID) {
+            return immutable;
+        }
+        if (cache != null) {
+            // The tag of the entry being replaced still identifies the profile this address
+            // was read from if it is unchanged, so keep it for the next revalidation
+            cache.put(key, immutable, etagRevalidation ? cache.expiredEtag(key) : null);
+        }
+        if (negativeCache != null) {
+            negativeCache.invalidate(key);
+        }
+        return immutable;
+    }
+
+    private boolean isKnownMissing(long key) {
+        return negativeCache != null && key != CompanyNumber.INVALID && negativeCache.isKnownMissing(key);
+    }
+
+    private void recordMissing(long key) {
+        if (negativeCache != null && key != CompanyNumber.INVALID) {
+            negativeCache.recordMissing(key);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause()
+            : failure;
+    }
+
+    /**
+     * Outcome of a lookup on a miss: the response as the delegate returned it, or null if
+     * the cached entry was revalidated, and the immutable instance that was cached.
+     */
+    private record Fetched(RegisteredAddressResponse fetched, RegisteredAddress cached) {
+
+        RegisteredAddressResponse response() {
+            return fetched != null ? fetched : cached.toResponse();
+        }
+    }
+}
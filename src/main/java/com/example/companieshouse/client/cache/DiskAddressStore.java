@@ -0,0 +1,682 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Persistent store of registered office addresses in append-only segment files.
+ *
+ * <p>Every {@link #put} and {@link #invalidate} appends a record to the active segment in
+ * the store directory, and an in-memory index maps each company number to the position of
+ * its latest record, so a lookup costs a single positional read. On {@link #open} the
+ * segments are replayed in order to rebuild the index, so a restarted process can serve
+ * everything it had fetched before without calling the API again. A damaged or partly
+ * written record ends the replay of its segment; the tail of the last segment is
+ * truncated there.
+ *
+ * <p>Each segment starts with a header of a magic number (int) and a format version (int),
+ * followed by its records. Each record is laid out as follows, all numbers big-endian:
+ * <pre>
+ * crc      int   CRC-32C of everything after the length
+ * length   int   number of bytes after this field
+ * key      long  company number packed with CompanyNumber.pack
+ * fetched  long  epoch millis at which the address was fetched
+ * type     byte  1 for an address, 0 for a removal
+ * etag     (addresses only) the entity tag, encoded by AddressCodec.encodeString
+ * address  (addresses only) the address, encoded by AddressCodec.encode
+ * </pre>
+ *
+ * <p>Records that are replaced, removed, expired or evicted stay in their segment as dead
+ * bytes. A segment is sealed once it reaches the maximum segment size and a new one is
+ * started; when at least half of the bytes in sealed segments are dead, compaction copies
+ * the live records of every sealed segment into the active one and deletes the sealed
+ * segments, oldest first, so a crash part-way through never resurrects a removed entry.
+ *
+ * <p>The index is a {@link LongLinkedHashMap} bounded to a maximum number of entries, with
+ * the least recently used entries evicted first. Entries expire a fixed time after they
+ * were fetched; expiry is computed from the stored fetch time, so a changed TTL applies to
+ * records already on disk.
+ *
+ * <p>Records are not forced to disk on every write: the store is a cache, and losing the
+ * most recent writes in a crash only costs refetching them.
+ *
+ * <p>Thread-safety: This class is thread-safe. All access, including disk reads, is
+ * guarded by a {@link ReentrantLock} so virtual threads do not pin their carrier thread.
+ */
+@Slf4j
+public final class DiskAddressStore implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * Segment signature, "CHDS" in ASCII.
+     */
+    private static final int MAGIC = 0x43484453;
+
+    private static final int VERSION = 1;
+
+    private static final int SEGMENT_HEADER_BYTES = 8;
+
+    private static final int RECORD_HEADER_BYTES = 8;
+
+    private static final int BODY_FIXED_BYTES = 17;
+
+    private static final byte TYPE_REMOVAL = 0;
+
+    private static final byte TYPE_ADDRESS = 1;
+
+    private static final int READ_BUFFER_BYTES = 1 << 20;
+
+    private static final int MAX_BODY_BYTES = READ_BUFFER_BYTES - RECORD_HEADER_BYTES;
+
+    private final Path directory;
+
+    private final int maxEntries;
+
+    private final long ttlMillis;
+
+    private final long maxSegmentBytes;
+
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongLinkedHashMap<Location> index = new LongLinkedHashMap<>();
+
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+
+    private Segment active;
+
+    private boolean compacting;
+
+    private boolean closed;
+
+    private DiskAddressStore(Path directory, int maxEntries, long ttlMillis, long maxSegmentBytes, Clock clock) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.clock = clock;
+    }
+
+    /**
+     * Opens the store in a directory, creating it if needed, and rebuilds the index from
+     * the segments already there.
+     *
+     * @param directory       the store directory
+     * @param maxEntries      maximum number of stored addresses (must be positive)
+     * @param ttlMillis       how long a stored address stays valid after it was fetched,
+     *                        in milliseconds (must be positive)
+     * @param maxSegmentBytes size at which a segment is sealed, in bytes (must be at
+     *                        least 1 MiB and at most 2 GiB)
+     * @param clock           clock used to timestamp and expire addresses
+     * @return the opened store
+     * @throws IOException if the directory or a segment cannot be read
+     */
+    public static DiskAddressStore open(Path directory, int maxEntries, long ttlMillis, long maxSegmentBytes,
+                                        Clock clock) throws IOException {
+        if (maxEntries <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Disk cache bounds and TTL must be positive");
+        }
+        if (maxSegmentBytes < READ_BUFFER_BYTES || maxSegmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Disk cache segment size must be between 1 MiB and 2 GiB");
+        }
+        Files.createDirectories(directory);
+        DiskAddressStore store = new DiskAddressStore(directory, maxEntries, ttlMillis, maxSegmentBytes, clock);
+        try {
+            store.recover();
+        } catch (IOException | RuntimeException e) {
+            store.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Returns the stored address for a company, if present and not expired.
+     *
+     * @param companyNumber the packed company number
+     * @return the stored address, or null if there is none
+     * @throws IOException if the record cannot be read
+     */
+    public StoredAddress get(long companyNumber) throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            int entry = index.find(companyNumber);
+            if (entry < 0) {
+                return null;
+            }
+            Location location = index.value(entry);
+            if (index.expiresAt(entry) <= clock.millis()) {
+                markDead(index.removeEntry(entry));
+                return null;
+            }
+            index.touch(entry);
+
+            StoredAddress stored = read(location, companyNumber);
+            if (stored == null) {
+                log.warn("Discarding damaged disk cache record in {}", segments.get(location.segment()).path);
+                markDead(index.removeEntry(entry));
+            }
+            return stored;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores an address fetched now, replacing any stored address for the company.
+     *
+     * <p>Addresses that encode to more than 1 MiB are not stored.
+     *
+     * @param companyNumber the packed company number
+     * @param address       the address to store (must not be null)
+     * @param etag          the entity tag of the profile, or null
+     * @return true if the address was stored
+     * @throws IOException if the record cannot be written
+     */
+    public boolean put(long companyNumber, RegisteredAddressResponse address, String etag) throws IOException {
+        long fetchedAt = clock.millis();
+        ByteBuffer record = encode(companyNumber, fetchedAt, address, etag);
+        if (record == null) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            ensureOpen();
+            Location location = append(record);
+            Location previous = index.put(companyNumber, location, fetchedAt + ttlMillis);
+            if (previous != null) {
+                markDead(previous);
+            }
+            evictIfNeeded();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the stored address for a company, if present.
+     *
+     * @param companyNumber the packed company number
+     * @throws IOException if the removal cannot be recorded
+     */
+    public void invalidate(long companyNumber) throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            Location previous = index.remove(companyNumber);
+            if (previous != null) {
+                markDead(previous);
+                // A removal record only shadows older records, so it counts as dead at once
+                markDead(append(encode(companyNumber, clock.millis(), null, null)));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stored addresses, including expired ones not yet removed.
+     *
+     * @return entry count
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies the live records of every sealed segment into the active segment and deletes
+     * the sealed segments. Runs automatically when sealed segments are mostly dead bytes.
+     *
+     * @throws IOException if a segment cannot be read, written or deleted
+     */
+    public void compact() throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            List<Segment> sealed = new ArrayList<>(segments.headMap(active.id).values());
+            if (sealed.isEmpty()) {
+                return;
+            }
+            int firstTarget = active.id;
+            compacting = true;
+            long now = clock.millis();
+            for (Segment segment : sealed) {
+                SegmentReader reader = new SegmentReader(segment.channel, segment.size);
+                while (reader.next()) {
+                    int entry = index.find(reader.key);
+                    if (entry < 0 || !index.value(entry).isAt(segment.id, reader.offset)) {
+                        continue;
+                    }
+                    if (index.expiresAt(entry) <= now) {
+                        index.removeEntry(entry);
+                        continue;
+                    }
+                    index.setValue(entry, append(reader.record));
+                }
+            }
+            for (Segment segment : segments.tailMap(firstTarget).values()) {
+                segment.channel.force(false);
+            }
+            for (Segment segment : sealed) {
+                segment.channel.close();
+                Files.delete(segment.path);
+                segments.remove(segment.id);
+            }
+            log.debug("Compacted {} disk cache segments in {}", sealed.size(), directory);
+        } finally {
+            compacting = false;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the active segment and closes every segment file.
+     *
+     * @throws IOException if a segment cannot be flushed or closed
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (active != null) {
+                active.channel.force(false);
+            }
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of segment files.
+     *
+     * @return segment count
+     */
+    int segmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        for (Path file : files) {
+            int id = segmentId(file);
+            Segment segment = new Segment(id, file,
+                FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            segments.put(id, segment);
+            checkHeader(segment);
+        }
+
+        long now = clock.millis();
+        for (Segment segment : segments.values()) {
+            replay(segment, segment == segments.lastEntry().getValue(), now);
+        }
+        active = segments.isEmpty() ? createSegment(1) : segments.lastEntry().getValue();
+        log.info("Opened disk cache in {} with {} addresses in {} segments", directory, index.size(), segments.size());
+        compactIfNeeded();
+    }
+
+    private void replay(Segment segment, boolean last, long now) throws IOException {
+        long fileSize = segment.channel.size();
+        SegmentReader reader = new SegmentReader(segment.channel, fileSize);
+        while (reader.next()) {
+            long expiresAt = reader.fetchedAt + ttlMillis;
+            if (reader.type == TYPE_ADDRESS && expiresAt > now) {
+                Location previous = index.put(reader.key,
+                    new Location(segment.id, reader.offset, reader.length), expiresAt);
+                if (previous != null) {
+                    markDead(previous);
+                }
+                evictIfNeeded();
+            } else {
+                Location previous = index.remove(reader.key);
+                if (previous != null) {
+                    markDead(previous);
+                }
+                segment.deadBytes += reader.length;
+            }
+        }
+
+        long end = reader.end();
+        segment.size = fileSize;
+        if (end < fileSize) {
+            log.warn("Discarding {} unreadable bytes at offset {} of {}", fileSize - end, end, segment.path);
+            if (last) {
+                segment.channel.truncate(end);
+                segment.size = end;
+            } else {
+                segment.deadBytes += fileSize - end;
+            }
+        }
+    }
+
+    private StoredAddress read(Location location, long companyNumber) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(location.length());
+        readFully(segments.get(location.segment()).channel, record, location.offset());
+        record.flip();
+
+        int bodyLength = record.getInt(4);
+        if (bodyLength != location.length() - RECORD_HEADER_BYTES
+                || checksum(record.slice(RECORD_HEADER_BYTES, bodyLength)) != record.getInt(0)
+                || record.getLong(RECORD_HEADER_BYTES) != companyNumber) {
+            return null;
+        }
+
+        long fetchedAt = record.getLong(RECORD_HEADER_BYTES + 8);
+        record.position(RECORD_HEADER_BYTES + BODY_FIXED_BYTES);
+        try {
+            String etag = AddressCodec.decodeString(record);
+            return new StoredAddress(AddressCodec.decode(record), etag, fetchedAt);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a record; a null address encodes a removal.
+     *
+     * @return the record, or null if the address is too large to store
+     */
+    private static ByteBuffer encode(long companyNumber, long fetchedAt, RegisteredAddressResponse address,
+                                     String etag) {
+        byte[] encodedEtag = address == null ? new byte[0] : AddressCodec.encodeString(etag);
+        byte[] encodedAddress = address == null ? new byte[0] : AddressCodec.encode(address);
+        long bodyLength = (long) BODY_FIXED_BYTES + encodedEtag.length + encodedAddress.length;
+        if (bodyLength > MAX_BODY_BYTES) {
+            return null;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + (int) bodyLength);
+        record.position(RECORD_HEADER_BYTES);
+        record.putLong(companyNumber);
+        record.putLong(fetchedAt);
+        record.put(address == null ? TYPE_REMOVAL : TYPE_ADDRESS);
+        record.put(encodedEtag);
+        record.put(encodedAddress);
+        record.putInt(4, (int) bodyLength);
+        record.putInt(0, checksum(record.slice(RECORD_HEADER_BYTES, (int) bodyLength)));
+        return record.clear();
+    }
+
+    private Location append(ByteBuffer record) throws IOException {
+        if (active.size > SEGMENT_HEADER_BYTES && active.size + record.remaining() > maxSegmentBytes) {
+            roll();
+        }
+        int offset = (int) active.size;
+        int length = record.remaining();
+        ByteBuffer source = record.duplicate();
+        while (source.hasRemaining()) {
+            active.size += active.channel.write(source, active.size);
+        }
+        return new Location(active.id, offset, length);
+    }
+
+    private void roll() throws IOException {
+        active.channel.force(false);
+        active = createSegment(active.id + 1);
+        if (!compacting) {
+            compactIfNeeded();
+        }
+    }
+
+    private void compactIfNeeded() throws IOException {
+        long sealedBytes = 0;
+        long deadBytes = 0;
+        for (Segment segment : segments.headMap(active.id).values()) {
+            sealedBytes += segment.size;
+            deadBytes += segment.deadBytes;
+        }
+        if (sealedBytes > 0 && deadBytes * 2 >= sealedBytes) {
+            compact();
+        }
+    }
+
+    private Segment createSegment(int id) throws IOException {
+        Path file = directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        Segment segment = new Segment(id, file, FileChannel.open(file,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        segments.put(id, segment);
+        writeHeader(segment);
+        return segment;
+    }
+
+    private static void writeHeader(Segment segment) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            segment.size += segment.channel.write(header, segment.size);
+        }
+    }
+
+    private static void checkHeader(Segment segment) throws IOException {
+        if (segment.channel.size() < SEGMENT_HEADER_BYTES) {
+            // Left by a crash while the segment was being created
+            segment.channel.truncate(0);
+            writeHeader(segment);
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+        readFully(segment.channel, header, 0);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a disk cache segment: " + segment.path);
+        }
+        int version = header.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported disk cache segment version " + version + ": " + segment.path);
+        }
+    }
+
+    private void evictIfNeeded() {
+        while (index.size() > maxEntries) {
+            markDead(index.removeEntry(index.eldest()));
+        }
+    }
+
+    private void markDead(Location location) {
+        Segment segment = segments.get(location.segment());
+        if (segment != null) {
+            segment.deadBytes += location.length();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Disk address store is closed");
+        }
+    }
+
+    private static int checksum(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static int segmentId(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected file in disk cache directory: " + file, e);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position + target.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of disk cache segment");
+            }
+        }
+    }
+
+    /**
+     * An address read from the store.
+     *
+     * @param address   the registered office address
+     * @param etag      the entity tag stored with the address, or null
+     * @param fetchedAt epoch millis at which the address was fetched
+     */
+    public record StoredAddress(RegisteredAddressResponse address, String etag, long fetchedAt) {
+    }
+
+    /**
+     * Position of a record within the segments.
+     */
+    private record Location(int segment, int offset, int length) {
+
+        boolean isAt(int segmentId, int recordOffset) {
+            return segment == segmentId && offset == recordOffset;
+        }
+    }
+
+    /**
+     * A segment file with its size and the number of its bytes no longer referenced.
+     */
+    private static final class Segment {
+
+        private final int id;
+
+        private final Path path;
+
+        private final FileChannel channel;
+
+        private long size;
+
+        private long deadBytes;
+
+        private Segment(int id, Path path, FileChannel channel) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * Reads the intact records of a segment in order, through a large buffer so replay and
+     * compaction are sequential I/O.
+     */
+    private static final class SegmentReader {
+
+        private final FileChannel channel;
+
+        private final long size;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+
+        private long readPosition;
+
+        private int offset;
+
+        private int length;
+
+        private long key;
+
+        private long fetchedAt;
+
+        private byte type;
+
+        private ByteBuffer record;
+
+        private SegmentReader(FileChannel channel, long size) {
+            this.channel = channel;
+            this.size = size;
+            this.readPosition = SEGMENT_HEADER_BYTES;
+            buffer.limit(0);
+        }
+
+        /**
+         * Advances to the next record.
+         *
+         * @return false at the end of the segment or at the first damaged record
+         */
+        private boolean next() throws IOException {
+            offset = (int) end();
+            if (!fill(RECORD_HEADER_BYTES)) {
+                return false;
+            }
+            int start = buffer.position();
+            int checksum = buffer.getInt(start);
+            int bodyLength = buffer.getInt(start + 4);
+            if (bodyLength < BODY_FIXED_BYTES || bodyLength > MAX_BODY_BYTES
+                    || !fill(RECORD_HEADER_BYTES + bodyLength)) {
+                return false;
+            }
+            start = buffer.position();
+            if (checksum(buffer.slice(start + RECORD_HEADER_BYTES, bodyLength)) != checksum) {
+                return false;
+            }
+            length = RECORD_HEADER_BYTES + bodyLength;
+            record = buffer.slice(start, length);
+            key = buffer.getLong(start + RECORD_HEADER_BYTES);
+            fetchedAt = buffer.getLong(start + RECORD_HEADER_BYTES + 8);
+            type = buffer.get(start + RECORD_HEADER_BYTES + 16);
+            buffer.position(start + length);
+            return true;
+        }
+
+        /**
+         * Returns the offset just past the last record read.
+         */
+        private long end() {
+            return readPosition - buffer.remaining();
+        }
+
+        private boolean fill(int bytes) throws IOException {
+            while (buffer.remaining() < bytes) {
+                if (readPosition >= size) {
+                    return false;
+                }
+                buffer.compact();
+                if (buffer.remaining() > size - readPosition) {
+                    buffer.limit(buffer.position() + (int) (size - readPosition));
+                }
+                int read = channel.read(buffer, readPosition);
+                buffer.flip();
+                if (read <= 0) {
+                    return false;
+                }
+                readPosition += read;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.client.AddressLookupResult;
+import com.example.companieshouse.client.BatchLookupExecutor;
+import com.example.companieshouse.client.CompaniesHouseClient;
+import com.example.companieshouse.client.CompanyNumber;
+import com.example.companieshouse.client.ConditionalAddressResult;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * {@link CompaniesHouseClient} decorator that keeps fetched addresses in a
+ * {@link DiskAddressStore}, so they survive restarts.
+ *
+ * <p>Intended as a second-level cache behind {@link CachingCompaniesHouseClient}: the
+ * in-memory cache answers hot lookups, and this tier answers what it has evicted or what
+ * was fetched before the last restart. Addresses are stored with their entity tag when the
+ * delegate supplies one. {@link #getRegisteredAddressIfModified(String, String)} answers a
+ * caller without the stored entity tag from the store, so a cold in-memory cache costs no
+ * request, but passes a revalidation of the stored entity tag through to the delegate,
+ * since the caller then already holds this tier's copy and wants to know if it changed.
+ *
+ * <p>Only successful lookups are stored; failures from the delegate are propagated
+ * unchanged. The store is a cache, so a disk read or write that fails is logged and the
+ * lookup proceeds as a miss. Input that is not a valid company number bypasses the store
+ * and goes straight to the delegate.
+ *
+ * <p>Wired by {@link com.example.companieshouse.config.CompaniesHouseConfig} when
+ * companies-house.api.disk-cache.enabled is true.
+ *
+ * <p>Thread-safety: This class is thread-safe provided the delegate is.
+ *
+ * @see DiskAddressStore
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DiskCachingCompaniesHouseClient implements CompaniesHouseClient {
+
+    private final CompaniesHouseClient delegate;
+
+    private final DiskAddressStore store;
+
+    private final BatchLookupExecutor batchLookupExecutor;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RegisteredAddressResponse getRegisteredAddress(String companyNumber) {
+        long key = CompanyNumber.pack(companyNumber);
+        DiskAddressStore.StoredAddress stored = storedAddress(key);
+        if (stored != null) {
+            log.debug("Disk cache hit for company: {}", companyNumber);
+            return stored.address();
+        }
+
+        ConditionalAddressResult result = delegate.getRegisteredAddressIfModified(companyNumber, null);
+        storeAddress(key, result.getAddress(), result.getEtag());
+        return result.getAddress();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A stored address answers the lookup without a request unless the caller's entity
+     * tag is the stored one; that revalidation goes to the delegate, and the store is
+     * updated from its result.
+     */
+    @Override
+    public ConditionalAddressResult getRegisteredAddressIfModified(String companyNumber, String etag) {
+        long key = CompanyNumber.pack(companyNumber);
+        DiskAddressStore.StoredAddress stored = storedAddress(key);
+        if (stored != null && (etag == null || !etag.equals(stored.etag()))) {
+            log.debug("Disk cache hit for company: {}", companyNumber);
+            return ConditionalAddressResult.modified(stored.address(), stored.etag());
+        }
+
+        ConditionalAddressResult result = delegate.getRegisteredAddressIfModified(companyNumber, etag);
+        if (result.isModified()) {
+            storeAddress(key, result.getAddress(), result.getEtag());
+        } else if (stored != null) {
+            // The stored copy is confirmed current, so restart its time to live
+            storeAddress(key, stored.address(), etag);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<RegisteredAddressResponse> getRegisteredAddressAsync(String companyNumber) {
+        long key = CompanyNumber.pack(companyNumber);
+        DiskAddressStore.StoredAddress stored = storedAddress(key);
+        if (stored != null) {
+            return CompletableFuture.completedFuture(stored.address());
+        }
+
+        return delegate.getRegisteredAddressAsync(companyNumber)
+            .whenComplete((address, failure) -> {
+                if (address != null) {
+                    storeAddress(key, address, null);
+                }
+            });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Stored addresses are answered locally; the remaining company numbers are looked
+     * up through the delegate's batch method and the addresses found are stored.
+     */
+    @Override
+    public Map<String, AddressLookupResult> getRegisteredAddresses(Collection<String> companyNumbers) {
+        if (companyNumbers == null) {
+            throw new IllegalArgumentException("Company numbers must not be null");
+        }
+
+        Set<String> distinct = new LinkedHashSet<>(companyNumbers);
+        Map<String, AddressLookupResult> hits = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String companyNumber : distinct) {
+            DiskAddressStore.StoredAddress stored = storedAddress(CompanyNumber.pack(companyNumber));
+            if (stored != null) {
+                hits.put(companyNumber, AddressLookupResult.success(companyNumber, stored.address()));
+            } else {
+                misses.add(companyNumber);
+            }
+        }
+
+        Map<String, AddressLookupResult> fetched = misses.isEmpty()
+            ? Map.of()
+            : delegate.getRegisteredAddresses(misses);
+        fetched.values().forEach(result -> {
+            if (result.isSuccess()) {
+                storeAddress(CompanyNumber.pack(result.getCompanyNumber()), result.getAddress(), null);
+            }
+        });
+
+        Map<String, AddressLookupResult> results = new LinkedHashMap<>();
+        for (String companyNumber : distinct) {
+            AddressLookupResult hit = hits.get(companyNumber);
+            results.put(companyNumber, hit != null ? hit : fetched.get(companyNumber));
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Each company number goes through {@link #getRegisteredAddress(String)}, so stored
+     * addresses are answered locally and misses are fetched and stored.
+     */
+    @Override
+    public Stream<AddressLookupResult> streamRegisteredAddresses(Stream<String> companyNumbers) {
+        if (companyNumbers == null) {
+            throw new IllegalArgumentException("Company numbers must not be null");
+        }
+
+        return batchLookupExecutor.stream(companyNumbers, this::getRegisteredAddress);
+    }
+
+    private DiskAddressStore.StoredAddress storedAddress(long key) {
+        if (key == CompanyNumber.INVALID) {
+            return null;
+        }
+        try {
+            return store.get(key);
+        } catch (IOException e) {
+            log.warn("Disk cache read failed, treating as a miss: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeAddress(long key, RegisteredAddressResponse address, String etag) {
+        if (key == CompanyNumber.INVALID) {
+            return;
+        }
+        try {
+            store.put(key, address, etag);
+        } catch (IOException e) {
+            log.warn("Disk cache write failed: {}", e.getMessage());
+        }
+    }
+}
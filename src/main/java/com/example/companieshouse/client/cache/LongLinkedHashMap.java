@@ -0,0 +1,316 @@
+package com.example.companieshouse.client.cache;
+
+import java.util.Arrays;
+
+/**
+ * Access-ordered hash map from primitive {@code long} keys to values, with a primitive
+ * expiry timestamp per entry.
+ *
+ * <p>Used by the caches in place of {@code LinkedHashMap<String, ...>} with access
+ * order, so that a multi-million-entry cache holds no per-entry key String, map node or
+ * boxed timestamp. Entries live in parallel arrays (key, value, expiry and the
+ * previous/next links of the recency list) and are located through an open-addressing
+ * table of entry indexes with linear probing. Removing an entry shifts later probe
+ * slots back instead of leaving tombstones, and its entry index is reused by the next
+ * insertion.
+ *
+ * <p>Entries are addressed by index: {@link #find(long)} and {@link #eldest()} return an
+ * index, or -1 if there is none, which stays valid until that entry is removed.
+ *
+ * <p>Thread-safety: This class is not thread-safe; the caches guard it with their lock.
+ *
+ * @param <V> the value type
+ */
+final class LongLinkedHashMap<V> {
+
+    private static final int NONE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+
+    private long[] expiries = new long[INITIAL_CAPACITY];
+
+    private int[] before = new int[INITIAL_CAPACITY];
+
+    private int[] after = new int[INITIAL_CAPACITY];
+
+    /**
+     * Open-addressing table of entry index + 1; zero marks an empty slot.
+     */
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    private int tableShift = 64 - Integer.numberOfTrailingZeros(INITIAL_CAPACITY * 2);
+
+    private int head = NONE;
+
+    private int tail = NONE;
+
+    private int freeList = NONE;
+
+    private int allocated;
+
+    private int size;
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return entry count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the entry for a key without changing its recency.
+     *
+     * @param key the key
+     * @return the entry index, or -1 if the key is absent
+     */
+    int find(long key) {
+        int mask = table.length - 1;
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            int entry = table[slot] - 1;
+            if (entry == NONE || keys[entry] == key) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Returns the key of an entry.
+     *
+     * @param entry an entry index
+     * @return the key
+     */
+    long key(int entry) {
+        return keys[entry];
+    }
+
+    /**
+     * Returns the value of an entry.
+     *
+     * @param entry an entry index
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    V value(int entry) {
+        return (V) values[entry];
+    }
+
+    /**
+     * Replaces the value of an entry without changing its expiry or recency.
+     *
+     * @param entry an entry index
+     * @param value the new value
+     */
+    void setValue(int entry, V value) {
+        values[entry] = value;
+    }
+
+    /**
+     * Returns the expiry timestamp of an entry.
+     *
+     * @param entry an entry index
+     * @return the expiry timestamp
+     */
+    long expiresAt(int entry) {
+        return expiries[entry];
+    }
+
+    /**
+     * Marks an entry as the most recently used.
+     *
+     * @param entry an entry index
+     */
+    void touch(int entry) {
+        if (entry != tail) {
+            unlink(entry);
+            linkLast(entry);
+        }
+    }
+
+    /**
+     * Inserts or replaces the entry for a key and marks it as the most recently used.
+     *
+     * @param key       the key
+     * @param value     the value
+     * @param expiresAt the expiry timestamp
+     * @return the previous value, or null if the key was absent
+     */
+    V put(long key, V value, long expiresAt) {
+        int entry = find(key);
+        if (entry != NONE) {
+            V previous = value(entry);
+            values[entry] = value;
+            expiries[entry] = expiresAt;
+            touch(entry);
+            return previous;
+        }
+
+        if ((size + 1) * 2 > table.length) {
+            resizeTable(table.length * 2);
+        }
+        entry = allocate();
+        keys[entry] = key;
+        values[entry] = value;
+        expiries[entry] = expiresAt;
+        linkLast(entry);
+        insertIntoTable(entry);
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the entry for a key.
+     *
+     * @param key the key
+     * @return the removed value, or null if the key was absent
+     */
+    V remove(long key) {
+        int entry = find(key);
+        return entry == NONE ? null : removeEntry(entry);
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param entry an entry index
+     * @return the removed value
+     */
+    V removeEntry(int entry) {
+        V value = value(entry);
+        deleteFromTable(entry);
+        unlink(entry);
+        values[entry] = null;
+        after[entry] = freeList;
+        freeList = entry;
+        size--;
+        return value;
+    }
+
+    /**
+     * Returns the least recently used entry.
+     *
+     * @return the entry index, or -1 if the map is empty
+     */
+    int eldest() {
+        return head;
+    }
+
+    /**
+     * Returns the entry used next after another, for iterating from {@link #eldest()}
+     * to the most recently used entry.
+     *
+     * @param entry an entry index
+     * @return the next entry index, or -1 if the entry is the most recently used
+     */
+    int newer(int entry) {
+        return after[entry];
+    }
+
+    /**
+     * Removes all entries and releases the entry storage.
+     */
+    void clear() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        expiries = new long[INITIAL_CAPACITY];
+        before = new int[INITIAL_CAPACITY];
+        after = new int[INITIAL_CAPACITY];
+        table = new int[INITIAL_CAPACITY * 2];
+        tableShift = 64 - Integer.numberOfTrailingZeros(table.length);
+        head = NONE;
+        tail = NONE;
+        freeList = NONE;
+        allocated = 0;
+        size = 0;
+    }
+
+    private int slot(long key) {
+        // Fibonacci hashing: packed company numbers differ mostly in their low bytes
+        return (int) ((key * HASH_MULTIPLIER) >>> tableShift);
+    }
+
+    private int allocate() {
+        if (freeList != NONE) {
+            int entry = freeList;
+            freeList = after[entry];
+            return entry;
+        }
+        if (allocated == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            expiries = Arrays.copyOf(expiries, capacity);
+            before = Arrays.copyOf(before, capacity);
+            after = Arrays.copyOf(after, capacity);
+        }
+        return allocated++;
+    }
+
+    private void insertIntoTable(int entry) {
+        int mask = table.length - 1;
+        int slot = slot(keys[entry]);
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+    }
+
+    private void deleteFromTable(int entry) {
+        int mask = table.length - 1;
+        int hole = slot(keys[entry]);
+        while (table[hole] != entry + 1) {
+            hole = (hole + 1) & mask;
+        }
+
+        // Shift back later entries of the probe run that may no longer be reachable
+        for (int slot = (hole + 1) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int home = slot(keys[table[slot] - 1]);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                table[hole] = table[slot];
+                hole = slot;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    private void resizeTable(int length) {
+        table = new int[length];
+        tableShift = 64 - Integer.numberOfTrailingZeros(length);
+        for (int entry = head; entry != NONE; entry = after[entry]) {
+            insertIntoTable(entry);
+        }
+    }
+
+    private void linkLast(int entry) {
+        before[entry] = tail;
+        after[entry] = NONE;
+        if (tail == NONE) {
+            head = entry;
+        } else {
+            after[tail] = entry;
+        }
+        tail = entry;
+    }
+
+    private void unlink(int entry) {
+        int previous = before[entry];
+        int next = after[entry];
+        if (previous == NONE) {
+            head = next;
+        } else {
+            after[previous] = next;
+        }
+        if (next == NONE) {
+            tail = previous;
+        } else {
+            before[next] = previous;
+        }
+    }
+}
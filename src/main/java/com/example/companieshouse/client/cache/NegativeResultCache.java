@@ -0,0 +1,131 @@
+package com.example.companieshouse.client.cache;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of company numbers recently reported as not found.
+ *
+ * <p>Remembers each miss for a short time-to-live so repeated lookups of mistyped or
+ * purged company numbers can be answered without a network round trip. Once the
+ * capacity is reached the least recently used entries are evicted.
+ *
+ * <p>Entries are keyed by packed company numbers, as in {@link AddressCache}.
+ *
+ * <p>Thread-safety: This class is thread-safe. All structural access is guarded by a
+ * {@link ReentrantLock}, as in {@link AddressCache}.
+ */
+public class NegativeResultCache {
+
+    private final int maxEntries;
+
+    private final long ttlMillis;
+
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongLinkedHashMap<Boolean> missingCompanyNumbers = new LongLinkedHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * Creates a negative result cache.
+     *
+     * @param maxEntries maximum number of remembered company numbers (must be positive)
+     * @param ttlMillis  how long a miss is remembered, in milliseconds (must be positive)
+     * @param clock      clock used to compute expiry
+     */
+    public NegativeResultCache(int maxEntries, long ttlMillis, Clock clock) {
+        if (maxEntries <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Negative cache capacity and TTL must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Checks whether a company number was recently reported as not found.
+     *
+     * @param companyNumber the packed company number
+     * @return true if the company is known not to exist
+     */
+    public boolean isKnownMissing(long companyNumber) {
+        lock.lock();
+        try {
+            int index = missingCompanyNumbers.find(companyNumber);
+            if (index < 0) {
+                misses.increment();
+                return false;
+            }
+            if (missingCompanyNumbers.expiresAt(index) <= clock.millis()) {
+                missingCompanyNumbers.removeEntry(index);
+                expirations.increment();
+                misses.increment();
+                return false;
+            }
+            missingCompanyNumbers.touch(index);
+            hits.increment();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remembers that a company number was reported as not found.
+     *
+     * @param companyNumber the packed company number
+     */
+    public void recordMissing(long companyNumber) {
+        long expiresAtMillis = clock.millis() + ttlMillis;
+
+        lock.lock();
+        try {
+            missingCompanyNumbers.put(companyNumber, Boolean.TRUE, expiresAtMillis);
+            while (missingCompanyNumbers.size() > maxEntries) {
+                missingCompanyNumbers.removeEntry(missingCompanyNumbers.eldest());
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forgets a company number, for example after it has been found.
+     *
+     * @param companyNumber the packed company number
+     */
+    public void invalidate(long companyNumber) {
+        lock.lock();
+        try {
+            missingCompanyNumbers.remove(companyNumber);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache counters. Weight is always zero.
+     *
+     * @return current cache statistics
+     */
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                missingCompanyNumbers.size(), 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
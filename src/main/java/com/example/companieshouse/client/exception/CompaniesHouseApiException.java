@@ -14,6 +14,8 @@ package com.example.companieshouse.client.exception;
  * @see RateLimitExceededException
  * @see CompaniesHouseAuthenticationException
  * @see InvalidResponseException
+ * @see CompaniesHouseServerException
+ * @see InvalidCompanyNumberException
  */
 public class CompaniesHouseApiException extends RuntimeException {
 
@@ -35,4 +37,19 @@ public class CompaniesHouseApiException extends RuntimeException {
     public CompaniesHouseApiException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructs a new exception that optionally skips capturing a stack trace.
+     *
+     * <p>Intended for subclasses describing expected outcomes (such as a company
+     * that is known not to exist) where the stack trace carries no diagnostic value
+     * and capturing it would dominate the cost of the exception.
+     *
+     * @param message the detail message explaining the error
+     * @param cause the cause of the error (null if no cause available)
+     * @param writableStackTrace whether the stack trace should be captured
+     */
+    protected CompaniesHouseApiException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+    }
 }
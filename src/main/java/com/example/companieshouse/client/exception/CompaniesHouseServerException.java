@@ -0,0 +1,38 @@
+package com.example.companieshouse.client.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a request fails for a transient reason on the server side
+ * or in transit.
+ *
+ * <p>This exception is thrown when the API returns a 5xx HTTP status, or when the
+ * request could not be completed at all (connection refused, timeout, reset). Such
+ * failures are usually temporary, so the request may succeed if retried later.
+ *
+ * <p>The {@code statusCode} is the HTTP status returned by the API, or null when no
+ * response was received.
+ *
+ * @see CompaniesHouseApiException
+ * @see com.example.companieshouse.client.retry.RetryPolicy
+ */
+@Getter
+public class CompaniesHouseServerException extends CompaniesHouseApiException {
+
+    /**
+     * HTTP status code returned by the API, or null if no response was received.
+     */
+    private final Integer statusCode;
+
+    /**
+     * Constructs a new exception for a transient server or transport failure.
+     *
+     * @param message    the detail message explaining the error
+     * @param statusCode the HTTP status code (null if no response was received)
+     * @param cause      the underlying exception
+     */
+    public CompaniesHouseServerException(String message, Integer statusCode, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+    }
+}
@@ -37,4 +37,22 @@ public class CompanyNotFoundException extends CompaniesHouseApiException {
         super("Company not found: " + companyNumber);
         this.companyNumber = companyNumber;
     }
+
+    private CompanyNotFoundException(String companyNumber, boolean writableStackTrace) {
+        super("Company not found: " + companyNumber, null, writableStackTrace);
+        this.companyNumber = companyNumber;
+    }
+
+    /**
+     * Creates an exception without capturing a stack trace.
+     *
+     * <p>Used when the outcome is already known locally (for example from a negative
+     * cache), so reporting it costs no stack walk.
+     *
+     * @param companyNumber the UK company number that was not found (e.g., "09370669")
+     * @return a stackless exception for the company
+     */
+    public static CompanyNotFoundException withoutStackTrace(String companyNumber) {
+        return new CompanyNotFoundException(companyNumber, false);
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.companieshouse.client.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception describing a company number that is not valid, reported as the failure of
+ * one entry in a batch or streaming lookup.
+ *
+ * <p>Single lookups reject invalid input with {@link IllegalArgumentException}. Batch
+ * lookups instead report it per entry, so one malformed number in a large batch does not
+ * abort the others. No request is sent and no rate limit permit is taken for it.
+ *
+ * <p>The outcome is known locally, so the exception is created without a stack trace.
+ *
+ * @see com.example.companieshouse.client.AddressLookupResult
+ */
+@Getter
+public class InvalidCompanyNumberException extends CompaniesHouseApiException {
+
+    /**
+     * The company number as given, which may be null.
+     */
+    private final String companyNumber;
+
+    /**
+     * Constructs a new exception for an invalid company number.
+     *
+     * @param companyNumber the company number as given, may be null
+     */
+    public InvalidCompanyNumberException(String companyNumber) {
+        super("Company number is not valid: " + companyNumber, null, false);
+        this.companyNumber = companyNumber;
+    }
+}
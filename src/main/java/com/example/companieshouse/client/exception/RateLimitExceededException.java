@@ -41,6 +41,25 @@ public class RateLimitExceededException extends CompaniesHouseApiException {
         this.retryAfter = retryAfter;
     }
 
+    private RateLimitExceededException(String message, Long retryAfter, boolean writableStackTrace) {
+        super(formatMessage(message, retryAfter), null, writableStackTrace);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Creates an exception without capturing a stack trace.
+     *
+     * <p>Rate limiting is an expected outcome of bulk workloads; skipping the stack
+     * walk keeps reporting it cheap.
+     *
+     * @param message additional context about the rate limit error
+     * @param retryAfter number of seconds to wait before retrying (may be null)
+     * @return a stackless rate limit exception
+     */
+    public static RateLimitExceededException withoutStackTrace(String message, Long retryAfter) {
+        return new RateLimitExceededException(message, retryAfter, false);
+    }
+
     /**
      * Formats the exception message including retry-after information if available.
      *
@@ -0,0 +1,152 @@
+package com.example.companieshouse.client.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer instrumentation of Companies House API requests.
+ *
+ * <p>Registers, per endpoint:
+ * <ul>
+ *   <li>{@code companies.house.api.requests}: timer with a percentile histogram, tagged
+ *       by {@code endpoint} and {@code outcome} (see {@link RequestOutcome})</li>
+ *   <li>{@code companies.house.api.requests.in.flight}: gauge of requests currently
+ *       waiting for a response</li>
+ *   <li>{@code companies.house.api.response.size}: distribution summary of response
+ *       body sizes in bytes</li>
+ * </ul>
+ *
+ * <p>Meters for an endpoint are registered on first use and then reused, so recording a
+ * request does not look anything up in the registry. {@link #noop()} returns an instance
+ * that records nothing.
+ *
+ * <p>Thread-safety: This class is thread-safe.
+ */
+public class CompaniesHouseMetrics {
+
+    /**
+     * Endpoint tag of {@code GET /company/{companyNumber}}.
+     */
+    public static final String COMPANY_PROFILE = "company_profile";
+
+    private static final String REQUESTS = "companies.house.api.requests";
+
+    private static final String IN_FLIGHT = "companies.house.api.requests.in.flight";
+
+    private static final String RESPONSE_SIZE = "companies.house.api.response.size";
+
+    private static final CompaniesHouseMetrics NOOP = new CompaniesHouseMetrics(null);
+
+    private final MeterRegistry registry;
+
+    private final ConcurrentMap<String, EndpointMeters> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Creates instrumentation that registers its meters in a registry.
+     *
+     * @param registry the meter registry, or null to record nothing
+     */
+    public CompaniesHouseMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns instrumentation that records nothing.
+     *
+     * @return the no-op instance
+     */
+    public static CompaniesHouseMetrics noop() {
+        return NOOP;
+    }
+
+    /**
+     * Marks the start of a request.
+     *
+     * @param endpoint the endpoint tag
+     * @return a start time to pass to {@link #recordRequest}
+     */
+    public long startRequest(String endpoint) {
+        if (registry == null) {
+            return 0;
+        }
+        meters(endpoint).inFlight.incrementAndGet();
+        return clock().monotonicTime();
+    }
+
+    /**
+     * Records the completion of a request started with {@link #startRequest}.
+     *
+     * @param endpoint  the endpoint tag
+     * @param startTime the value returned by {@link #startRequest}
+     * @param outcome   how the request ended
+     */
+    public void recordRequest(String endpoint, long startTime, RequestOutcome outcome) {
+        if (registry == null) {
+            return;
+        }
+        EndpointMeters meters = meters(endpoint);
+        meters.inFlight.decrementAndGet();
+        meters.timers[outcome.ordinal()].record(clock().monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the size of a response body.
+     *
+     * @param endpoint the endpoint tag
+     * @param bytes    number of body bytes received
+     */
+    public void recordResponseSize(String endpoint, long bytes) {
+        if (registry == null) {
+            return;
+        }
+        meters(endpoint).responseSize.record(bytes);
+    }
+
+    private Clock clock() {
+        return registry.config().clock();
+    }
+
+    private EndpointMeters meters(String endpoint) {
+        EndpointMeters meters = endpoints.get(endpoint);
+        return meters != null ? meters : endpoints.computeIfAbsent(endpoint, this::register);
+    }
+
+    private EndpointMeters register(String endpoint) {
+        RequestOutcome[] outcomes = RequestOutcome.values();
+        Timer[] timers = new Timer[outcomes.length];
+        for (RequestOutcome outcome : outcomes) {
+            timers[outcome.ordinal()] = Timer.builder(REQUESTS)
+                .description("Companies House API requests")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome.tagValue())
+                .publishPercentileHistogram()
+                .register(registry);
+        }
+
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder(IN_FLIGHT, inFlight, AtomicInteger::get)
+            .description("Companies House API requests awaiting a response")
+            .tag("endpoint", endpoint)
+            .register(registry);
+
+        DistributionSummary responseSize = DistributionSummary.builder(RESPONSE_SIZE)
+            .description("Companies House API response body size")
+            .baseUnit("bytes")
+            .tag("endpoint", endpoint)
+            .publishPercentileHistogram()
+            .register(registry);
+
+        return new EndpointMeters(timers, inFlight, responseSize);
+    }
+
+    private record EndpointMeters(Timer[] timers, AtomicInteger inFlight, DistributionSummary responseSize) {
+    }
+}
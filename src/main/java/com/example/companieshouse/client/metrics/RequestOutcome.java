@@ -0,0 +1,118 @@
+package com.example.companieshouse.client.metrics;
+
+import com.example.companieshouse.client.exception.CompaniesHouseAuthenticationException;
+import com.example.companieshouse.client.exception.CompaniesHouseServerException;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.client.exception.InvalidResponseException;
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Outcome of a single Companies House API request, used as the {@code outcome} metric tag.
+ */
+public enum RequestOutcome {
+
+    /**
+     * The address was returned.
+     */
+    SUCCESS("success"),
+
+    /**
+     * The profile still matched the entity tag of a conditional request.
+     */
+    NOT_MODIFIED("not_modified"),
+
+    /**
+     * HTTP 404: the company does not exist.
+     */
+    NOT_FOUND("not_found"),
+
+    /**
+     * HTTP 429: the API rate limit was exceeded.
+     */
+    RATE_LIMITED("rate_limited"),
+
+    /**
+     * HTTP 401: the API key was rejected.
+     */
+    AUTH_FAILED("auth_failed"),
+
+    /**
+     * Any other 4xx response.
+     */
+    CLIENT_ERROR("client_error"),
+
+    /**
+     * HTTP 5xx response.
+     */
+    SERVER_ERROR("server_error"),
+
+    /**
+     * The connection or the response timed out.
+     */
+    TIMEOUT("timeout"),
+
+    /**
+     * Any other transport failure, such as a refused or reset connection.
+     */
+    IO_ERROR("io_error"),
+
+    /**
+     * The response could not be parsed or had no address.
+     */
+    PARSE_ERROR("parse_error");
+
+    private final String tagValue;
+
+    RequestOutcome(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    /**
+     * Returns the value used for the {@code outcome} tag.
+     *
+     * @return the tag value
+     */
+    public String tagValue() {
+        return tagValue;
+    }
+
+    /**
+     * Classifies the failure of a request.
+     *
+     * @param failure the exception thrown by the request
+     * @return the matching outcome
+     */
+    public static RequestOutcome of(Throwable failure) {
+        if (failure instanceof CompanyNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (failure instanceof RateLimitExceededException) {
+            return RATE_LIMITED;
+        }
+        if (failure instanceof CompaniesHouseAuthenticationException) {
+            return AUTH_FAILED;
+        }
+        if (failure instanceof InvalidResponseException) {
+            return PARSE_ERROR;
+        }
+        if (failure instanceof CompaniesHouseServerException serverException) {
+            if (serverException.getStatusCode() != null) {
+                return SERVER_ERROR;
+            }
+            return isTimeout(serverException) ? TIMEOUT : IO_ERROR;
+        }
+        return CLIENT_ERROR;
+    }
+
+    private static boolean isTimeout(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
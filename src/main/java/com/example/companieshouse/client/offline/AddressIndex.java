@@ -0,0 +1,184 @@
+package com.example.companieshouse.client.offline;
+
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import com.example.companieshouse.dto.response.StringInternPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only lookup of registered office addresses from a memory-mapped offline index file.
+ *
+ * <p>The file is written by {@link BasicCompanyDataImporter}; see
+ * {@link AddressIndexFormat} for its layout. Opening reads only the header and maps the
+ * key, offset and data regions, so it takes milliseconds whatever the file size and
+ * costs no heap; the operating system pages the file in as lookups touch it and can
+ * share the pages between processes. A lookup binary searches the mapped keys, comparing
+ * each as a {@code long} in place, and reads the record fields straight from the mapped
+ * data region. Bytes are copied only to build the strings of the returned address.
+ *
+ * <p>Each region is mapped separately, so the file as a whole may exceed 2 GiB. The
+ * mappings are released when the index is garbage collected; {@link #close()} does not
+ * unmap them. Re-importing does not disturb an open index, because the importer writes
+ * a new file and moves it into place rather than rewriting the mapped one.
+ *
+ * <p>Thread-safety: This class is thread-safe. Lookups only use absolute reads and never
+ * move the position of the shared buffers.
+ */
+public class AddressIndex implements Closeable {
+
+    private final int count;
+
+    private final ByteBuffer keys;
+
+    private final ByteBuffer offsets;
+
+    private final ByteBuffer data;
+
+    private AddressIndex(int count, ByteBuffer keys, ByteBuffer offsets, ByteBuffer data) {
+        this.count = count;
+        this.keys = keys;
+        this.offsets = offsets;
+        this.data = data;
+    }
+
+    /**
+     * Opens and maps an index file.
+     *
+     * @param indexFile the index file written by {@link BasicCompanyDataImporter}
+     * @return the opened index
+     * @throws IOException if the file cannot be read or is not an address index
+     */
+    public static AddressIndex open(Path indexFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(AddressIndexFormat.HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Not an address index: " + indexFile);
+                }
+            }
+            header.flip();
+            if (header.getInt() != AddressIndexFormat.MAGIC) {
+                throw new IOException("Not an address index: " + indexFile);
+            }
+            int version = header.getInt();
+            if (version != AddressIndexFormat.VERSION) {
+                throw new IOException("Unsupported address index version " + version + ": " + indexFile);
+            }
+            int count = header.getInt();
+            header.getInt();
+            long dataLength = header.getLong();
+            if (count < 0 || dataLength < 0 || dataLength > Integer.MAX_VALUE
+                    || AddressIndexFormat.dataOffset(count) + dataLength != channel.size()) {
+                throw new IOException("Corrupt address index: " + indexFile);
+            }
+
+            // Mappings stay valid after the channel is closed
+            return new AddressIndex(count,
+                map(channel, AddressIndexFormat.keysOffset(), (long) count * AddressIndexFormat.KEY_BYTES),
+                map(channel, AddressIndexFormat.offsetsOffset(count), (long) count * AddressIndexFormat.OFFSET_BYTES),
+                map(channel, AddressIndexFormat.dataOffset(count), dataLength));
+        }
+    }
+
+    /**
+     * Looks up the registered office address of a company.
+     *
+     * @param companyNumber the company number, trimmed and upper-cased before lookup
+     * @return a new address instance, or null if the company is not in the index
+     */
+    public RegisteredAddressResponse find(String companyNumber) {
+        long key = AddressIndexFormat.encodeKey(companyNumber);
+        if (key == AddressIndexFormat.NO_KEY) {
+            return null;
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = keys.getLong(mid * AddressIndexFormat.KEY_BYTES);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return decode(offsets.getInt(mid * AddressIndexFormat.OFFSET_BYTES));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of companies in the index.
+     *
+     * @return number of indexed companies
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Closes the index. The file is closed as soon as it is mapped and the mappings are
+     * released by the garbage collector, so this has no effect.
+     */
+    @Override
+    public void close() {
+    }
+
+    private RegisteredAddressResponse decode(int offset) {
+        RecordReader record = new RecordReader(offset);
+        StringInternPool pool = StringInternPool.shared();
+        return RegisteredAddressResponse.builder()
+            .addressLine1(record.nextField())
+            .addressLine2(record.nextField())
+            .locality(pool.intern(record.nextField()))
+            .postalCode(record.nextField())
+            .country(pool.intern(record.nextField()))
+            .region(pool.intern(record.nextField()))
+            .premises(record.nextField())
+            .careOf(record.nextField())
+            .poBox(record.nextField())
+            .build();
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Address index region exceeds 2 GiB");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+
+    /**
+     * Reads the fields of one record from the mapped data region, reusing one scratch
+     * array for the bytes of each field.
+     */
+    private final class RecordReader {
+
+        private int position;
+
+        private byte[] scratch;
+
+        RecordReader(int position) {
+            this.position = position;
+        }
+
+        String nextField() {
+            int length = Short.toUnsignedInt(data.getShort(position));
+            position += 2;
+            if (length == AddressIndexFormat.NULL_FIELD) {
+                return null;
+            }
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[Math.max(length, 64)];
+            }
+            data.get(position, scratch, 0, length);
+            position += length;
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
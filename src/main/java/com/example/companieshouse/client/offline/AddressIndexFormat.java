@@ -0,0 +1,95 @@
+package com.example.companieshouse.client.offline;
+
+import com.example.companieshouse.client.CompanyNumber;
+
+/**
+ * Layout of the offline address index file.
+ *
+ * <p>The file consists of a fixed-size header followed by three regions:
+ * <pre>
+ * header   magic (int), version (int), count (int), reserved (int),
+ *          data length (long), reserved (long)
+ * keys     count x 8 bytes: company numbers as ASCII, sorted ascending
+ * offsets  count x 4 bytes: start of each record, relative to the data region
+ * data     packed address records in no particular order
+ * </pre>
+ *
+ * <p>Each record holds the nine {@link com.example.companieshouse.dto.response.RegisteredAddressResponse}
+ * fields in declaration order, each written as an unsigned 16-bit byte length followed by
+ * its UTF-8 bytes; a length of {@link #NULL_FIELD} marks a null field. All numbers are
+ * big-endian.
+ *
+ * <p>Keys are 8-byte big-endian ASCII, the packed form of {@link CompanyNumber}, so a key
+ * read as a {@code long} orders the same way as the company number it encodes.
+ */
+final class AddressIndexFormat {
+
+    /**
+     * File signature, "CHAI" in ASCII.
+     */
+    static final int MAGIC = 0x43484149;
+
+    static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 32;
+
+    static final int KEY_BYTES = 8;
+
+    static final int OFFSET_BYTES = 4;
+
+    static final int FIELD_COUNT = 9;
+
+    static final int NULL_FIELD = 0xFFFF;
+
+    static final int MAX_FIELD_BYTES = NULL_FIELD - 1;
+
+    /**
+     * Marks a company number that cannot be stored in the index.
+     */
+    static final long NO_KEY = CompanyNumber.INVALID;
+
+    private AddressIndexFormat() {
+    }
+
+    /**
+     * Encodes a company number as an index key.
+     *
+     * <p>Keys are company numbers packed with {@link CompanyNumber#pack(CharSequence)},
+     * which normalizes the number first.
+     *
+     * @param companyNumber the company number, may be null
+     * @return the key, or {@link #NO_KEY} if the input is not a valid company number
+     */
+    static long encodeKey(String companyNumber) {
+        return CompanyNumber.pack(companyNumber);
+    }
+
+    /**
+     * Returns the byte offset of the first key.
+     *
+     * @return keys region offset
+     */
+    static long keysOffset() {
+        return HEADER_BYTES;
+    }
+
+    /**
+     * Returns the byte offset of the offset table.
+     *
+     * @param count number of entries
+     * @return offsets region offset
+     */
+    static long offsetsOffset(int count) {
+        return HEADER_BYTES + (long) count * KEY_BYTES;
+    }
+
+    /**
+     * Returns the byte offset of the data region.
+     *
+     * @param count number of entries
+     * @return data region offset
+     */
+    static long dataOffset(int count) {
+        return offsetsOffset(count) + (long) count * OFFSET_BYTES;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.companieshouse.client.offline;
+
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Builds an offline address index file.
+ *
+ * <p>Records are appended to a temporary data file as they are added, so only the
+ * 8-byte key and 4-byte offset of each company are held in memory. {@link #finish()}
+ * sorts the keys, keeps the last record added for each company number, writes the
+ * header, key and offset regions followed by the data region, and moves the result
+ * into place atomically. See {@link AddressIndexFormat} for the layout.
+ *
+ * <p>Thread-safety: This class is not thread-safe.
+ */
+class AddressIndexWriter implements Closeable {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final Path indexFile;
+
+    private final Path dataFile;
+
+    private final DataOutputStream data;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    private int[] offsets = new int[INITIAL_CAPACITY];
+
+    private int count;
+
+    private long dataLength;
+
+    private boolean finished;
+
+    /**
+     * Creates a writer for an index file. The file is only replaced by {@link #finish()}.
+     *
+     * @param indexFile the index file to write
+     * @throws IOException if the temporary data file cannot be created
+     */
+    AddressIndexWriter(Path indexFile) throws IOException {
+        this.indexFile = indexFile.toAbsolutePath();
+        this.dataFile = Files.createTempFile(this.indexFile.getParent(), "address-index-", ".data");
+        this.data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataFile), 1 << 16));
+    }
+
+    /**
+     * Adds the address of a company.
+     *
+     * @param companyNumber the company number
+     * @param address       the registered office address
+     * @return true if the address was added, false if the company number cannot be indexed
+     * @throws IllegalArgumentException if an address field is too long to index; nothing
+     *                                  is written for the company
+     * @throws IllegalStateException    if the record would take the data region past 2 GiB
+     * @throws IOException              if the record cannot be written
+     */
+    boolean add(String companyNumber, RegisteredAddressResponse address) throws IOException {
+        long key = AddressIndexFormat.encodeKey(companyNumber);
+        if (key == AddressIndexFormat.NO_KEY) {
+            return false;
+        }
+        byte[][] fields = {
+            encodeField(address.getAddressLine1()),
+            encodeField(address.getAddressLine2()),
+            encodeField(address.getLocality()),
+            encodeField(address.getPostalCode()),
+            encodeField(address.getCountry()),
+            encodeField(address.getRegion()),
+            encodeField(address.getPremises()),
+            encodeField(address.getCareOf()),
+            encodeField(address.getPoBox())
+        };
+        long recordBytes = 0;
+        for (byte[] field : fields) {
+            recordBytes += 2 + (field == null ? 0 : field.length);
+        }
+        if (dataLength + recordBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Address index data region exceeds 2 GiB");
+        }
+        if (count == keys.length) {
+            keys = Arrays.copyOf(keys, count * 2);
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        keys[count] = key;
+        offsets[count] = (int) dataLength;
+        count++;
+
+        for (byte[] field : fields) {
+            writeField(field);
+        }
+        dataLength += recordBytes;
+        return true;
+    }
+
+    /**
+     * Writes the index file.
+     *
+     * @return number of companies in the index
+     * @throws IOException if the index cannot be written
+     */
+    int finish() throws IOException {
+        data.close();
+        int entries = sortAndDeduplicate();
+
+        Path partFile = indexFile.resolveSibling(indexFile.getFileName() + ".part");
+        try (FileChannel source = FileChannel.open(dataFile, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(partFile, StandardOpenOption.CREATE,
+                 StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream header = new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(target), 1 << 16));
+            header.writeInt(AddressIndexFormat.MAGIC);
+            header.writeInt(AddressIndexFormat.VERSION);
+            header.writeInt(entries);
+            header.writeInt(0);
+            header.writeLong(dataLength);
+            header.writeLong(0);
+            for (int i = 0; i < entries; i++) {
+                header.writeLong(keys[i]);
+            }
+            for (int i = 0; i < entries; i++) {
+                header.writeInt(offsets[i]);
+            }
+            header.flush();
+
+            long position = 0;
+            while (position < dataLength) {
+                position += source.transferTo(position, dataLength - position, target);
+            }
+            target.force(true);
+        }
+        Files.move(partFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+        Files.deleteIfExists(dataFile);
+        return entries;
+    }
+
+    /**
+     * Discards the temporary data file. Has no effect on an index already written.
+     */
+    @Override
+    public void close() {
+        try {
+            data.close();
+            Files.deleteIfExists(dataFile);
+            if (!finished) {
+                Files.deleteIfExists(indexFile.resolveSibling(indexFile.getFileName() + ".part"));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete temporary index file", e);
+        }
+    }
+
+    private static byte[] encodeField(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > AddressIndexFormat.MAX_FIELD_BYTES) {
+            throw new IllegalArgumentException("Address field too long for index: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private void writeField(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            data.writeShort(AddressIndexFormat.NULL_FIELD);
+            return;
+        }
+        data.writeShort(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Sorts entries by key and, for duplicate keys, keeps only the entry added last.
+     *
+     * @return number of distinct keys
+     */
+    private int sortAndDeduplicate() {
+        heapSort();
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i + 1 < count && keys[i + 1] == keys[i]) {
+                continue;
+            }
+            keys[distinct] = keys[i];
+            offsets[distinct] = offsets[i];
+            distinct++;
+        }
+        return distinct;
+    }
+
+    /**
+     * Sorts the key and offset arrays together by key, then by offset. Offsets grow in
+     * insertion order, so equal keys end up in the order they were added.
+     */
+    private void heapSort() {
+        for (int i = count / 2 - 1; i >= 0; i--) {
+            siftDown(i, count);
+        }
+        for (int end = count - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+    }
+
+    private void siftDown(int root, int end) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= end) {
+                return;
+            }
+            if (child + 1 < end && greater(child + 1, child)) {
+                child++;
+            }
+            if (!greater(child, root)) {
+                return;
+            }
+            swap(root, child);
+            root = child;
+        }
+    }
+
+    private boolean greater(int a, int b) {
+        return keys[a] != keys[b] ? keys[a] > keys[b] : offsets[a] > offsets[b];
+    }
+
+    private void swap(int a, int b) {
+        long key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        int offset = offsets[a];
+        offsets[a] = offsets[b];
+        offsets[b] = offset;
+    }
+}
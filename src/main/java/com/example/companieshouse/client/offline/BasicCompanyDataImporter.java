@@ -0,0 +1,169 @@
+package com.example.companieshouse.client.offline;
+
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports the Companies House bulk "BasicCompanyData" CSV into an {@link AddressIndex} file.
+ *
+ * <p>Companies House publishes the snapshot monthly as a free download, either as one
+ * file or in parts; each part can be imported on its own or the parts can be
+ * concatenated first. Columns are located by their header names, so column order and
+ * the leading spaces the snapshot has in some header names do not matter. The
+ * registered office columns map to {@link RegisteredAddressResponse} as follows:
+ * <ul>
+ *   <li>RegAddress.CareOf to care_of</li>
+ *   <li>RegAddress.POBox to po_box</li>
+ *   <li>RegAddress.AddressLine1 to address_line_1</li>
+ *   <li>RegAddress.AddressLine2 to address_line_2</li>
+ *   <li>RegAddress.PostTown to locality</li>
+ *   <li>RegAddress.County to region</li>
+ *   <li>RegAddress.Country to country</li>
+ *   <li>RegAddress.PostCode to postal_code</li>
+ * </ul>
+ * The snapshot has no premises column, so premises is always null. Empty values are
+ * stored as null. Company numbers are normalized as by
+ * {@link com.example.companieshouse.client.CompanyNumber}; rows whose company number is
+ * not valid are skipped, as are rows with an address field longer than the index can hold.
+ * If a company number appears more than once the last row wins.
+ *
+ * <p>Thread-safety: This class is stateless and thread-safe.
+ */
+@Slf4j
+public class BasicCompanyDataImporter {
+
+    static final String COMPANY_NUMBER = "CompanyNumber";
+
+    private static final String[] ADDRESS_COLUMNS = {
+        "RegAddress.AddressLine1",
+        "RegAddress.AddressLine2",
+        "RegAddress.PostTown",
+        "RegAddress.PostCode",
+        "RegAddress.Country",
+        "RegAddress.County",
+        "RegAddress.CareOf",
+        "RegAddress.POBox"
+    };
+
+    /**
+     * Reads a BasicCompanyData CSV file and writes an address index.
+     *
+     * <p>An existing index file is replaced only once the new one has been written
+     * completely.
+     *
+     * @param csvFile   the bulk data CSV file
+     * @param indexFile the index file to write
+     * @return counts of the rows read, indexed and skipped
+     * @throws IOException if the CSV cannot be read, has no CompanyNumber column, or the
+     *                     index cannot be written
+     */
+    public ImportSummary importFile(Path csvFile, Path indexFile) throws IOException {
+        long rowsRead = 0;
+        long rowsSkipped = 0;
+        int companiesIndexed;
+
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(csvFile, StandardCharsets.UTF_8));
+             AddressIndexWriter writer = new AddressIndexWriter(indexFile)) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                throw new IOException("Empty bulk data file: " + csvFile);
+            }
+            Map<String, Integer> columns = columnIndexes(header);
+            Integer companyNumberColumn = columns.get(COMPANY_NUMBER);
+            if (companyNumberColumn == null) {
+                throw new IOException("No " + COMPANY_NUMBER + " column in bulk data file: " + csvFile);
+            }
+            int[] addressColumns = new int[ADDRESS_COLUMNS.length];
+            for (int i = 0; i < ADDRESS_COLUMNS.length; i++) {
+                addressColumns[i] = columns.getOrDefault(ADDRESS_COLUMNS[i], -1);
+            }
+
+            List<String> row;
+            while ((row = csv.readRecord()) != null) {
+                rowsRead++;
+                if (row.size() <= companyNumberColumn
+                        || !add(writer, row.get(companyNumberColumn), toAddress(row, addressColumns))) {
+                    rowsSkipped++;
+                }
+            }
+            companiesIndexed = writer.finish();
+        }
+
+        ImportSummary summary = new ImportSummary(rowsRead, companiesIndexed, rowsSkipped);
+        log.info("Imported {} into {}: {} rows, {} companies indexed, {} rows skipped",
+            csvFile, indexFile, rowsRead, companiesIndexed, rowsSkipped);
+        return summary;
+    }
+
+    private static boolean add(AddressIndexWriter writer, String companyNumber, RegisteredAddressResponse address)
+            throws IOException {
+        try {
+            return writer.add(companyNumber, address);
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping company {}: {}", companyNumber, e.getMessage());
+            return false;
+        }
+    }
+
+    private static Map<String, Integer> columnIndexes(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // Strip a byte order mark and the leading spaces some snapshot headers have
+            String name = header.get(i).replace("\uFEFF", "").strip();
+            columns.putIfAbsent(name, i);
+        }
+        return columns;
+    }
+
+    private static RegisteredAddressResponse toAddress(List<String> row, int[] columns) {
+        return RegisteredAddressResponse.builder()
+            .addressLine1(value(row, columns[0]))
+            .addressLine2(value(row, columns[1]))
+            .locality(value(row, columns[2]))
+            .postalCode(value(row, columns[3]))
+            .country(value(row, columns[4]))
+            .region(value(row, columns[5]))
+            .careOf(value(row, columns[6]))
+            .poBox(value(row, columns[7]))
+            .build();
+    }
+
+    private static String value(List<String> row, int column) {
+        if (column < 0 || column >= row.size()) {
+            return null;
+        }
+        String value = row.get(column).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Outcome of an import.
+     */
+    @Value
+    public static class ImportSummary {
+
+        /**
+         * Number of data rows read, excluding the header.
+         */
+        long rowsRead;
+
+        /**
+         * Number of distinct companies written to the index.
+         */
+        int companiesIndexed;
+
+        /**
+         * Number of rows skipped because their company number or address could not be indexed.
+         */
+        long rowsSkipped;
+    }
+}
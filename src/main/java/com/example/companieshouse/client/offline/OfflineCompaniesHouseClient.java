@@ -0,0 +1,211 @@
+package com.example.companieshouse.client.offline;
+
+import com.example.companieshouse.client.AddressLookupResult;
+import com.example.companieshouse.client.BatchLookupExecutor;
+import com.example.companieshouse.client.CompaniesHouseClient;
+import com.example.companieshouse.client.CompanyNumber;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.client.exception.InvalidCompanyNumberException;
+import com.example.companieshouse.dto.response.RegisteredAddress;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * {@link CompaniesHouseClient} that answers lookups from an offline {@link AddressIndex}
+ * built from the Companies House bulk data snapshot.
+ *
+ * <p>Companies in the index are answered locally without a network call or a rate
+ * limit permit. Company numbers not in the index, such as companies incorporated since
+ * the snapshot or dissolved companies, which the snapshot omits, are looked up through
+ * the fallback client. Without a fallback, misses throw a stackless
+ * {@link CompanyNotFoundException}.
+ *
+ * <p>Addresses come from the snapshot and may be up to a month old; use the fallback
+ * client directly when the current address is required.
+ *
+ * <p>Wired by {@link com.example.companieshouse.config.CompaniesHouseConfig} when
+ * companies-house.api.offline.enabled is true.
+ *
+ * <p>Thread-safety: This class is thread-safe provided the fallback client is.
+ *
+ * @see BasicCompanyDataImporter
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OfflineCompaniesHouseClient implements CompaniesHouseClient {
+
+    private final AddressIndex index;
+
+    private final CompaniesHouseClient fallback;
+
+    private final BatchLookupExecutor batchLookupExecutor;
+
+    private final LongAdder localHits = new LongAdder();
+
+    private final LongAdder localMisses = new LongAdder();
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Answered from the index when the company is in it, otherwise by the fallback.
+     */
+    @Override
+    public RegisteredAddressResponse getRegisteredAddress(String companyNumber) {
+        RegisteredAddressResponse local = findLocally(companyNumber);
+        if (local != null) {
+            return local;
+        }
+        if (fallback == null) {
+            validateCompanyNumber(companyNumber);
+            throw CompanyNotFoundException.withoutStackTrace(companyNumber);
+        }
+        return fallback.getRegisteredAddress(companyNumber);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Answered from the index when the company is in it, otherwise by the fallback's
+     * immutable lookup, so a caching fallback can return its cached instance.
+     */
+    @Override
+    public RegisteredAddress getImmutableRegisteredAddress(String companyNumber) {
+        RegisteredAddressResponse local = findLocally(companyNumber);
+        if (local != null) {
+            return RegisteredAddress.from(local);
+        }
+        if (fallback == null) {
+            validateCompanyNumber(companyNumber);
+            throw CompanyNotFoundException.withoutStackTrace(companyNumber);
+        }
+        return fallback.getImmutableRegisteredAddress(companyNumber);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Companies in the index complete immediately on the calling thread.
+     */
+    @Override
+    public CompletableFuture<RegisteredAddressResponse> getRegisteredAddressAsync(String companyNumber) {
+        RegisteredAddressResponse local = findLocally(companyNumber);
+        if (local != null) {
+            return CompletableFuture.completedFuture(local);
+        }
+        if (fallback == null) {
+            try {
+                validateCompanyNumber(companyNumber);
+            } catch (IllegalArgumentException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            return CompletableFuture.failedFuture(CompanyNotFoundException.withoutStackTrace(companyNumber));
+        }
+        return fallback.getRegisteredAddressAsync(companyNumber);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Companies in the index are answered locally; the remaining company numbers are
+     * looked up through the fallback's batch method.
+     */
+    @Override
+    public Map<String, AddressLookupResult> getRegisteredAddresses(Collection<String> companyNumbers) {
+        if (companyNumbers == null) {
+            throw new IllegalArgumentException("Company numbers must not be null");
+        }
+
+        Set<String> distinct = new LinkedHashSet<>(companyNumbers);
+        Map<String, AddressLookupResult> hits = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String companyNumber : distinct) {
+            RegisteredAddressResponse local = findLocally(companyNumber);
+            if (local != null) {
+                hits.put(companyNumber, AddressLookupResult.success(companyNumber, local));
+            } else if (fallback == null) {
+                hits.put(companyNumber, AddressLookupResult.failure(companyNumber,
+                    CompanyNumber.isValid(companyNumber)
+                        ? CompanyNotFoundException.withoutStackTrace(companyNumber)
+                        : new InvalidCompanyNumberException(companyNumber)));
+            } else {
+                misses.add(companyNumber);
+            }
+        }
+
+        Map<String, AddressLookupResult> fetched = misses.isEmpty()
+            ? Map.of()
+            : fallback.getRegisteredAddresses(misses);
+
+        Map<String, AddressLookupResult> results = new LinkedHashMap<>();
+        for (String companyNumber : distinct) {
+            AddressLookupResult hit = hits.get(companyNumber);
+            results.put(companyNumber, hit != null ? hit : fetched.get(companyNumber));
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Each company number goes through {@link #getRegisteredAddress(String)}.
+     */
+    @Override
+    public Stream<AddressLookupResult> streamRegisteredAddresses(Stream<String> companyNumbers) {
+        if (companyNumbers == null) {
+            throw new IllegalArgumentException("Company numbers must not be null");
+        }
+
+        return batchLookupExecutor.stream(companyNumbers, this::getRegisteredAddress);
+    }
+
+    /**
+     * Returns the number of lookups answered from the index.
+     *
+     * @return local hit count
+     */
+    public long getLocalHitCount() {
+        return localHits.sum();
+    }
+
+    /**
+     * Returns the number of lookups not found in the index.
+     *
+     * @return local miss count
+     */
+    public long getLocalMissCount() {
+        return localMisses.sum();
+    }
+
+    private RegisteredAddressResponse findLocally(String companyNumber) {
+        RegisteredAddressResponse address = index.find(companyNumber);
+        if (address != null) {
+            localHits.increment();
+            log.debug("Offline index hit for company: {}", companyNumber);
+        } else {
+            localMisses.increment();
+        }
+        return address;
+    }
+
+    private static void validateCompanyNumber(String companyNumber) {
+        if (companyNumber == null || companyNumber.isBlank()) {
+            throw new IllegalArgumentException("Company number must not be null or blank");
+        }
+        if (!CompanyNumber.isValid(companyNumber)) {
+            throw new IllegalArgumentException("Company number is not valid: " + companyNumber);
+        }
+    }
+}
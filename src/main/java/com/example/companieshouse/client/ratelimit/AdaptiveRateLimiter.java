@@ -0,0 +1,174 @@
+package com.example.companieshouse.client.ratelimit;
+
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link RequestRateLimiter} that paces requests using the rate limit state the API reports.
+ *
+ * <p>Each {@link RateLimitStatus} received from {@link RateLimitHeaderInterceptor} tells
+ * the limiter how many requests remain and when the window resets. The remaining
+ * requests are spread evenly over the time left in the window, so a long batch runs at
+ * the highest rate that still finishes inside the window instead of bursting into HTTP 429.
+ * When the API reports no remaining requests, callers wait for the window to reset.
+ *
+ * <p>Pacing is applied on top of a delegate limiter (normally the token bucket), which
+ * keeps bounding bursts before the first response has been seen or after a window has
+ * reset without a fresh status. The paced slot is reserved and waited for first and the
+ * delegate's permit taken only once it arrives, so a caller that is paced, or fails because
+ * the window is exhausted, does not hold a token-bucket permit other callers could use.
+ *
+ * <p>Thread-safety: This class is thread-safe. Slots are reserved with compare-and-set
+ * on a single timestamp and the latest status is published through a volatile field.
+ */
+@Slf4j
+public class AdaptiveRateLimiter implements RequestRateLimiter {
+
+    private final RequestRateLimiter delegate;
+
+    private final long maxWaitMillis;
+
+    private final Clock clock;
+
+    private final AtomicLong nextSlotMillis = new AtomicLong();
+
+    private volatile Pace pace = Pace.NONE;
+
+    /**
+     * Creates an adaptive limiter.
+     *
+     * @param delegate      limiter consulted once the paced slot arrives
+     * @param maxWaitMillis longest a caller waits for its slot before failing
+     * @param clock         wall clock, used to interpret reset timestamps
+     */
+    public AdaptiveRateLimiter(RequestRateLimiter delegate, long maxWaitMillis, Clock clock) {
+        this.delegate = delegate;
+        this.maxWaitMillis = maxWaitMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void acquire() {
+        long waitMillis = reserve();
+        if (waitMillis > 0) {
+            log.debug("Pacing request by {} ms to stay within the API rate limit window", waitMillis);
+            try {
+                TimeUnit.MILLISECONDS.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompaniesHouseApiException("Interrupted while pacing request", e);
+            }
+        }
+
+        delegate.acquire();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>While a reported window is active this is the lower of the delegate's budget and
+     * the number of requests the API reported as remaining.
+     */
+    @Override
+    public long availablePermits() {
+        Pace current = pace;
+        long delegatePermits = delegate.availablePermits();
+        if (!current.isActive(clock.millis())) {
+            return delegatePermits;
+        }
+        return Math.min(delegatePermits, current.remaining());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRateLimitStatus(RateLimitStatus status) {
+        delegate.onRateLimitStatus(status);
+
+        long now = clock.millis();
+        long resetAtMillis = TimeUnit.SECONDS.toMillis(status.getResetEpochSeconds());
+        if (resetAtMillis <= now) {
+            pace = Pace.NONE;
+            return;
+        }
+
+        long remaining = Math.max(0, status.getRemaining());
+        long intervalMillis = remaining == 0 ? 0 : (resetAtMillis - now) / remaining;
+        Pace previous = pace;
+        pace = new Pace(intervalMillis, resetAtMillis, remaining);
+        if (previous.resetAtMillis() != resetAtMillis) {
+            // A new window starts: slots reserved under the old window no longer apply
+            nextSlotMillis.set(now);
+        }
+    }
+
+    /**
+     * Returns the current spacing between requests derived from the last reported status.
+     *
+     * @return pacing interval in milliseconds, or zero if requests are not being paced
+     */
+    public long getPaceIntervalMillis() {
+        Pace current = pace;
+        return current.isActive(clock.millis()) ? current.intervalMillis() : 0;
+    }
+
+    /**
+     * Reserves the caller's slot within the reported window.
+     *
+     * @return how long the caller must wait for its slot, in milliseconds
+     * @throws RateLimitExceededException if the slot is further away than the maximum wait
+     */
+    private long reserve() {
+        Pace current = pace;
+        long now = clock.millis();
+        if (!current.isActive(now)) {
+            return 0;
+        }
+
+        if (current.remaining() == 0) {
+            return checkWait(current.resetAtMillis() - now);
+        }
+
+        while (true) {
+            long slot = nextSlotMillis.get();
+            long start = Math.max(slot, now);
+            long waitMillis = checkWait(start - now);
+            if (nextSlotMillis.compareAndSet(slot, start + current.intervalMillis())) {
+                return waitMillis;
+            }
+        }
+    }
+
+    private long checkWait(long waitMillis) {
+        if (waitMillis > maxWaitMillis) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMillis));
+            throw new RateLimitExceededException("API rate limit window exhausted", retryAfterSeconds);
+        }
+        return waitMillis;
+    }
+
+    /**
+     * Pacing derived from one reported status.
+     *
+     * @param intervalMillis spacing between requests
+     * @param resetAtMillis  wall-clock time the reported window resets
+     * @param remaining      requests the API reported as remaining
+     */
+    private record Pace(long intervalMillis, long resetAtMillis, long remaining) {
+
+        static final Pace NONE = new Pace(0, 0, 0);
+
+        boolean isActive(long nowMillis) {
+            return resetAtMillis > nowMillis;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.companieshouse.client.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * RestClient interceptor that reports the API's rate limit headers to a {@link RequestRateLimiter}.
+ *
+ * <p>The Companies House API returns its rate limit state on every response:
+ * <ul>
+ *   <li>{@code X-Ratelimit-Limit}: requests allowed per window</li>
+ *   <li>{@code X-Ratelimit-Remain} (or {@code X-Ratelimit-Remaining}): requests left in the window</li>
+ *   <li>{@code X-Ratelimit-Reset}: window reset time in epoch seconds</li>
+ * </ul>
+ * Responses without parseable remaining and reset headers are ignored. The response
+ * body is not read.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitHeaderInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String LIMIT_HEADER = "X-Ratelimit-Limit";
+
+    static final String REMAIN_HEADER = "X-Ratelimit-Remain";
+
+    static final String REMAINING_HEADER = "X-Ratelimit-Remaining";
+
+    static final String RESET_HEADER = "X-Ratelimit-Reset";
+
+    private final RequestRateLimiter rateLimiter;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        ClientHttpResponse response = execution.execute(request, body);
+
+        RateLimitStatus status = parse(response.getHeaders());
+        if (status != null) {
+            rateLimiter.onRateLimitStatus(status);
+        }
+        return response;
+    }
+
+    /**
+     * Parses the rate limit headers of a response.
+     *
+     * @param headers the response headers
+     * @return the reported rate limit status, or null if the headers are missing or malformed
+     */
+    static RateLimitStatus parse(HttpHeaders headers) {
+        String remaining = headers.getFirst(REMAIN_HEADER);
+        if (remaining == null) {
+            remaining = headers.getFirst(REMAINING_HEADER);
+        }
+        String reset = headers.getFirst(RESET_HEADER);
+        if (remaining == null || reset == null) {
+            return null;
+        }
+
+        try {
+            String limit = headers.getFirst(LIMIT_HEADER);
+            return new RateLimitStatus(
+                limit != null ? Long.valueOf(limit.trim()) : null,
+                Long.parseLong(remaining.trim()),
+                Long.parseLong(reset.trim()));
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed rate limit headers: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.companieshouse.client.ratelimit;
+
+import lombok.Value;
+
+/**
+ * Rate limit state reported by the Companies House API on a response.
+ *
+ * <p>Parsed from the {@code X-Ratelimit-*} response headers by
+ * {@link RateLimitHeaderInterceptor}.
+ */
+@Value
+public class RateLimitStatus {
+
+    /**
+     * Total number of requests allowed in the current window, or null if not reported.
+     */
+    Long limit;
+
+    /**
+     * Number of requests remaining in the current window.
+     */
+    long remaining;
+
+    /**
+     * Time the current window resets, in seconds since the Unix epoch.
+     */
+    long resetEpochSeconds;
+}
@@ -0,0 +1,71 @@
+package com.example.companieshouse.client.ratelimit;
+
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+
+/**
+ * Client-side limiter that paces outgoing Companies House API requests.
+ *
+ * <p>{@link com.example.companieshouse.client.CompaniesHouseClientImpl} acquires one
+ * permit before every HTTP request, so requests that would certainly be rejected with
+ * HTTP 429 are delayed locally instead of spending a round trip.
+ *
+ * @see TokenBucketRateLimiter
+ * @see AdaptiveRateLimiter
+ */
+public interface RequestRateLimiter {
+
+    /**
+     * Acquires one permit, waiting until one becomes available.
+     *
+     * @throws RateLimitExceededException if no permit becomes available within the
+     *         limiter's maximum wait
+     * @throws com.example.companieshouse.client.exception.CompaniesHouseApiException
+     *         if the calling thread is interrupted while waiting
+     */
+    void acquire();
+
+    /**
+     * Returns the number of permits that could be acquired right now without waiting.
+     *
+     * @return the remaining request budget
+     */
+    long availablePermits();
+
+    /**
+     * Receives the rate limit state reported by the API on a response.
+     *
+     * <p>The default implementation ignores it.
+     *
+     * @param status the reported rate limit state
+     */
+    default void onRateLimitStatus(RateLimitStatus status) {
+        // Static limiters do not adapt
+    }
+
+    /**
+     * Returns a limiter that never waits, for use when client-side limiting is disabled.
+     *
+     * @return a limiter with an unlimited budget
+     */
+    static RequestRateLimiter unlimited() {
+        return Unlimited.INSTANCE;
+    }
+
+    /**
+     * Limiter with an unlimited budget.
+     */
+    enum Unlimited implements RequestRateLimiter {
+
+        INSTANCE;
+
+        @Override
+        public void acquire() {
+            // Always permitted
+        }
+
+        @Override
+        public long availablePermits() {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.companieshouse.client.ratelimit;
+
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket {@link RequestRateLimiter}.
+ *
+ * <p>The bucket holds up to {@code capacity} permits and refills at
+ * {@code refillTokens} permits per {@code refillPeriod}; the defaults match the
+ * documented Companies House quota of 600 requests per 5 minutes.
+ *
+ * <p>The bucket is tracked as a single "theoretical arrival time" in an {@link AtomicLong}
+ * (the generic cell rate algorithm): each permit advances it by one refill interval, and a
+ * permit is available once it is no more than {@code capacity} intervals ahead of now.
+ * Acquiring a permit is a single compare-and-set; a caller that has to wait reserves its
+ * slot first and then sleeps, so waiting callers are served in order without locks.
+ *
+ * <p>Thread-safety: This class is thread-safe.
+ */
+@Slf4j
+public class TokenBucketRateLimiter implements RequestRateLimiter {
+
+    private final long capacity;
+
+    private final long intervalNanos;
+
+    private final long burstNanos;
+
+    private final long maxWaitNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * Creates a token bucket that starts full.
+     *
+     * @param capacity       maximum number of permits the bucket holds (must be positive)
+     * @param refillTokens   permits added per refill period (must be positive)
+     * @param refillPeriodMs refill period in milliseconds (must be positive)
+     * @param maxWaitMs      longest a caller waits for a permit before failing (zero or positive)
+     */
+    public TokenBucketRateLimiter(long capacity, long refillTokens, long refillPeriodMs, long maxWaitMs) {
+        this(capacity, refillTokens, refillPeriodMs, maxWaitMs, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(long capacity, long refillTokens, long refillPeriodMs, long maxWaitMs,
+                           LongSupplier nanoClock) {
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriodMs <= 0 || maxWaitMs < 0) {
+            throw new IllegalArgumentException("Rate limit capacity, refill and period must be positive");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, TimeUnit.MILLISECONDS.toNanos(refillPeriodMs) / refillTokens);
+        this.burstNanos = intervalNanos * capacity;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.nanoClock = nanoClock;
+        this.theoreticalArrivalNanos = new AtomicLong(nanoClock.getAsLong() - burstNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        log.debug("Client-side rate limit reached, pacing request by {} ms",
+            TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompaniesHouseApiException("Interrupted while waiting for rate limit permit", e);
+        }
+    }
+
+    /**
+     * Acquires a permit only if one is available right now.
+     *
+     * @return true if a permit was acquired
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, now - burstNanos) + intervalNanos;
+            if (next - now > 0) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long availablePermits() {
+        long now = nanoClock.getAsLong();
+        long current = Math.max(theoreticalArrivalNanos.get(), now - burstNanos);
+        return Math.min(capacity, (now - current) / intervalNanos);
+    }
+
+    /**
+     * Reserves the next permit slot.
+     *
+     * @return how long the caller must wait for its slot, in nanoseconds (zero or negative
+     *         if the permit is available now)
+     * @throws RateLimitExceededException if the slot is further away than the maximum wait
+     */
+    private long reserve() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, now - burstNanos) + intervalNanos;
+            long waitNanos = next - now;
+            if (waitNanos > maxWaitNanos) {
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos));
+                throw new RateLimitExceededException("Client-side rate limit exceeded", retryAfterSeconds);
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return waitNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.companieshouse.client.retry;
+
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.client.exception.CompaniesHouseServerException;
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Retries API calls that failed for a transient reason.
+ *
+ * <p>Only {@link RateLimitExceededException} and {@link CompaniesHouseServerException}
+ * are retried; every other failure, such as a company that does not exist or an invalid
+ * API key, is thrown immediately. After a rate limit failure the next attempt is never
+ * made before the {@code Retry-After} period reported by the API has elapsed.
+ *
+ * <p>Backoff between attempts uses decorrelated jitter: each delay is drawn uniformly
+ * between the initial backoff and three times the previous delay, capped at the maximum
+ * backoff. Clients that failed at the same moment therefore spread their retries out
+ * instead of hitting the API again in lockstep.
+ *
+ * <p>All attempts share a total deadline measured from the first attempt. When the next
+ * delay would end after the deadline, the last failure is thrown instead of sleeping.
+ *
+ * <p>Thread-safety: This class is immutable and thread-safe.
+ */
+@Slf4j
+public class RetryPolicy {
+
+    private static final RetryPolicy NONE = new RetryPolicy(1, 1, 1, 0);
+
+    private final int maxAttempts;
+
+    private final long initialBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    private final long deadlineNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Sleeper sleeper;
+
+    private final LongBinaryOperator randomBetween;
+
+    /**
+     * Creates a retry policy.
+     *
+     * @param maxAttempts          maximum number of attempts including the first (must be positive)
+     * @param initialBackoffMillis smallest delay between attempts, in milliseconds (must be positive)
+     * @param maxBackoffMillis     largest delay between attempts, in milliseconds
+     *                             (must not be less than the initial backoff)
+     * @param deadlineMillis       total time allowed for all attempts and delays, in milliseconds
+     *                             (must not be negative)
+     */
+    public RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis, long deadlineMillis) {
+        this(maxAttempts, initialBackoffMillis, maxBackoffMillis, deadlineMillis,
+            System::nanoTime, TimeUnit.MILLISECONDS::sleep,
+            (origin, bound) -> ThreadLocalRandom.current().nextLong(origin, bound));
+    }
+
+    RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis, long deadlineMillis,
+                LongSupplier nanoClock, Sleeper sleeper, LongBinaryOperator randomBetween) {
+        if (maxAttempts <= 0 || initialBackoffMillis <= 0 || deadlineMillis < 0) {
+            throw new IllegalArgumentException(
+                "Retry attempts and backoff must be positive and deadline must not be negative");
+        }
+        if (maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException("Maximum backoff must not be less than initial backoff");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.randomBetween = randomBetween;
+    }
+
+    /**
+     * Returns a policy that makes a single attempt and never retries.
+     *
+     * @return the no-retry policy
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Runs a call, retrying retryable failures until it succeeds, the attempts are
+     * used up or the deadline would be exceeded.
+     *
+     * @param call the call to run
+     * @param <T>  the result type
+     * @return the result of the first successful attempt
+     * @throws CompaniesHouseApiException the failure of the last attempt, or a
+     *         non-retryable failure
+     */
+    public <T> T execute(Supplier<T> call) {
+        long deadline = nanoClock.getAsLong() + deadlineNanos;
+        long backoffMillis = initialBackoffMillis;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (CompaniesHouseApiException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+
+                backoffMillis = nextBackoffMillis(backoffMillis);
+                long delayMillis = delayMillis(e, backoffMillis);
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - nanoClock.getAsLong());
+                if (delayMillis > remainingMillis) {
+                    log.debug("Not retrying after attempt {}: delay of {}ms exceeds remaining deadline of {}ms",
+                        attempt, delayMillis, remainingMillis);
+                    throw e;
+                }
+
+                log.debug("Attempt {} failed ({}), retrying in {}ms", attempt, e.getMessage(), delayMillis);
+                sleep(delayMillis, e);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a failure is transient and worth retrying.
+     *
+     * @param exception the failure
+     * @return true for rate limit and server or transport failures
+     */
+    public static boolean isRetryable(CompaniesHouseApiException exception) {
+        return exception instanceof RateLimitExceededException
+            || exception instanceof CompaniesHouseServerException;
+    }
+
+    /**
+     * Draws the next backoff using decorrelated jitter.
+     *
+     * @param previousMillis the previous backoff
+     * @return the next backoff, between the initial and maximum backoff
+     */
+    long nextBackoffMillis(long previousMillis) {
+        long upper = Math.max(initialBackoffMillis, Math.min(maxBackoffMillis, previousMillis * 3));
+        return randomBetween.applyAsLong(initialBackoffMillis, upper + 1);
+    }
+
+    private long delayMillis(CompaniesHouseApiException exception, long backoffMillis) {
+        if (exception instanceof RateLimitExceededException rateLimited && rateLimited.getRetryAfter() != null) {
+            // Never retry before Retry-After, but keep some jitter so callers do not wake together
+            long retryAfterMillis = TimeUnit.SECONDS.toMillis(Math.max(0, rateLimited.getRetryAfter()));
+            return retryAfterMillis + randomBetween.applyAsLong(0, initialBackoffMillis + 1);
+        }
+        return backoffMillis;
+    }
+
+    private void sleep(long delayMillis, CompaniesHouseApiException lastFailure) {
+        try {
+            sleeper.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastFailure.addSuppressed(e);
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Blocks the calling thread between attempts.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+
+        void sleep(long millis) throws InterruptedException;
+    }
+}
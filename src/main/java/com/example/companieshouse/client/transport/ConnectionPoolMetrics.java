@@ -0,0 +1,40 @@
+package com.example.companieshouse.client.transport;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes {@link PooledHttpTransport} connection pool usage as Micrometer gauges.
+ *
+ * <p>Registers {@code companies.house.http.pool.leased}, {@code .available},
+ * {@code .pending} and {@code .max}. As a {@link MeterBinder} bean it is bound to the
+ * application's meter registries automatically when Spring Boot Actuator is present.
+ */
+@RequiredArgsConstructor
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "companies.house.http.pool.";
+
+    private final PooledHttpTransport transport;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(PREFIX + "leased", transport, t -> t.poolStats().getLeased())
+            .description("Connections leased to in-flight Companies House requests")
+            .register(registry);
+        Gauge.builder(PREFIX + "available", transport, t -> t.poolStats().getAvailable())
+            .description("Idle Companies House connections available for reuse")
+            .register(registry);
+        Gauge.builder(PREFIX + "pending", transport, t -> t.poolStats().getPending())
+            .description("Companies House requests waiting for a connection")
+            .register(registry);
+        Gauge.builder(PREFIX + "max", transport, t -> t.poolStats().getMax())
+            .description("Maximum Companies House connections in the pool")
+            .register(registry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.companieshouse.client.transport;
+
+import lombok.Value;
+
+/**
+ * Point-in-time snapshot of {@link PooledHttpTransport} connection pool usage.
+ */
+@Value
+public class ConnectionPoolStats {
+
+    /**
+     * Number of connections currently leased to in-flight requests.
+     */
+    int leased;
+
+    /**
+     * Number of idle connections kept alive for reuse.
+     */
+    int available;
+
+    /**
+     * Number of requests waiting for a connection.
+     */
+    int pending;
+
+    /**
+     * Maximum number of connections the pool may hold.
+     */
+    int max;
+
+    /**
+     * Returns the fraction of the pool leased to in-flight requests.
+     *
+     * @return utilization between 0.0 and 1.0
+     */
+    public double utilization() {
+        return max == 0 ? 0.0 : (double) leased / max;
+    }
+}
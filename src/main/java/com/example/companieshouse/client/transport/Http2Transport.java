@@ -0,0 +1,80 @@
+package com.example.companieshouse.client.transport;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP transport that multiplexes requests over HTTP/2 connections.
+ *
+ * <p>Built on the JDK {@link HttpClient} pinned to HTTP/2, so concurrent requests to the
+ * API share a small number of connections as parallel streams instead of each holding
+ * a connection of its own. Over TLS the protocol is negotiated with ALPN; a server that
+ * only speaks HTTP/1.1 is still served over HTTP/1.1. The client's asynchronous work
+ * runs on virtual threads.
+ *
+ * <p>Wired by {@link com.example.companieshouse.config.CompaniesHouseConfig} when
+ * companies-house.api.transport is HTTP2. Closing the transport closes the client and
+ * its connections.
+ *
+ * <p>Thread-safety: This class is thread-safe.
+ */
+public class Http2Transport implements AutoCloseable {
+
+    private final ExecutorService executor;
+
+    private final HttpClient httpClient;
+
+    private final Duration readTimeout;
+
+    /**
+     * Creates an HTTP/2 transport.
+     *
+     * @param connectTimeout time allowed to establish a connection
+     * @param readTimeout    time allowed for a response
+     */
+    public Http2Transport(Duration connectTimeout, Duration readTimeout) {
+        this.executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("companies-house-http2-", 0).factory());
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .executor(executor)
+            .build();
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Returns a request factory that sends requests through the HTTP/2 client.
+     *
+     * @return request factory for RestClient
+     */
+    public ClientHttpRequestFactory requestFactory() {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    /**
+     * Returns the underlying JDK HTTP client.
+     *
+     * @return the HTTP client
+     */
+    public HttpClient httpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Closes the HTTP client and its executor.
+     */
+    @Override
+    public void close() {
+        httpClient.close();
+        executor.close();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.companieshouse.client.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * HTTP transport backed by a pool of keep-alive connections.
+ *
+ * <p>Connections to the API are reused across requests instead of being opened, and
+ * TLS-negotiated, per request. Idle connections are evicted in the background, every
+ * connection is closed once it reaches its time-to-live, and a keep-alive period
+ * advertised by the server is never exceeded.
+ *
+ * <p>Wired by {@link com.example.companieshouse.config.CompaniesHouseConfig} when
+ * companies-house.api.transport is POOLED. Closing the transport closes all pooled
+ * connections.
+ *
+ * <p>Thread-safety: This class is thread-safe.
+ */
+@Slf4j
+public class PooledHttpTransport implements AutoCloseable {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Creates a pooled transport.
+     *
+     * @param settings pool sizing, timeouts and keep-alive settings
+     */
+    public PooledHttpTransport(Settings settings) {
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(settings.maxTotal())
+            .setMaxConnPerRoute(settings.maxPerRoute())
+            .setDefaultSocketConfig(SocketConfig.custom()
+                .setTcpNoDelay(settings.tcpNoDelay())
+                .setSoKeepAlive(true)
+                .build())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(settings.connectTimeout()))
+                .setSocketTimeout(Timeout.of(settings.readTimeout()))
+                .setTimeToLive(TimeValue.of(settings.connectionTimeToLive()))
+                .build())
+            .build();
+
+        TimeValue keepAlive = TimeValue.of(settings.keepAlive());
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom().setConnectionKeepAlive(keepAlive).build())
+            .setKeepAliveStrategy(keepAliveStrategy(keepAlive))
+            .evictIdleConnections(TimeValue.of(settings.idleEviction()))
+            .evictExpiredConnections()
+            .build();
+    }
+
+    /**
+     * Returns a request factory that sends requests through the pool.
+     *
+     * @return request factory for RestClient
+     */
+    public ClientHttpRequestFactory requestFactory() {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    /**
+     * Returns a snapshot of the connection pool usage.
+     *
+     * @return current pool statistics
+     */
+    public ConnectionPoolStats poolStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    /**
+     * Closes the HTTP client and all pooled connections.
+     */
+    @Override
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Failed to close pooled HTTP transport: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Uses the server's advertised keep-alive period, capped at the configured maximum.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(TimeValue maxKeepAlive) {
+        return (response, context) -> {
+            TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return TimeValue.isPositive(advertised) && advertised.compareTo(maxKeepAlive) < 0
+                ? advertised
+                : maxKeepAlive;
+        };
+    }
+
+    /**
+     * Pooled transport settings.
+     *
+     * @param maxTotal             maximum number of connections in the pool
+     * @param maxPerRoute          maximum number of connections to a single host
+     * @param connectTimeout       time allowed to establish a connection
+     * @param readTimeout          time allowed between response packets
+     * @param idleEviction         how long a connection may sit idle before it is closed
+     * @param keepAlive            longest a connection is kept alive between requests
+     * @param connectionTimeToLive longest a connection is reused after it was opened
+     * @param tcpNoDelay           whether Nagle's algorithm is disabled
+     */
+    public record Settings(int maxTotal, int maxPerRoute, Duration connectTimeout, Duration readTimeout,
+                           Duration idleEviction, Duration keepAlive, Duration connectionTimeToLive,
+                           boolean tcpNoDelay) {
+    }
+}
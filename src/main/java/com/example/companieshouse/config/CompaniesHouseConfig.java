@@ -1,15 +1,50 @@
 package com.example.companieshouse.config;
 
+import com.example.companieshouse.client.BatchLookupExecutor;
+import com.example.companieshouse.client.CompaniesHouseClient;
+import com.example.companieshouse.client.CompaniesHouseClientImpl;
+import com.example.companieshouse.client.cache.AddressCache;
+import com.example.companieshouse.client.cache.CachingCompaniesHouseClient;
+import com.example.companieshouse.client.cache.DiskAddressStore;
+import com.example.companieshouse.client.cache.DiskCachingCompaniesHouseClient;
+import com.example.companieshouse.client.cache.NegativeResultCache;
+import com.example.companieshouse.client.metrics.CompaniesHouseMetrics;
+import com.example.companieshouse.client.metrics.ResponseSizeInterceptor;
+import com.example.companieshouse.client.offline.AddressIndex;
+import com.example.companieshouse.client.offline.OfflineCompaniesHouseClient;
+import com.example.companieshouse.client.ratelimit.AdaptiveRateLimiter;
+import com.example.companieshouse.client.ratelimit.RateLimitHeaderInterceptor;
+import com.example.companieshouse.client.ratelimit.RequestRateLimiter;
+import com.example.companieshouse.client.ratelimit.TokenBucketRateLimiter;
+import com.example.companieshouse.client.retry.RetryPolicy;
+import com.example.companieshouse.client.transport.ConnectionPoolMetrics;
+import com.example.companieshouse.client.transport.Http2Transport;
+import com.example.companieshouse.client.transport.PooledHttpTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.ClientHttpRequestFactories;
 import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Spring configuration for Companies House API client.
@@ -21,10 +56,16 @@ import java.util.Base64;
  *   <li>Connection and read timeouts from properties</li>
  * </ul>
  *
+ * <p>Also provides the {@link BatchLookupExecutor} that bounds the fan-out of
+ * batch and streaming lookups, the client-side {@link RequestRateLimiter}, the request
+ * {@link CompaniesHouseMetrics}, and, when enabled, the offline, caching and disk cache decorators
+ * that make up the primary {@link CompaniesHouseClient}.
+ *
  * <p>The Companies House API requires Basic authentication with the API key
  * as the username and an empty password. This is automatically configured
  * via the Authorization header.
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class CompaniesHouseConfig {
@@ -40,17 +81,373 @@ public class CompaniesHouseConfig {
      *   <li>Basic authentication header with API key</li>
      *   <li>Connection timeout from properties (companies-house.api.connect-timeout-ms)</li>
      *   <li>Read timeout from properties (companies-house.api.read-timeout-ms)</li>
+     *   <li>HTTP transport from properties (companies-house.api.transport)</li>
+     *   <li>Rate limit header interceptor feeding the adaptive limiter
+     *       (companies-house.api.rate-limit.adaptive)</li>
+     *   <li>Response size interceptor recording body sizes in metrics</li>
      * </ul>
      *
+     * @param companiesHouseMetrics metrics recording response sizes
      * @return configured RestClient instance for Companies House API calls
      */
     @Bean
-    public RestClient restClient() {
-        return RestClient.builder()
+    public RestClient restClient(CompaniesHouseMetrics companiesHouseMetrics) {
+        RestClient.Builder builder = RestClient.builder()
                 .baseUrl(properties.getBaseUrl())
                 .defaultHeader("Authorization", createBasicAuthHeader(properties.getApiKey()))
                 .requestFactory(clientHttpRequestFactory())
-                .build();
+                .requestInterceptor(new ResponseSizeInterceptor(companiesHouseMetrics));
+
+        if (properties.getRateLimit().isAdaptive()) {
+            builder.requestInterceptor(new RateLimitHeaderInterceptor(requestRateLimiter()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates the request metrics of the client.
+     *
+     * <p>Meters are registered in the application's {@link MeterRegistry} when one is
+     * available, for example when Spring Boot Actuator is on the classpath; otherwise
+     * nothing is recorded.
+     *
+     * @param meterRegistry the application's meter registry, if any
+     * @return metrics for Companies House API requests
+     */
+    @Bean
+    public CompaniesHouseMetrics companiesHouseMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return registry != null ? new CompaniesHouseMetrics(registry) : CompaniesHouseMetrics.noop();
+    }
+
+    /**
+     * Creates the executor used for batch, streaming and asynchronous lookups.
+     *
+     * <p>The threading model follows companies-house.api.execution-mode:
+     * <ul>
+     *   <li>PLATFORM: fixed pool of daemon threads sized to companies-house.api.batch.max-concurrency</li>
+     *   <li>VIRTUAL: one virtual thread per lookup</li>
+     * </ul>
+     * Each batch is bounded by companies-house.api.batch.max-concurrency in both modes.
+     * The executor is shut down when the application context closes.
+     *
+     * @return batch lookup executor bounded by the configured concurrency
+     */
+    @Bean(destroyMethod = "close")
+    public BatchLookupExecutor batchLookupExecutor() {
+        int maxConcurrency = properties.getBatch().getMaxConcurrency();
+        return new BatchLookupExecutor(lookupExecutorService(maxConcurrency), maxConcurrency);
+    }
+
+    /**
+     * Creates the client-side rate limiter that paces outgoing requests.
+     *
+     * <p>When companies-house.api.rate-limit.enabled is true (the default) requests
+     * are bounded by a token bucket configured from companies-house.api.rate-limit.
+     * When companies-house.api.rate-limit.adaptive is true requests are
+     * additionally paced from the rate limit headers the API returns.
+     *
+     * @return rate limiter for Companies House API requests
+     */
+    @Bean
+    public RequestRateLimiter requestRateLimiter() {
+        CompaniesHouseProperties.RateLimit rateLimit = properties.getRateLimit();
+        RequestRateLimiter limiter = rateLimit.isEnabled()
+                ? new TokenBucketRateLimiter(rateLimit.getCapacity(), rateLimit.getRefillTokens(),
+                        rateLimit.getRefillPeriodMs(), rateLimit.getMaxWaitMs())
+                : RequestRateLimiter.unlimited();
+
+        if (rateLimit.isAdaptive()) {
+            limiter = new AdaptiveRateLimiter(limiter, rateLimit.getMaxWaitMs(), Clock.systemUTC());
+        }
+        return limiter;
+    }
+
+    /**
+     * Creates the retry policy applied to each lookup.
+     *
+     * <p>When companies-house.api.retry.enabled is true, transient failures are retried
+     * with jittered exponential backoff configured from companies-house.api.retry;
+     * otherwise every lookup makes a single attempt.
+     *
+     * @return retry policy for Companies House API requests
+     */
+    @Bean
+    public RetryPolicy retryPolicy() {
+        CompaniesHouseProperties.Retry retry = properties.getRetry();
+        if (!retry.isEnabled()) {
+            return RetryPolicy.none();
+        }
+        return new RetryPolicy(retry.getMaxAttempts(), retry.getInitialBackoffMs(), retry.getMaxBackoffMs(),
+                retry.getDeadlineMs());
+    }
+
+    /**
+     * Creates the {@link CompaniesHouseClient} injected by default.
+     *
+     * <p>Lookups go through the enabled decorators, outermost first:
+     * <ol>
+     *   <li>{@link OfflineCompaniesHouseClient} (companies-house.api.offline.enabled)</li>
+     *   <li>{@link CachingCompaniesHouseClient} (companies-house.api.cache.enabled or
+     *       companies-house.api.negative-cache.enabled)</li>
+     *   <li>{@link DiskCachingCompaniesHouseClient} (companies-house.api.disk-cache.enabled)</li>
+     *   <li>{@link CompaniesHouseClientImpl}</li>
+     * </ol>
+     * It is marked {@link Primary} so it is injected wherever a
+     * {@link CompaniesHouseClient} is requested; each layer remains available by its
+     * concrete type.
+     *
+     * @param companiesHouseClientImpl    the HTTP-backed client
+     * @param diskCachingCompaniesHouseClient the disk caching client, if enabled
+     * @param cachingCompaniesHouseClient     the caching client, if enabled
+     * @param offlineCompaniesHouseClient     the offline client, if enabled
+     * @return the outermost enabled Companies House client
+     */
+    @Bean
+    @Primary
+    public CompaniesHouseClient companiesHouseClient(
+            CompaniesHouseClientImpl companiesHouseClientImpl,
+            ObjectProvider<DiskCachingCompaniesHouseClient> diskCachingCompaniesHouseClient,
+            ObjectProvider<CachingCompaniesHouseClient> cachingCompaniesHouseClient,
+            ObjectProvider<OfflineCompaniesHouseClient> offlineCompaniesHouseClient) {
+        CompaniesHouseClient client = offlineCompaniesHouseClient.getIfAvailable();
+        if (client == null) {
+            client = cachingCompaniesHouseClient.getIfAvailable();
+        }
+        if (client == null) {
+            client = diskCachingCompaniesHouseClient.getIfAvailable();
+        }
+        return client != null ? client : companiesHouseClientImpl;
+    }
+
+    /**
+     * Creates the in-memory caching client.
+     *
+     * <p>Only created when companies-house.api.cache.enabled or
+     * companies-house.api.negative-cache.enabled is true; each cache is enabled
+     * independently. It wraps the disk caching client when one is enabled, otherwise
+     * {@link CompaniesHouseClientImpl}.
+     *
+     * <p>When companies-house.api.cache.snapshot-path names an existing file, the address
+     * cache is loaded from it before the client is returned, so the first lookups are
+     * already served warm. A snapshot that cannot be read is logged and the cache starts
+     * empty.
+     *
+     * @param companiesHouseClientImpl        the HTTP-backed client
+     * @param diskCachingCompaniesHouseClient the disk caching client, if enabled
+     * @param batchLookupExecutor             executor for streaming lookups
+     * @return caching Companies House client
+     */
+    @Bean
+    @ConditionalOnExpression("${companies-house.api.cache.enabled:false} or ${companies-house.api.negative-cache.enabled:false}")
+    public CachingCompaniesHouseClient cachingCompaniesHouseClient(
+            CompaniesHouseClientImpl companiesHouseClientImpl,
+            ObjectProvider<DiskCachingCompaniesHouseClient> diskCachingCompaniesHouseClient,
+            BatchLookupExecutor batchLookupExecutor) {
+        CompaniesHouseProperties.Cache cache = properties.getCache();
+        CompaniesHouseProperties.NegativeCache negativeCache = properties.getNegativeCache();
+        CompaniesHouseClient delegate = diskCachingCompaniesHouseClient.getIfAvailable();
+        CachingCompaniesHouseClient client = new CachingCompaniesHouseClient(
+                delegate != null ? delegate : companiesHouseClientImpl,
+                cache.isEnabled()
+                        ? new AddressCache(cache.getMaxEntries(), cache.getMaxWeightBytes(), cache.getTtlMs(),
+                                cache.getRefreshAheadMs(), cache.getStaleWhileRevalidateMs(), Clock.systemUTC())
+                        : null,
+                negativeCache.isEnabled()
+                        ? new NegativeResultCache(negativeCache.getMaxEntries(), negativeCache.getTtlMs(),
+                                Clock.systemUTC())
+                        : null,
+                batchLookupExecutor,
+                cache.isEtagRevalidation());
+
+        if (cache.isEnabled() && cache.getSnapshotPath() != null) {
+            Path snapshot = Path.of(cache.getSnapshotPath());
+            if (Files.exists(snapshot)) {
+                try {
+                    client.importSnapshot(snapshot);
+                } catch (IOException e) {
+                    log.warn("Could not load address cache snapshot {}, starting empty: {}", snapshot, e.getMessage());
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Writes the address cache to its snapshot file when the application shuts down.
+     *
+     * <p>Only created when the address cache is enabled, companies-house.api.cache.snapshot-path
+     * is set and companies-house.api.cache.snapshot-on-shutdown is true. The snapshot is
+     * written before the caching client is destroyed.
+     *
+     * @param cachingCompaniesHouseClient the caching client whose cache is saved
+     * @return shutdown hook writing the snapshot
+     */
+    @Bean
+    @ConditionalOnExpression("${companies-house.api.cache.enabled:false}"
+            + " and '${companies-house.api.cache.snapshot-path:}' != ''"
+            + " and ${companies-house.api.cache.snapshot-on-shutdown:true}")
+    public DisposableBean addressCacheSnapshotWriter(CachingCompaniesHouseClient cachingCompaniesHouseClient) {
+        Path snapshot = Path.of(properties.getCache().getSnapshotPath());
+        return () -> {
+            try {
+                cachingCompaniesHouseClient.exportSnapshot(snapshot);
+            } catch (IOException e) {
+                log.warn("Could not write address cache snapshot {}: {}", snapshot, e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Opens the persistent address store.
+     *
+     * <p>Only created when companies-house.api.disk-cache.enabled is true. Segment files
+     * are kept in companies-house.api.disk-cache.directory and replayed on startup.
+     *
+     * @return the opened address store
+     * @throws IOException if the directory or a segment file cannot be read
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "companies-house.api.disk-cache", name = "enabled", havingValue = "true")
+    public DiskAddressStore diskAddressStore() throws IOException {
+        CompaniesHouseProperties.DiskCache diskCache = properties.getDiskCache();
+        return DiskAddressStore.open(Path.of(diskCache.getDirectory()), diskCache.getMaxEntries(),
+                diskCache.getTtlMs(), diskCache.getMaxSegmentBytes(), Clock.systemUTC());
+    }
+
+    /**
+     * Creates the disk caching client that wraps {@link CompaniesHouseClientImpl}.
+     *
+     * <p>Only created when companies-house.api.disk-cache.enabled is true.
+     *
+     * @param diskAddressStore         the persistent address store
+     * @param companiesHouseClientImpl the HTTP-backed client to decorate
+     * @param batchLookupExecutor      executor for streaming lookups
+     * @return disk caching Companies House client
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "companies-house.api.disk-cache", name = "enabled", havingValue = "true")
+    public DiskCachingCompaniesHouseClient diskCachingCompaniesHouseClient(
+            DiskAddressStore diskAddressStore,
+            CompaniesHouseClientImpl companiesHouseClientImpl,
+            BatchLookupExecutor batchLookupExecutor) {
+        return new DiskCachingCompaniesHouseClient(companiesHouseClientImpl, diskAddressStore, batchLookupExecutor);
+    }
+
+    /**
+     * Opens the offline address index.
+     *
+     * <p>Only created when companies-house.api.offline.enabled is true. The index is read
+     * from companies-house.api.offline.index-path, written beforehand by
+     * {@link com.example.companieshouse.client.offline.BasicCompanyDataImporter}.
+     *
+     * @return the opened address index
+     * @throws IOException if the index file cannot be read
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "companies-house.api.offline", name = "enabled", havingValue = "true")
+    public AddressIndex addressIndex() throws IOException {
+        return AddressIndex.open(Path.of(properties.getOffline().getIndexPath()));
+    }
+
+    /**
+     * Creates the client that answers lookups from the offline address index.
+     *
+     * <p>Only created when companies-house.api.offline.enabled is true. Misses fall back
+     * to the caching client when one is enabled, otherwise to the disk caching client when
+     * one is enabled, otherwise to {@link CompaniesHouseClientImpl}, unless
+     * companies-house.api.offline.fallback-enabled is false.
+     *
+     * @param addressIndex                    the offline address index
+     * @param companiesHouseClientImpl        the HTTP-backed client
+     * @param diskCachingCompaniesHouseClient the disk caching client, if enabled
+     * @param cachingCompaniesHouseClient     the caching client, if enabled
+     * @param batchLookupExecutor             executor for streaming lookups
+     * @return offline Companies House client
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "companies-house.api.offline", name = "enabled", havingValue = "true")
+    public OfflineCompaniesHouseClient offlineCompaniesHouseClient(
+            AddressIndex addressIndex,
+            CompaniesHouseClientImpl companiesHouseClientImpl,
+            ObjectProvider<DiskCachingCompaniesHouseClient> diskCachingCompaniesHouseClient,
+            ObjectProvider<CachingCompaniesHouseClient> cachingCompaniesHouseClient,
+            BatchLookupExecutor batchLookupExecutor) {
+        CompaniesHouseClient fallback = null;
+        if (properties.getOffline().isFallbackEnabled()) {
+            fallback = cachingCompaniesHouseClient.getIfAvailable();
+            if (fallback == null) {
+                fallback = diskCachingCompaniesHouseClient.getIfAvailable();
+            }
+            if (fallback == null) {
+                fallback = companiesHouseClientImpl;
+            }
+        }
+        return new OfflineCompaniesHouseClient(addressIndex, fallback, batchLookupExecutor);
+    }
+
+    /**
+     * Creates the pooled keep-alive HTTP transport.
+     *
+     * <p>Only created when companies-house.api.transport is POOLED. Pool sizing,
+     * eviction and keep-alive are configured from companies-house.api.pool.
+     *
+     * @return pooled HTTP transport
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "companies-house.api", name = "transport", havingValue = "pooled")
+    public PooledHttpTransport pooledHttpTransport() {
+        CompaniesHouseProperties.Pool pool = properties.getPool();
+        return new PooledHttpTransport(new PooledHttpTransport.Settings(
+                pool.getMaxTotal(),
+                pool.getMaxPerRoute(),
+                Duration.ofMillis(properties.getConnectTimeoutMs()),
+                Duration.ofMillis(properties.getReadTimeoutMs()),
+                Duration.ofMillis(pool.getIdleEvictionMs()),
+                Duration.ofMillis(pool.getKeepAliveMs()),
+                Duration.ofMillis(pool.getConnectionTtlMs()),
+                pool.isTcpNoDelay()));
+    }
+
+    /**
+     * Publishes connection pool usage of the pooled transport as gauges.
+     *
+     * @param pooledHttpTransport the pooled transport
+     * @return meter binder for the connection pool
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "companies-house.api", name = "transport", havingValue = "pooled")
+    public MeterBinder companiesHouseConnectionPoolMetrics(PooledHttpTransport pooledHttpTransport) {
+        return new ConnectionPoolMetrics(pooledHttpTransport);
+    }
+
+    /**
+     * Creates the HTTP/2 transport.
+     *
+     * <p>Only created when companies-house.api.transport is HTTP2.
+     *
+     * @return HTTP/2 transport
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "companies-house.api", name = "transport", havingValue = "http2")
+    public Http2Transport http2Transport() {
+        return new Http2Transport(Duration.ofMillis(properties.getConnectTimeoutMs()),
+                Duration.ofMillis(properties.getReadTimeoutMs()));
+    }
+
+    /**
+     * Creates the executor service matching the configured execution mode.
+     *
+     * @param maxConcurrency pool size used in PLATFORM mode
+     * @return executor service for lookups
+     */
+    private ExecutorService lookupExecutorService(int maxConcurrency) {
+        return switch (properties.getExecutionMode()) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("companies-house-lookup-vt-", 0).factory());
+            case PLATFORM -> Executors.newFixedThreadPool(maxConcurrency,
+                    Thread.ofPlatform().name("companies-house-lookup-", 0).daemon(true).factory());
+        };
     }
 
     /**
@@ -62,14 +459,25 @@ public class CompaniesHouseConfig {
      *   <li>readTimeout: Time to read response after connection established</li>
      * </ul>
      *
+     * <p>With the POOLED transport, requests go through {@link #pooledHttpTransport()};
+     * with the HTTP2 transport, through {@link #http2Transport()}.
+     *
      * @return ClientHttpRequestFactory with timeout configuration
      */
     private ClientHttpRequestFactory clientHttpRequestFactory() {
-        ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.DEFAULTS
-                .withConnectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
-                .withReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()));
+        return switch (properties.getTransport()) {
+            case POOLED -> pooledHttpTransport().requestFactory();
+            case HTTP2 -> http2Transport().requestFactory();
+            case DEFAULT -> {
+                ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.DEFAULTS
+                        .withConnectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                        .withReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()));
 
-        return ClientHttpRequestFactories.get(settings);
+                // Pinned to the JDK client so adding Apache HttpClient for the pooled transport
+                // does not change what the default transport detects on the classpath
+                yield ClientHttpRequestFactories.get(JdkClientHttpRequestFactory.class, settings);
+            }
+        };
     }
 
     /**
@@ -1,8 +1,13 @@
 package com.example.companieshouse.config;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -23,6 +28,56 @@ import org.springframework.validation.annotation.Validated;
  *     api-key: ${COMPANIES_HOUSE_API_KEY}
  *     connect-timeout-ms: 5000
  *     read-timeout-ms: 10000
+ *     execution-mode: virtual
+ *     response-parsing: streaming
+ *     stackless-exceptions: true
+ *     transport: pooled
+ *     pool:
+ *       max-total: 50
+ *       max-per-route: 20
+ *       idle-eviction-ms: 30000
+ *       keep-alive-ms: 60000
+ *       connection-ttl-ms: 600000
+ *       tcp-no-delay: true
+ *     batch:
+ *       max-concurrency: 8
+ *     cache:
+ *       enabled: true
+ *       max-entries: 100000
+ *       max-weight-bytes: 67108864
+ *       ttl-ms: 86400000
+ *       etag-revalidation: true
+ *       refresh-ahead-ms: 3600000
+ *       stale-while-revalidate-ms: 3600000
+ *       snapshot-path: /var/cache/companies-house/addresses.snapshot
+ *       snapshot-on-shutdown: true
+ *     negative-cache:
+ *       enabled: true
+ *       max-entries: 10000
+ *       ttl-ms: 600000
+ *     disk-cache:
+ *       enabled: true
+ *       directory: /var/cache/companies-house
+ *       max-entries: 1000000
+ *       ttl-ms: 604800000
+ *       max-segment-bytes: 67108864
+ *     rate-limit:
+ *       enabled: true
+ *       capacity: 600
+ *       refill-tokens: 600
+ *       refill-period-ms: 300000
+ *       max-wait-ms: 60000
+ *       adaptive: true
+ *     retry:
+ *       enabled: true
+ *       max-attempts: 3
+ *       initial-backoff-ms: 200
+ *       max-backoff-ms: 10000
+ *       deadline-ms: 30000
+ *     offline:
+ *       enabled: true
+ *       index-path: /var/lib/companies-house/addresses.idx
+ *       fallback-enabled: true
  * </pre>
  */
 @Component
@@ -60,7 +115,86 @@ public class CompaniesHouseProperties {
     private int readTimeoutMs;
 
     /**
-     * Validates that the API key is not a placeholder value.
+     * Threading model used for batch, streaming and asynchronous lookups.
+     * Default: PLATFORM
+     */
+    @NotNull(message = "Execution mode must not be null")
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+
+    /**
+     * How company profile responses are parsed.
+     * Default: FULL
+     */
+    @NotNull(message = "Response parsing must not be null")
+    private ResponseParsing responseParsing = ResponseParsing.FULL;
+
+    /**
+     * Whether CompanyNotFoundException and RateLimitExceededException are thrown
+     * without a stack trace. These describe expected outcomes, and bulk jobs can
+     * throw thousands of them per minute.
+     * Default: false
+     */
+    private boolean stacklessExceptions;
+
+    /**
+     * HTTP transport used to send requests.
+     * Default: DEFAULT
+     */
+    @NotNull(message = "Transport must not be null")
+    private Transport transport = Transport.DEFAULT;
+
+    /**
+     * Connection pool settings, used when transport is POOLED.
+     */
+    @Valid
+    private Pool pool = new Pool();
+
+    /**
+     * Settings for batch and streaming lookups.
+     */
+    @Valid
+    private Batch batch = new Batch();
+
+    /**
+     * Settings for the in-process registered address cache.
+     */
+    @Valid
+    private Cache cache = new Cache();
+
+    /**
+     * Settings for the cache of company numbers reported as not found.
+     */
+    @Valid
+    private NegativeCache negativeCache = new NegativeCache();
+
+    /**
+     * Settings for the persistent registered address cache.
+     */
+    @Valid
+    private DiskCache diskCache = new DiskCache();
+
+    /**
+     * Settings for the client-side request rate limiter.
+     */
+    @Valid
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * Settings for retrying transient failures.
+     */
+    @Valid
+    private Retry retry = new Retry();
+
+    /**
+     * Settings for lookups from an offline index of the bulk data snapshot.
+     */
+    @Valid
+    private Offline offline = new Offline();
+
+    /**
+     * Validates that the API key is not a placeholder value, that an index path is set
+     * when the offline index is enabled and that a directory is set when the disk cache
+     * is enabled.
      * Throws IllegalStateException if configuration is invalid.
      */
     @PostConstruct
@@ -72,5 +206,392 @@ public class CompaniesHouseProperties {
                 "create application-local.yml with your actual API key."
             );
         }
+        if (offline.isEnabled() && (offline.getIndexPath() == null || offline.getIndexPath().isBlank())) {
+            throw new IllegalStateException(
+                "companies-house.api.offline.index-path must be set when the offline index is enabled");
+        }
+        if (diskCache.isEnabled() && (diskCache.getDirectory() == null || diskCache.getDirectory().isBlank())) {
+            throw new IllegalStateException(
+                "companies-house.api.disk-cache.directory must be set when the disk cache is enabled");
+        }
+        if (cache.getRefreshAheadMs() >= cache.getTtlMs()) {
+            throw new IllegalStateException(
+                "companies-house.api.cache.refresh-ahead-ms must be less than companies-house.api.cache.ttl-ms");
+        }
+    }
+
+    /**
+     * Threading model for lookups that run off the caller's thread.
+     */
+    public enum ExecutionMode {
+
+        /**
+         * Fixed pool of platform threads sized to batch.max-concurrency.
+         */
+        PLATFORM,
+
+        /**
+         * One Java 21 virtual thread per lookup, so blocking HTTP calls do not
+         * hold an OS thread for the whole round trip.
+         */
+        VIRTUAL
+    }
+
+    /**
+     * Strategies for reading the registered office address from a profile response.
+     */
+    public enum ResponseParsing {
+
+        /**
+         * Bind the whole profile to CompanyProfileResponse.
+         */
+        FULL,
+
+        /**
+         * Read only registered_office_address token by token and skip the rest of
+         * the profile.
+         */
+        STREAMING
+    }
+
+    /**
+     * HTTP transport implementations.
+     */
+    public enum Transport {
+
+        /**
+         * JDK HttpClient with its default connection handling.
+         */
+        DEFAULT,
+
+        /**
+         * Apache HttpClient with a bounded pool of keep-alive connections,
+         * configured from companies-house.api.pool.
+         */
+        POOLED,
+
+        /**
+         * JDK HttpClient pinned to HTTP/2, multiplexing concurrent requests over a
+         * few connections, with its work running on virtual threads.
+         */
+        HTTP2
+    }
+
+    /**
+     * Connection pool settings, bound from "companies-house.api.pool".
+     */
+    @Data
+    public static class Pool {
+
+        /**
+         * Maximum number of pooled connections.
+         * Default: 50
+         */
+        @Positive(message = "Pool max total must be positive")
+        private int maxTotal = 50;
+
+        /**
+         * Maximum number of pooled connections to a single host.
+         * Default: 20
+         */
+        @Positive(message = "Pool max per route must be positive")
+        private int maxPerRoute = 20;
+
+        /**
+         * How long a connection may stay idle before it is evicted, in milliseconds.
+         * Default: 30000 (30 seconds)
+         */
+        @Positive(message = "Pool idle eviction must be positive")
+        private long idleEvictionMs = 30_000;
+
+        /**
+         * Longest a connection is kept alive between requests, in milliseconds.
+         * A shorter keep-alive advertised by the server takes precedence.
+         * Default: 60000 (1 minute)
+         */
+        @Positive(message = "Pool keep-alive must be positive")
+        private long keepAliveMs = 60_000;
+
+        /**
+         * Longest a connection is reused after it was opened, in milliseconds.
+         * Default: 600000 (10 minutes)
+         */
+        @Positive(message = "Pool connection TTL must be positive")
+        private long connectionTtlMs = 10L * 60 * 1000;
+
+        /**
+         * Whether Nagle's algorithm is disabled on pooled connections.
+         * Default: true
+         */
+        private boolean tcpNoDelay = true;
+    }
+
+    /**
+     * Batch lookup settings, bound from "companies-house.api.batch".
+     */
+    @Data
+    public static class Batch {
+
+        /**
+         * Maximum number of lookups a single batch keeps in flight at once.
+         * Default: 8
+         */
+        @Positive(message = "Batch max concurrency must be positive")
+        private int maxConcurrency = 8;
+    }
+
+    /**
+     * Registered address cache settings, bound from "companies-house.api.cache".
+     */
+    @Data
+    public static class Cache {
+
+        /**
+         * Whether successful lookups are cached in memory.
+         * Default: false
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum number of cached addresses.
+         * Default: 100000
+         */
+        @Positive(message = "Cache max entries must be positive")
+        private int maxEntries = 100_000;
+
+        /**
+         * Maximum total estimated heap size of cached addresses, in bytes.
+         * Default: 67108864 (64 MiB)
+         */
+        @Positive(message = "Cache max weight must be positive")
+        private long maxWeightBytes = 64L * 1024 * 1024;
+
+        /**
+         * Time-to-live of a cached address in milliseconds.
+         * Default: 86400000 (24 hours)
+         */
+        @Positive(message = "Cache TTL must be positive")
+        private long ttlMs = 24L * 60 * 60 * 1000;
+
+        /**
+         * Whether expired addresses are revalidated with the entity tag of their profile
+         * (If-None-Match) instead of being fetched again in full.
+         * Default: false
+         */
+        private boolean etagRevalidation;
+
+        /**
+         * How long before expiry a cache hit triggers a background refresh, in
+         * milliseconds. Must be less than the TTL. Zero disables refresh-ahead.
+         * Default: 0
+         */
+        @PositiveOrZero(message = "Cache refresh-ahead must not be negative")
+        private long refreshAheadMs;
+
+        /**
+         * How long after expiry a cached address may still be served while it is
+         * refreshed in the background, in milliseconds. Zero disables
+         * stale-while-revalidate.
+         * Default: 0
+         */
+        @PositiveOrZero(message = "Cache stale-while-revalidate window must not be negative")
+        private long staleWhileRevalidateMs;
+
+        /**
+         * Snapshot file the cache is loaded from at startup, if it exists, so a new
+         * instance starts warm. Unset disables snapshots.
+         */
+        private String snapshotPath;
+
+        /**
+         * Whether the cache is written to the snapshot file when the application shuts
+         * down. Only applies when a snapshot path is set.
+         * Default: true
+         */
+        private boolean snapshotOnShutdown = true;
+    }
+
+    /**
+     * Not-found result cache settings, bound from "companies-house.api.negative-cache".
+     */
+    @Data
+    public static class NegativeCache {
+
+        /**
+         * Whether company numbers reported as not found are remembered.
+         * Default: false
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum number of remembered company numbers.
+         * Default: 10000
+         */
+        @Positive(message = "Negative cache max entries must be positive")
+        private int maxEntries = 10_000;
+
+        /**
+         * How long a not-found result is remembered, in milliseconds.
+         * Default: 600000 (10 minutes)
+         */
+        @Positive(message = "Negative cache TTL must be positive")
+        private long ttlMs = 10L * 60 * 1000;
+    }
+
+    /**
+     * Persistent address cache settings, bound from "companies-house.api.disk-cache".
+     */
+    @Data
+    public static class DiskCache {
+
+        /**
+         * Whether fetched addresses are kept in segment files that survive restarts.
+         * Default: false
+         */
+        private boolean enabled;
+
+        /**
+         * Directory holding the segment files. Required when enabled; created if missing.
+         */
+        private String directory;
+
+        /**
+         * Maximum number of stored addresses.
+         * Default: 1000000
+         */
+        @Positive(message = "Disk cache max entries must be positive")
+        private int maxEntries = 1_000_000;
+
+        /**
+         * How long a stored address stays valid after it was fetched, in milliseconds.
+         * Default: 604800000 (7 days)
+         */
+        @Positive(message = "Disk cache TTL must be positive")
+        private long ttlMs = 7L * 24 * 60 * 60 * 1000;
+
+        /**
+         * Size at which a segment file is sealed and a new one started, in bytes.
+         * Default: 67108864 (64 MiB)
+         */
+        @Min(value = 1L << 20, message = "Disk cache segment size must be at least 1 MiB")
+        @Max(value = Integer.MAX_VALUE, message = "Disk cache segment size must be at most 2 GiB")
+        private long maxSegmentBytes = 64L * 1024 * 1024;
+    }
+
+    /**
+     * Client-side rate limiter settings, bound from "companies-house.api.rate-limit".
+     * Defaults match the documented quota of 600 requests per 5 minutes.
+     */
+    @Data
+    public static class RateLimit {
+
+        /**
+         * Whether outgoing requests are paced by a client-side token bucket.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of requests that may be sent in a burst.
+         * Default: 600
+         */
+        @Positive(message = "Rate limit capacity must be positive")
+        private long capacity = 600;
+
+        /**
+         * Number of requests added to the budget every refill period.
+         * Default: 600
+         */
+        @Positive(message = "Rate limit refill tokens must be positive")
+        private long refillTokens = 600;
+
+        /**
+         * Refill period in milliseconds.
+         * Default: 300000 (5 minutes)
+         */
+        @Positive(message = "Rate limit refill period must be positive")
+        private long refillPeriodMs = 5L * 60 * 1000;
+
+        /**
+         * Longest a request waits for budget before failing with RateLimitExceededException.
+         * Default: 60000 (1 minute)
+         */
+        @PositiveOrZero(message = "Rate limit max wait must not be negative")
+        private long maxWaitMs = 60_000;
+
+        /**
+         * Whether requests are also paced from the X-Ratelimit-* headers the API
+         * returns, spreading the remaining budget evenly over the rest of the window.
+         * Default: false
+         */
+        private boolean adaptive;
+    }
+
+    /**
+     * Retry settings, bound from "companies-house.api.retry".
+     */
+    @Data
+    public static class Retry {
+
+        /**
+         * Whether rate limit, server and connection failures are retried.
+         * Default: false
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum number of attempts per lookup, including the first.
+         * Default: 3
+         */
+        @Positive(message = "Retry max attempts must be positive")
+        private int maxAttempts = 3;
+
+        /**
+         * Smallest delay between attempts in milliseconds.
+         * Default: 200
+         */
+        @Positive(message = "Retry initial backoff must be positive")
+        private long initialBackoffMs = 200;
+
+        /**
+         * Largest delay between attempts in milliseconds.
+         * Default: 10000 (10 seconds)
+         */
+        @Positive(message = "Retry max backoff must be positive")
+        private long maxBackoffMs = 10_000;
+
+        /**
+         * Total time allowed for all attempts of one lookup, in milliseconds.
+         * Default: 30000 (30 seconds)
+         */
+        @PositiveOrZero(message = "Retry deadline must not be negative")
+        private long deadlineMs = 30_000;
+    }
+
+    /**
+     * Offline index settings, bound from "companies-house.api.offline".
+     */
+    @Data
+    public static class Offline {
+
+        /**
+         * Whether lookups are answered from an offline address index built from the
+         * Companies House bulk data snapshot.
+         * Default: false
+         */
+        private boolean enabled;
+
+        /**
+         * Path of the index file written by BasicCompanyDataImporter.
+         * Required when enabled.
+         */
+        private String indexPath;
+
+        /**
+         * Whether company numbers not in the index are looked up through the API.
+         * When false they fail with CompanyNotFoundException.
+         * Default: true
+         */
+        private boolean fallbackEnabled = true;
     }
 }
@@ -0,0 +1,40 @@
+package com.example.companieshouse.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projection of a company profile response that keeps only the registered office address.
+ *
+ * <p>Bound by {@link CompanyAddressProjectionDeserializer}, which reads the
+ * {@code registered_office_address} object token by token, keeps the profile's
+ * {@code etag}, and skips every other field of the profile without materializing it. Use it in place of {@link CompanyProfileResponse}
+ * when the address is all that is needed.
+ *
+ * @see CompanyAddressProjectionDeserializer
+ */
+@Getter
+@AllArgsConstructor
+@JsonDeserialize(using = CompanyAddressProjectionDeserializer.class)
+public class CompanyAddressProjection {
+
+    /**
+     * The registered office address, or null if the profile has none.
+     */
+    private final RegisteredAddressResponse registeredOfficeAddress;
+
+    /**
+     * The entity tag of the profile, or null if the profile has none.
+     */
+    private final String etag;
+
+    /**
+     * Creates a projection without an entity tag.
+     *
+     * @param registeredOfficeAddress the registered office address, may be null
+     */
+    public CompanyAddressProjection(RegisteredAddressResponse registeredOfficeAddress) {
+        this(registeredOfficeAddress, null);
+    }
+}
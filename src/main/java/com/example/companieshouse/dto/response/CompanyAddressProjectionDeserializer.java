@@ -0,0 +1,103 @@
+package com.example.companieshouse.dto.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Streaming deserializer for {@link CompanyAddressProjection}.
+ *
+ * <p>Walks the company profile at the token level. The {@code registered_office_address}
+ * object is read field by field straight into a {@link RegisteredAddressResponse} and the
+ * {@code etag} string is kept; every other field, including nested objects and arrays such as {@code accounts},
+ * {@code links} and {@code previous_company_names}, is skipped with
+ * {@link JsonParser#skipChildren()} so no values are decoded or allocated for it.
+ *
+ * <p>The locality, country and region values are read through the shared
+ * {@link StringInternPool}, as {@link RegisteredAddressResponse} binding does.
+ *
+ * <p>Unknown address fields are ignored, matching how the full DTOs are bound.
+ */
+public class CompanyAddressProjectionDeserializer extends StdDeserializer<CompanyAddressProjection> {
+
+    private static final String REGISTERED_OFFICE_ADDRESS = "registered_office_address";
+
+    private static final String ETAG = "etag";
+
+    /**
+     * Creates the deserializer.
+     */
+    public CompanyAddressProjectionDeserializer() {
+        super(CompanyAddressProjection.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompanyAddressProjection deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (CompanyAddressProjection) context.handleUnexpectedToken(CompanyAddressProjection.class, parser);
+        }
+
+        RegisteredAddressResponse address = null;
+        String etag = null;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT && REGISTERED_OFFICE_ADDRESS.equals(field)) {
+                address = readAddress(parser);
+            } else if (value == JsonToken.VALUE_STRING && ETAG.equals(field)) {
+                etag = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new CompanyAddressProjection(address, etag);
+    }
+
+    /**
+     * Reads a registered office address object.
+     *
+     * @param parser parser positioned on the START_OBJECT token of the address
+     * @return the address, with the parser positioned on its END_OBJECT token
+     * @throws IOException if the JSON cannot be read
+     */
+    static RegisteredAddressResponse readAddress(JsonParser parser) throws IOException {
+        RegisteredAddressResponse.RegisteredAddressResponseBuilder address = RegisteredAddressResponse.builder();
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken value = parser.nextToken();
+            if (!value.isScalarValue()) {
+                parser.skipChildren();
+                continue;
+            }
+
+            switch (field) {
+                case "address_line_1" -> address.addressLine1(text(parser, value));
+                case "address_line_2" -> address.addressLine2(text(parser, value));
+                case "locality" -> address.locality(internedText(parser, value));
+                case "postal_code" -> address.postalCode(text(parser, value));
+                case "country" -> address.country(internedText(parser, value));
+                case "region" -> address.region(internedText(parser, value));
+                case "premises" -> address.premises(text(parser, value));
+                case "care_of" -> address.careOf(text(parser, value));
+                case "po_box" -> address.poBox(text(parser, value));
+                default -> {
+                    // Field not part of the address DTO
+                }
+            }
+        }
+        return address.build();
+    }
+
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    private static String internedText(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_STRING ? InternedStringDeserializer.intern(parser) : text(parser, value);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.companieshouse.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * Immutable variant of {@link CompanyProfileResponse}.
+ *
+ * <p>Binds the same company profile JSON through its canonical constructor, with the
+ * registered office address bound to an immutable {@link RegisteredAddress}, so the whole
+ * profile can be shared between threads and cache hits without copying.
+ *
+ * <p>As with the mutable DTO, the low-cardinality {@code company_status}, {@code type} and
+ * {@code jurisdiction} fields are deserialized through {@link StringInternPool}.
+ *
+ * @param companyNumber           the company registration number (e.g., "09370669")
+ * @param companyName             the registered name of the company
+ * @param companyStatus           the current status of the company (e.g., "active")
+ * @param type                    the type of company (e.g., "ltd", "plc", "llp")
+ * @param dateOfCreation          the date the company was incorporated (ISO 8601 format)
+ * @param registeredOfficeAddress the registered office address of the company
+ * @param jurisdiction            the jurisdiction where the company is registered
+ * @param etag                    entity tag identifying this version of the profile
+ * @see CompanyProfileResponse
+ */
+public record CompanyProfile(
+    @JsonProperty("company_number") String companyNumber,
+    @JsonProperty("company_name") String companyName,
+    @JsonProperty("company_status") @JsonDeserialize(using = InternedStringDeserializer.class) String companyStatus,
+    @JsonProperty("type") @JsonDeserialize(using = InternedStringDeserializer.class) String type,
+    @JsonProperty("date_of_creation") String dateOfCreation,
+    @JsonProperty("registered_office_address") RegisteredAddress registeredOfficeAddress,
+    @JsonProperty("jurisdiction") @JsonDeserialize(using = InternedStringDeserializer.class) String jurisdiction,
+    @JsonProperty("etag") String etag) {
+
+    /**
+     * Creates an immutable copy of a mutable profile.
+     *
+     * @param profile the profile to copy, may be null
+     * @return the immutable profile, or null if the profile is null
+     */
+    public static CompanyProfile from(CompanyProfileResponse profile) {
+        if (profile == null) {
+            return null;
+        }
+        return new CompanyProfile(
+            profile.getCompanyNumber(),
+            profile.getCompanyName(),
+            profile.getCompanyStatus(),
+            profile.getType(),
+            profile.getDateOfCreation(),
+            RegisteredAddress.from(profile.getRegisteredOfficeAddress()),
+            profile.getJurisdiction(),
+            profile.getEtag());
+    }
+
+    /**
+     * Creates a mutable copy of this profile, for APIs that return the mutable DTO.
+     *
+     * @return a new mutable profile with the same fields
+     */
+    public CompanyProfileResponse toResponse() {
+        return CompanyProfileResponse.builder()
+            .companyNumber(companyNumber)
+            .companyName(companyName)
+            .companyStatus(companyStatus)
+            .type(type)
+            .dateOfCreation(dateOfCreation)
+            .registeredOfficeAddress(registeredOfficeAddress != null ? registeredOfficeAddress.toResponse() : null)
+            .jurisdiction(jurisdiction)
+            .etag(etag)
+            .build();
+    }
+}
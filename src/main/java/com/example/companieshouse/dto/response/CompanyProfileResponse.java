@@ -1,6 +1,7 @@
 package com.example.companieshouse.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +10,9 @@ import lombok.NoArgsConstructor;
 /**
  * Data Transfer Object representing a company profile from the Companies House API.
  *
+ * <p>This class is mutable; {@link CompanyProfile} is the immutable variant for values that are
+ * shared between threads or held in caches.
+ *
  * <p>Maps the snake_case JSON fields from the Companies House API to camelCase Java fields.
  * This DTO represents the response from the {@code /company/{companyNumber}} endpoint.
  *
@@ -21,7 +25,8 @@ import lombok.NoArgsConstructor;
  *   "type": "ltd",
  *   "date_of_creation": "2014-12-18",
  *   "registered_office_address": { ... },
- *   "jurisdiction": "england-wales"
+ *   "jurisdiction": "england-wales",
+ *   "etag": "0cf7b8a5b3f4e4a5d7a6b7c8d9e0f1a2b3c4d5e6"
  * }
  * </pre>
  *
@@ -29,6 +34,9 @@ import lombok.NoArgsConstructor;
  * The Companies House API returns additional fields which are omitted here but can be
  * added as needed.
  *
+ * <p>The low-cardinality {@code company_status}, {@code type} and {@code jurisdiction}
+ * fields are deserialized through {@link StringInternPool}.
+ *
  * @see RegisteredAddressResponse
  */
 @Data
@@ -54,12 +62,14 @@ public class CompanyProfileResponse {
      * The current status of the company (e.g., "active", "dissolved").
      */
     @JsonProperty("company_status")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String companyStatus;
 
     /**
      * The type of company (e.g., "ltd", "plc", "llp").
      */
     @JsonProperty("type")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String type;
 
     /**
@@ -79,5 +89,13 @@ public class CompanyProfileResponse {
      * The jurisdiction where the company is registered (e.g., "england-wales", "scotland").
      */
     @JsonProperty("jurisdiction")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String jurisdiction;
+
+    /**
+     * Entity tag identifying this version of the profile; it changes whenever the
+     * profile does. Used to revalidate cached data with {@code If-None-Match}.
+     */
+    @JsonProperty("etag")
+    private String etag;
 }
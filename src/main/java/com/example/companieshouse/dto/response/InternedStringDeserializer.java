@@ -0,0 +1,53 @@
+package com.example.companieshouse.dto.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Deserializes a string field through the {@linkplain StringInternPool#shared() shared
+ * intern pool}, so that low-cardinality values are shared between responses.
+ *
+ * <p>String tokens are looked up straight from the parser's character buffer, so values
+ * already pooled are returned without allocating. Other scalar tokens are coerced exactly
+ * as Jackson's default string deserializer does.
+ *
+ * <p>Usage: {@code @JsonDeserialize(using = InternedStringDeserializer.class)} on a
+ * {@code String} field.
+ */
+public class InternedStringDeserializer extends StdScalarDeserializer<String> {
+
+    /**
+     * Creates the deserializer.
+     */
+    public InternedStringDeserializer() {
+        super(String.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            return intern(parser);
+        }
+        return StringDeserializer.instance.deserialize(parser, context);
+    }
+
+    /**
+     * Reads the current string token through the shared pool.
+     *
+     * @param parser parser positioned on a VALUE_STRING token
+     * @return the pooled value
+     * @throws IOException if the token cannot be read
+     */
+    static String intern(JsonParser parser) throws IOException {
+        return StringInternPool.shared().intern(
+            parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+}
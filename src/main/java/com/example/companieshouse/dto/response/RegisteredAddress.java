@@ -0,0 +1,80 @@
+package com.example.companieshouse.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * Immutable variant of {@link RegisteredAddressResponse}.
+ *
+ * <p>Binds the same {@code registered_office_address} JSON through its canonical
+ * constructor, and serializes to the same snake_case fields. Being a record of strings it
+ * cannot be modified after construction, so a single instance can be handed to any number
+ * of threads, and caches can return it on every hit without the defensive copy the mutable
+ * DTO needs.
+ *
+ * <p>As with the mutable DTO, the low-cardinality {@code locality}, {@code country} and
+ * {@code region} fields are deserialized through {@link StringInternPool}.
+ *
+ * @param addressLine1 primary address line (typically street name and number)
+ * @param addressLine2 secondary address line (e.g., suite, floor, building name)
+ * @param locality     town or city name
+ * @param postalCode   postal code or ZIP code
+ * @param country      country name
+ * @param region       region or county name
+ * @param premises     premises name or number
+ * @param careOf       care of name
+ * @param poBox        PO Box number
+ * @see RegisteredAddressResponse
+ */
+public record RegisteredAddress(
+    @JsonProperty("address_line_1") String addressLine1,
+    @JsonProperty("address_line_2") String addressLine2,
+    @JsonProperty("locality") @JsonDeserialize(using = InternedStringDeserializer.class) String locality,
+    @JsonProperty("postal_code") String postalCode,
+    @JsonProperty("country") @JsonDeserialize(using = InternedStringDeserializer.class) String country,
+    @JsonProperty("region") @JsonDeserialize(using = InternedStringDeserializer.class) String region,
+    @JsonProperty("premises") String premises,
+    @JsonProperty("care_of") String careOf,
+    @JsonProperty("po_box") String poBox) {
+
+    /**
+     * Creates an immutable copy of a mutable address.
+     *
+     * @param address the address to copy, may be null
+     * @return the immutable address, or null if the address is null
+     */
+    public static RegisteredAddress from(RegisteredAddressResponse address) {
+        if (address == null) {
+            return null;
+        }
+        return new RegisteredAddress(
+            address.getAddressLine1(),
+            address.getAddressLine2(),
+            address.getLocality(),
+            address.getPostalCode(),
+            address.getCountry(),
+            address.getRegion(),
+            address.getPremises(),
+            address.getCareOf(),
+            address.getPoBox());
+    }
+
+    /**
+     * Creates a mutable copy of this address, for APIs that return the mutable DTO.
+     *
+     * @return a new mutable address with the same fields
+     */
+    public RegisteredAddressResponse toResponse() {
+        return RegisteredAddressResponse.builder()
+            .addressLine1(addressLine1)
+            .addressLine2(addressLine2)
+            .locality(locality)
+            .postalCode(postalCode)
+            .country(country)
+            .region(region)
+            .premises(premises)
+            .careOf(careOf)
+            .poBox(poBox)
+            .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.companieshouse.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +10,9 @@ import lombok.NoArgsConstructor;
 /**
  * Data Transfer Object representing a registered office address from the Companies House API.
  *
+ * <p>This class is mutable; {@link RegisteredAddress} is the immutable variant for values that are
+ * shared between threads or held in caches.
+ *
  * <p>Maps the snake_case JSON fields from the Companies House API to camelCase Java fields.
  * This DTO corresponds to the {@code registered_office_address} object in the company profile response.
  *
@@ -27,10 +31,14 @@ import lombok.NoArgsConstructor;
  * }
  * </pre>
  *
+ * <p>The low-cardinality {@code locality}, {@code country} and {@code region} fields are
+ * deserialized through {@link StringInternPool}, so addresses share one instance of each
+ * distinct value.
+ *
  * @see CompanyProfileResponse
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RegisteredAddressResponse {
@@ -54,6 +62,7 @@ public class RegisteredAddressResponse {
      * Optional field.
      */
     @JsonProperty("locality")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String locality;
 
     /**
@@ -68,6 +77,7 @@ public class RegisteredAddressResponse {
      * Optional field.
      */
     @JsonProperty("country")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String country;
 
     /**
@@ -75,6 +85,7 @@ public class RegisteredAddressResponse {
      * Optional field.
      */
     @JsonProperty("region")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String region;
 
     /**
@@ -0,0 +1,139 @@
+package com.example.companieshouse.dto.response;
+
+/**
+ * Bounded pool of canonical {@code String} instances for low-cardinality response fields
+ * such as locality, country, region and company status.
+ *
+ * <p>Values like {@code "United Kingdom"} or {@code "active"} repeat across almost every
+ * response. Without pooling each deserialized response holds its own copy, so a cache of
+ * a million addresses holds a million copies of the same few hundred strings. Interning
+ * through this pool makes responses share one instance per distinct value.
+ *
+ * <p>The pool is a fixed-size, direct-mapped table: each value hashes to one slot, and a
+ * value whose slot holds a different string replaces it. Memory is therefore bounded by
+ * the slot count times the maximum pooled length, and a workload with more distinct
+ * values than slots degrades to occasional duplicates rather than unbounded growth.
+ * Values longer than the maximum length are never pooled, since long strings are rarely
+ * repeated.
+ *
+ * <p>{@link #intern(char[], int, int)} looks up a value directly from a parser's character
+ * buffer, so a value already in the pool is returned without allocating a new string.
+ *
+ * <p>Thread-safety: This class is thread-safe without locking. Slots are read and written
+ * with plain reference accesses; a race between two threads can at worst lose one of the
+ * two values, and because strings are immutable a reader always sees a fully constructed
+ * string. A lookup never returns a string that differs from the requested value.
+ */
+public final class StringInternPool {
+
+    /**
+     * Number of slots of the shared pool.
+     */
+    static final int DEFAULT_CAPACITY = 1 << 14;
+
+    /**
+     * Longest value, in characters, the shared pool interns.
+     */
+    static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final StringInternPool SHARED = new StringInternPool(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+
+    private final String[] slots;
+
+    private final int mask;
+
+    private final int maxLength;
+
+    /**
+     * Creates a pool.
+     *
+     * @param capacity  number of slots, a positive power of two
+     * @param maxLength longest value, in characters, to intern
+     * @throws IllegalArgumentException if capacity is not a positive power of two or
+     *                                  maxLength is negative
+     */
+    public StringInternPool(int capacity, int maxLength) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a positive power of two");
+        }
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative");
+        }
+        this.slots = new String[capacity];
+        this.mask = capacity - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the pool shared by the response deserializers.
+     *
+     * @return the shared pool
+     */
+    public static StringInternPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical instance of a value.
+     *
+     * @param value the value, may be null
+     * @return an equal pooled instance, or the value itself if it is null, too long or not
+     *         yet pooled
+     */
+    public String intern(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        int slot = slot(value.hashCode());
+        String pooled = slots[slot];
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        slots[slot] = value;
+        return value;
+    }
+
+    /**
+     * Returns the canonical instance of the value held in a range of a character array,
+     * creating a string only if the value is not already pooled.
+     *
+     * @param chars  the characters
+     * @param offset index of the first character of the value
+     * @param length number of characters of the value
+     * @return an equal pooled instance, or a new string
+     */
+    public String intern(char[] chars, int offset, int length) {
+        if (length > maxLength) {
+            return new String(chars, offset, length);
+        }
+        // Same polynomial as String.hashCode(), so both overloads agree on the slot
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = slot(hash);
+        String pooled = slots[slot];
+        if (pooled != null && matches(pooled, chars, offset, length)) {
+            return pooled;
+        }
+        String value = new String(chars, offset, length);
+        slots[slot] = value;
+        return value;
+    }
+
+    private int slot(int hash) {
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    private static boolean matches(String pooled, char[] chars, int offset, int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,33 +2,57 @@ package com.example.companieshouse.client;
 
 import com.example.companieshouse.client.exception.CompaniesHouseApiException;
 import com.example.companieshouse.client.exception.CompaniesHouseAuthenticationException;
+import com.example.companieshouse.client.exception.CompaniesHouseServerException;
 import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.client.exception.InvalidCompanyNumberException;
 import com.example.companieshouse.client.exception.InvalidResponseException;
 import com.example.companieshouse.client.exception.RateLimitExceededException;
+import com.example.companieshouse.client.metrics.CompaniesHouseMetrics;
+import com.example.companieshouse.client.ratelimit.RequestRateLimiter;
+import com.example.companieshouse.client.retry.RetryPolicy;
+import com.example.companieshouse.config.CompaniesHouseProperties;
+import com.example.companieshouse.dto.response.CompanyAddressProjection;
 import com.example.companieshouse.dto.response.CompanyProfileResponse;
 import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,11 +75,22 @@ class CompaniesHouseClientImplTest {
     @Mock
     private RestClient.ResponseSpec responseSpec;
 
-    @InjectMocks
+    @Mock
+    private RestClient.RequestHeadersSpec notFoundHeadersSpec;
+
+    @Mock
+    private RestClient.ResponseSpec notFoundResponseSpec;
+
+    private BatchLookupExecutor batchLookupExecutor;
+
     private CompaniesHouseClientImpl client;
 
     @BeforeEach
     void setUp() {
+        batchLookupExecutor = new BatchLookupExecutor(Executors.newFixedThreadPool(4), 4);
+        client = new CompaniesHouseClientImpl(restClient, batchLookupExecutor, RequestRateLimiter.unlimited(),
+            RetryPolicy.none(), new CompaniesHouseProperties(), CompaniesHouseMetrics.noop());
+
         // Set up the mock chain: restClient.get().uri().retrieve().body()
         // Use lenient() to avoid unnecessary stubbing warnings for tests that don't use mocks
         lenient().when(restClient.get()).thenReturn(requestHeadersUriSpec);
@@ -64,6 +99,11 @@ class CompaniesHouseClientImplTest {
         lenient().when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
     }
 
+    @AfterEach
+    void tearDown() {
+        batchLookupExecutor.close();
+    }
+
     @Test
     @DisplayName("Should return registered address for valid company number")
     void shouldReturnRegisteredAddressForValidCompany() {
@@ -95,6 +135,29 @@ class CompaniesHouseClientImplTest {
         assertThat(result.getCountry()).isEqualTo("United Kingdom");
     }
 
+    @Test
+    @DisplayName("Should read only the address projection when streaming parsing is configured")
+    void shouldUseAddressProjectionWhenStreaming() {
+        // Arrange
+        CompaniesHouseProperties properties = new CompaniesHouseProperties();
+        properties.setResponseParsing(CompaniesHouseProperties.ResponseParsing.STREAMING);
+        CompaniesHouseClientImpl streamingClient = new CompaniesHouseClientImpl(
+            restClient, batchLookupExecutor, RequestRateLimiter.unlimited(), RetryPolicy.none(), properties,
+            CompaniesHouseMetrics.noop());
+        RegisteredAddressResponse address = RegisteredAddressResponse.builder()
+            .addressLine1("123 High Street")
+            .build();
+
+        when(responseSpec.body(CompanyAddressProjection.class)).thenReturn(new CompanyAddressProjection(address));
+
+        // Act
+        RegisteredAddressResponse result = streamingClient.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(result.getAddressLine1()).isEqualTo("123 High Street");
+        verify(responseSpec, never()).body(CompanyProfileResponse.class);
+    }
+
     @Test
     @DisplayName("Should make GET request to correct endpoint with company number")
     void shouldMakeCorrectApiCall() {
@@ -211,6 +274,37 @@ class CompaniesHouseClientImplTest {
         assertThat(exception.getMessage()).containsAnyOf("null", "blank");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"ABC12345", "123456789", "12-34", "SC"})
+    @DisplayName("Should reject a malformed company number without calling the API")
+    void shouldRejectMalformedCompanyNumber(String malformedNumber) {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> client.getRegisteredAddress(malformedNumber)
+        );
+
+        assertThat(exception.getMessage()).contains("Company number", malformedNumber);
+        verify(restClient, never()).get();
+    }
+
+    @Test
+    @DisplayName("Should request the normalized form of a short company number")
+    void shouldNormalizeShortCompanyNumber() {
+        // Arrange
+        CompanyProfileResponse profileResponse = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder().build())
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class)).thenReturn(profileResponse);
+
+        // Act
+        client.getRegisteredAddress(" sc1234 ");
+
+        // Assert
+        verify(requestHeadersUriSpec).uri("/company/{companyNumber}", "SC001234");
+    }
+
     @Test
     @DisplayName("Should throw CompanyNotFoundException for HTTP 404")
     void shouldThrowCompanyNotFoundFor404() {
@@ -382,6 +476,46 @@ class CompaniesHouseClientImplTest {
         assertThat(apiException.getMessage()).containsIgnoringCase("server error");
     }
 
+    @Test
+    @DisplayName("Should retry server errors when a retry policy is configured")
+    void shouldRetryServerErrorsWithRetryPolicy() {
+        // Arrange
+        String companyNumber = "09370669";
+        CompaniesHouseClientImpl retryingClient = new CompaniesHouseClientImpl(
+            restClient, batchLookupExecutor, RequestRateLimiter.unlimited(), new RetryPolicy(3, 1, 1, 5_000),
+            new CompaniesHouseProperties(), CompaniesHouseMetrics.noop());
+        RegisteredAddressResponse address = RegisteredAddressResponse.builder()
+            .addressLine1("123 High Street")
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class))
+            .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable"))
+            .thenReturn(CompanyProfileResponse.builder().registeredOfficeAddress(address).build());
+
+        // Act
+        RegisteredAddressResponse result = retryingClient.getRegisteredAddress(companyNumber);
+
+        // Assert
+        assertThat(result.getAddressLine1()).isEqualTo("123 High Street");
+        verify(responseSpec, times(2)).body(CompanyProfileResponse.class);
+    }
+
+    @Test
+    @DisplayName("Should report the HTTP status of server errors")
+    void shouldReportServerErrorStatus() {
+        // Arrange
+        when(responseSpec.body(CompanyProfileResponse.class))
+            .thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY, "Bad Gateway"));
+
+        // Act & Assert
+        CompaniesHouseServerException exception = assertThrows(
+            CompaniesHouseServerException.class,
+            () -> client.getRegisteredAddress("09370669")
+        );
+
+        assertThat(exception.getStatusCode()).isEqualTo(502);
+    }
+
     @Test
     @DisplayName("Should throw CompaniesHouseApiException for timeout")
     void shouldThrowApiExceptionForTimeout() {
@@ -443,4 +577,335 @@ class CompaniesHouseClientImplTest {
 
         assertThat(exception.getMessage()).containsAnyOf("400", "Client error");
     }
+
+    // ==================== Conditional Lookup Tests ====================
+
+    @Test
+    @DisplayName("Should report not modified when the API answers If-None-Match with 304")
+    void shouldReportNotModifiedFor304() {
+        // Arrange
+        when(requestHeadersUriSpec.header(HttpHeaders.IF_NONE_MATCH, "\"etag-1\""))
+            .thenReturn(requestHeadersUriSpec);
+        when(responseSpec.toEntity(CompanyProfileResponse.class))
+            .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        // Act
+        ConditionalAddressResult result = client.getRegisteredAddressIfModified("09370669", "etag-1");
+
+        // Assert
+        assertThat(result.isModified()).isFalse();
+        assertThat(result.getAddress()).isNull();
+        assertThat(result.getEtag()).isEqualTo("etag-1");
+    }
+
+    @Test
+    @DisplayName("Should report not modified when a full response carries the same etag")
+    void shouldCompareEtagWhenHeaderIgnored() {
+        // Arrange
+        CompanyProfileResponse profile = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder().addressLine1("Old Street").build())
+            .etag("etag-1")
+            .build();
+        when(requestHeadersUriSpec.header(HttpHeaders.IF_NONE_MATCH, "\"etag-1\""))
+            .thenReturn(requestHeadersUriSpec);
+        when(responseSpec.toEntity(CompanyProfileResponse.class)).thenReturn(ResponseEntity.ok(profile));
+
+        // Act
+        ConditionalAddressResult result = client.getRegisteredAddressIfModified("09370669", "etag-1");
+
+        // Assert
+        assertThat(result.isModified()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return the new address and etag when the profile has changed")
+    void shouldReturnChangedAddressWithEtag() {
+        // Arrange
+        CompanyProfileResponse profile = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder().addressLine1("New Street").build())
+            .etag("etag-2")
+            .build();
+        when(responseSpec.toEntity(CompanyProfileResponse.class)).thenReturn(ResponseEntity.ok(profile));
+
+        // Act
+        ConditionalAddressResult result = client.getRegisteredAddressIfModified("09370669", null);
+
+        // Assert
+        assertThat(result.isModified()).isTrue();
+        assertThat(result.getAddress().getAddressLine1()).isEqualTo("New Street");
+        assertThat(result.getEtag()).isEqualTo("etag-2");
+    }
+
+    // ==================== Async Lookup Tests ====================
+
+    @Test
+    @DisplayName("Should complete async lookup with registered address")
+    void shouldCompleteAsyncLookup() throws Exception {
+        // Arrange
+        RegisteredAddressResponse expectedAddress = RegisteredAddressResponse.builder()
+            .addressLine1("123 High Street")
+            .build();
+        CompanyProfileResponse profileResponse = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(expectedAddress)
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class)).thenReturn(profileResponse);
+
+        // Act
+        CompletableFuture<RegisteredAddressResponse> future = client.getRegisteredAddressAsync("09370669");
+
+        // Assert
+        assertThat(future.get()).isSameAs(expectedAddress);
+    }
+
+    @Test
+    @DisplayName("Should record each request in metrics by outcome")
+    void shouldRecordRequestMetrics() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CompaniesHouseClientImpl instrumentedClient = new CompaniesHouseClientImpl(
+            restClient, batchLookupExecutor, RequestRateLimiter.unlimited(), RetryPolicy.none(),
+            new CompaniesHouseProperties(), new CompaniesHouseMetrics(registry));
+        when(responseSpec.body(CompanyProfileResponse.class))
+            .thenReturn(CompanyProfileResponse.builder()
+                .registeredOfficeAddress(RegisteredAddressResponse.builder().addressLine1("1 High St").build())
+                .build())
+            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND, "Not Found"));
+
+        // Act
+        instrumentedClient.getRegisteredAddress("09370669");
+        assertThrows(CompanyNotFoundException.class, () -> instrumentedClient.getRegisteredAddress("99999999"));
+
+        // Assert
+        assertThat(registry.get("companies.house.api.requests").tag("outcome", "success").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get("companies.house.api.requests").tag("outcome", "not_found").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get("companies.house.api.requests.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should translate 404 without a stack trace in stackless mode")
+    @SuppressWarnings("unchecked")
+    void shouldThrowStacklessNotFoundInStacklessMode() throws Exception {
+        // Arrange
+        CompaniesHouseProperties properties = new CompaniesHouseProperties();
+        properties.setStacklessExceptions(true);
+        CompaniesHouseClientImpl stacklessClient = new CompaniesHouseClientImpl(
+            restClient, batchLookupExecutor, RequestRateLimiter.unlimited(), RetryPolicy.none(), properties,
+            CompaniesHouseMetrics.noop());
+
+        ArgumentCaptor<RestClient.ResponseSpec.ErrorHandler> handler =
+            ArgumentCaptor.forClass(RestClient.ResponseSpec.ErrorHandler.class);
+        when(responseSpec.onStatus(any(Predicate.class), handler.capture())).thenReturn(responseSpec);
+        ClientHttpResponse notFound = mock(ClientHttpResponse.class);
+        when(notFound.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+        when(responseSpec.body(CompanyProfileResponse.class)).thenAnswer(invocation -> {
+            handler.getValue().handle(null, notFound);
+            return null;
+        });
+
+        // Act & Assert
+        CompanyNotFoundException exception = assertThrows(
+            CompanyNotFoundException.class,
+            () -> stacklessClient.getRegisteredAddress("99999999")
+        );
+
+        assertThat(exception.getCompanyNumber()).isEqualTo("99999999");
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return failures as results from the non-throwing lookup")
+    void shouldReturnFailureFromNonThrowingLookup() {
+        // Arrange
+        when(responseSpec.body(CompanyProfileResponse.class))
+            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND, "Not Found"));
+
+        // Act
+        AddressLookupResult result = client.lookupRegisteredAddress("99999999");
+
+        // Assert
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getCompanyNumber()).isEqualTo("99999999");
+        assertThat(result.getException()).isInstanceOf(CompanyNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should complete async lookup exceptionally with the API exception")
+    void shouldCompleteAsyncLookupExceptionally() {
+        // Arrange
+        when(responseSpec.body(CompanyProfileResponse.class))
+            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND, "Not Found"));
+
+        // Act
+        CompletableFuture<RegisteredAddressResponse> future = client.getRegisteredAddressAsync("99999999");
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause()).isInstanceOf(CompanyNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject blank company number for async lookup immediately")
+    void shouldRejectBlankCompanyNumberForAsyncLookup() {
+        // Act & Assert
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> client.getRegisteredAddressAsync(" ")
+        );
+    }
+
+    // ==================== Batch Lookup Tests ====================
+
+    @Test
+    @DisplayName("Should return a result for every distinct company number in a batch")
+    void shouldReturnResultsForBatch() {
+        // Arrange
+        CompanyProfileResponse profileResponse = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder()
+                .addressLine1("123 High Street")
+                .build())
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class)).thenReturn(profileResponse);
+
+        // Act
+        Map<String, AddressLookupResult> results =
+            client.getRegisteredAddresses(List.of("09370669", "12345678"));
+
+        // Assert
+        assertThat(results).containsOnlyKeys("09370669", "12345678");
+        assertThat(results.values()).allMatch(AddressLookupResult::isSuccess);
+        assertThat(results.get("09370669").getAddress().getAddressLine1()).isEqualTo("123 High Street");
+    }
+
+    @Test
+    @DisplayName("Should look up repeated company numbers in a batch only once")
+    void shouldDeduplicateBatch() {
+        // Arrange
+        CompanyProfileResponse profileResponse = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder().build())
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class)).thenReturn(profileResponse);
+
+        // Act
+        Map<String, AddressLookupResult> results =
+            client.getRegisteredAddresses(List.of("09370669", "09370669", "09370669"));
+
+        // Assert
+        assertThat(results).hasSize(1);
+        verify(requestHeadersUriSpec, times(1)).uri("/company/{companyNumber}", "09370669");
+    }
+
+    @Test
+    @DisplayName("Should capture per-company failures without aborting the batch")
+    void shouldCaptureFailuresInBatch() {
+        // Arrange
+        CompanyProfileResponse profileResponse = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder().build())
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class)).thenReturn(profileResponse);
+        when(requestHeadersUriSpec.uri("/company/{companyNumber}", "99999999"))
+            .thenReturn(notFoundHeadersSpec);
+        when(notFoundHeadersSpec.retrieve()).thenReturn(notFoundResponseSpec);
+        when(notFoundResponseSpec.body(CompanyProfileResponse.class))
+            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND, "Not Found"));
+
+        // Act
+        Map<String, AddressLookupResult> results =
+            client.getRegisteredAddresses(List.of("09370669", "99999999"));
+
+        // Assert
+        assertThat(results.get("09370669").isSuccess()).isTrue();
+        AddressLookupResult notFound = results.get("99999999");
+        assertThat(notFound.isSuccess()).isFalse();
+        assertThat(notFound.getAddress()).isNull();
+        assertThat(notFound.getException()).isInstanceOf(CompanyNotFoundException.class);
+        assertThrows(CompanyNotFoundException.class, notFound::getAddressOrThrow);
+    }
+
+    @Test
+    @DisplayName("Should report invalid company numbers per entry without aborting the batch")
+    void shouldReportInvalidCompanyNumbersInBatch() {
+        // Arrange
+        CompanyProfileResponse profileResponse = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder()
+                .addressLine1("123 High Street")
+                .build())
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class)).thenReturn(profileResponse);
+
+        // Act
+        Map<String, AddressLookupResult> results =
+            client.getRegisteredAddresses(List.of("09370669", " ", "9370669", "INVALID-1"));
+
+        // Assert
+        assertThat(results).containsOnlyKeys("09370669", " ", "9370669", "INVALID-1");
+        assertThat(results.get("09370669").isSuccess()).isTrue();
+        assertThat(results.get("9370669").getCompanyNumber()).isEqualTo("9370669");
+        assertThat(results.get("9370669").getAddress().getAddressLine1()).isEqualTo("123 High Street");
+        assertThat(results.get(" ").getException()).isInstanceOf(InvalidCompanyNumberException.class);
+        assertThat(results.get("INVALID-1").getException()).isInstanceOf(InvalidCompanyNumberException.class);
+        verify(restClient, times(1)).get();
+        verify(requestHeadersUriSpec, times(1)).uri("/company/{companyNumber}", "09370669");
+    }
+
+    @Test
+    @DisplayName("Should stream invalid company numbers as failures alongside valid results")
+    void shouldStreamInvalidCompanyNumbersAsFailures() {
+        // Arrange
+        CompanyProfileResponse profileResponse = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder().build())
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class)).thenReturn(profileResponse);
+
+        // Act
+        List<AddressLookupResult> results;
+        try (Stream<AddressLookupResult> stream = client.streamRegisteredAddresses(
+                Stream.of("INVALID-1", "09370669", "", "9370669", "12345678", "INVALID-1"))) {
+            results = stream.collect(Collectors.toList());
+        }
+
+        // Assert
+        assertThat(results)
+            .extracting(AddressLookupResult::getCompanyNumber)
+            .containsExactlyInAnyOrder("INVALID-1", "09370669", "", "12345678");
+        assertThat(results)
+            .filteredOn(result -> !result.isSuccess())
+            .extracting(AddressLookupResult::getCompanyNumber)
+            .containsExactlyInAnyOrder("INVALID-1", "");
+        assertThat(results)
+            .filteredOn(result -> !result.isSuccess())
+            .allMatch(result -> result.getException() instanceof InvalidCompanyNumberException);
+        verify(restClient, times(2)).get();
+    }
+
+    @Test
+    @DisplayName("Should stream a result for every distinct company number")
+    void shouldStreamResults() {
+        // Arrange
+        CompanyProfileResponse profileResponse = CompanyProfileResponse.builder()
+            .registeredOfficeAddress(RegisteredAddressResponse.builder().build())
+            .build();
+
+        when(responseSpec.body(CompanyProfileResponse.class)).thenReturn(profileResponse);
+
+        // Act
+        List<String> companyNumbers;
+        try (Stream<AddressLookupResult> results = client.streamRegisteredAddresses(
+                Stream.of("09370669", "12345678", "09370669", "SC123456", "OC654321", "NI000123"))) {
+            companyNumbers = results
+                .map(AddressLookupResult::getCompanyNumber)
+                .collect(Collectors.toList());
+        }
+
+        // Assert
+        assertThat(companyNumbers)
+            .containsExactlyInAnyOrder("09370669", "12345678", "SC123456", "OC654321", "NI000123");
+    }
 }
@@ -0,0 +1,91 @@
+package com.example.companieshouse.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CompanyNumber}.
+ */
+@DisplayName("CompanyNumber Unit Tests")
+class CompanyNumberTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "09370669, 09370669",
+        "9370669, 09370669",
+        "1, 00000001",
+        "SC123456, SC123456",
+        "sc1234, SC001234",
+        "' NI012345 ', NI012345",
+        "R123, R0000123"
+    })
+    @DisplayName("Should normalize valid company numbers")
+    void shouldNormalize(String input, String expected) {
+        // Act
+        CompanyNumber companyNumber = CompanyNumber.of(input);
+
+        // Assert
+        assertThat(companyNumber).hasToString(expected);
+        assertThat(CompanyNumber.unpack(CompanyNumber.pack(input))).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "SC", "ABC12345", "123456789", "SC1234567", "12-34", "S C1", "0937066９"})
+    @DisplayName("Should reject invalid company numbers")
+    void shouldRejectInvalid(String input) {
+        // Act & Assert
+        assertThat(CompanyNumber.pack(input)).isEqualTo(CompanyNumber.INVALID);
+        assertThat(CompanyNumber.isValid(input)).isFalse();
+        assertThatThrownBy(() -> CompanyNumber.of(input))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("company number");
+    }
+
+    @Test
+    @DisplayName("Should return the input itself when it is already normalized")
+    void shouldNormalizeWithoutCopying() {
+        // Arrange
+        String normalized = "SC123456";
+
+        // Act & Assert
+        assertThat(CompanyNumber.normalize(normalized)).isSameAs(normalized);
+        assertThat(CompanyNumber.normalize("sc123456")).isEqualTo(normalized);
+        assertThat(CompanyNumber.normalize(" 9370669")).isEqualTo("09370669");
+        assertThat(CompanyNumber.normalize("SC-123")).isNull();
+        assertThat(CompanyNumber.normalize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should order packed values like the company numbers they encode")
+    void shouldPreserveOrdering() {
+        // Arrange
+        String[] ordered = {"00000001", "09370669", "NI012345", "OC301234", "R0000123", "SC000001", "SC123456"};
+
+        // Act & Assert
+        for (int i = 1; i < ordered.length; i++) {
+            assertThat(CompanyNumber.pack(ordered[i - 1])).isLessThan(CompanyNumber.pack(ordered[i]));
+            assertThat(CompanyNumber.of(ordered[i - 1])).isLessThan(CompanyNumber.of(ordered[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Should be equal when the normalized numbers are equal")
+    void shouldCompareByNormalizedValue() {
+        // Act
+        CompanyNumber padded = CompanyNumber.of("SC001234");
+        CompanyNumber shortForm = CompanyNumber.of("sc1234");
+
+        // Assert
+        assertThat(shortForm).isEqualTo(padded).hasSameHashCodeAs(padded);
+        assertThat(CompanyNumber.fromLong(padded.toLong())).isEqualTo(padded);
+        assertThatThrownBy(() -> CompanyNumber.fromLong(42L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
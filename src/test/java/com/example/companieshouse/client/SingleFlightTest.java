@@ -0,0 +1,107 @@
+package com.example.companieshouse.client;
+
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ */
+@DisplayName("SingleFlight Unit Tests")
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Should share one execution between concurrent callers for the same key")
+    void shouldCoalesceConcurrentCalls() throws Exception {
+        // Arrange
+        int callers = 10;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // Act
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("09370669", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                awaitQuietly(release);
+                return "address";
+            })));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Thread> followers = new CopyOnWriteArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    followers.add(Thread.currentThread());
+                    return singleFlight.execute("09370669", () -> {
+                        executions.incrementAndGet();
+                        return "duplicate";
+                    });
+                }));
+            }
+            awaitAllWaiting(followers, callers - 1);
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("address");
+            }
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should rethrow the same exception to the caller and release the key")
+    void shouldPropagateExceptionAndReleaseKey() {
+        // Arrange
+        CompanyNotFoundException notFound = new CompanyNotFoundException("99999999");
+
+        // Act & Assert
+        CompanyNotFoundException thrown = assertThrows(CompanyNotFoundException.class,
+            () -> singleFlight.execute("99999999", () -> {
+                throw notFound;
+            }));
+        assertThat(thrown).isSameAs(notFound);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute("99999999", () -> "retried")).isEqualTo("retried");
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (threads.size() == expected
+                    && threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Followers did not join the in-flight call");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.companieshouse.client.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.example.companieshouse.client.cache.AddressFixtures.address;
+import static com.example.companieshouse.client.cache.AddressFixtures.fullAddress;
+import static com.example.companieshouse.client.cache.AddressFixtures.key;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link AddressCacheSnapshot}.
+ */
+@DisplayName("AddressCacheSnapshot Unit Tests")
+class AddressCacheSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private final AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+
+    @Test
+    @DisplayName("Should restore addresses, entity tags and remaining time-to-live")
+    void shouldRoundTripEntries() throws IOException {
+        // Arrange
+        AddressCache source = cache(10);
+        source.put(key("09370669"), fullAddress(), "etag-1");
+        clock.advance(20_000);
+        source.put(key("SC001234"), address("Glasgow Road"));
+        Path file = directory.resolve("addresses.snapshot");
+
+        // Act
+        int written = AddressCacheSnapshot.write(source, file);
+        AddressCache target = cache(10);
+        int loaded = AddressCacheSnapshot.load(file, target);
+
+        // Assert
+        assertThat(written).isEqualTo(2);
+        assertThat(loaded).isEqualTo(2);
+        AddressCache.CachedAddress restored = target.lookup(key("09370669"));
+        assertThat(restored.address()).isEqualTo(fullAddress());
+        assertThat(restored.etag()).isEqualTo("etag-1");
+        clock.advance(40_000);
+        assertThat(target.get(key("09370669"))).isNull();
+        assertThat(target.get(key("SC001234")).getAddressLine1()).isEqualTo("Glasgow Road");
+        assertThat(Files.exists(directory.resolve("addresses.snapshot.part"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should preserve recency order so the least recently used entry is evicted first")
+    void shouldPreserveRecencyOrder() throws IOException {
+        // Arrange
+        AddressCache source = cache(10);
+        source.put(key("00000001"), address("One"));
+        source.put(key("00000002"), address("Two"));
+        source.get(key("00000001"));
+        Path file = directory.resolve("addresses.snapshot");
+        AddressCacheSnapshot.write(source, file);
+
+        // Act
+        AddressCache target = cache(2);
+        AddressCacheSnapshot.load(file, target);
+        target.put(key("00000003"), address("Three"));
+
+        // Assert
+        assertThat(target.get(key("00000002"))).isNull();
+        assertThat(target.get(key("00000001"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should skip expired entries and keep entries already cached")
+    void shouldSkipExpiredAndExistingEntries() throws IOException {
+        // Arrange
+        AddressCache source = cache(10);
+        source.put(key("00000001"), address("Expired"));
+        clock.advance(30_000);
+        source.put(key("00000002"), address("Snapshot"));
+        Path file = directory.resolve("addresses.snapshot");
+        AddressCacheSnapshot.write(source, file);
+        clock.advance(30_000);
+        AddressCache target = cache(10);
+        target.put(key("00000002"), address("Live"));
+
+        // Act
+        int loaded = AddressCacheSnapshot.load(file, target);
+
+        // Assert
+        assertThat(loaded).isZero();
+        assertThat(target.get(key("00000002")).getAddressLine1()).isEqualTo("Live");
+        assertThat(target.stats().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a file that is not a snapshot")
+    void shouldRejectForeignFile() throws IOException {
+        // Arrange
+        Path file = directory.resolve("addresses.snapshot");
+        Files.writeString(file, "company_number,address\n09370669,High Street\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> AddressCacheSnapshot.load(file, cache(10)));
+    }
+
+    private AddressCache cache(int maxEntries) {
+        return new AddressCache(maxEntries, 1_000_000, 60_000, clock);
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.dto.response.RegisteredAddress;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static com.example.companieshouse.client.cache.AddressFixtures.address;
+import static com.example.companieshouse.client.cache.AddressFixtures.key;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AddressCache}.
+ */
+@DisplayName("AddressCache Unit Tests")
+class AddressCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("Should return a copy of the cached address")
+    void shouldReturnCopyOfCachedAddress() {
+        // Arrange
+        AddressCache cache = new AddressCache(10, 1_000_000, 60_000, clock);
+        RegisteredAddressResponse address = address("123 High Street");
+        cache.put(key("09370669"), address);
+
+        // Act
+        RegisteredAddressResponse first = cache.get(key("09370669"));
+        first.setAddressLine1("Modified");
+        RegisteredAddressResponse second = cache.get(key("09370669"));
+
+        // Assert
+        assertThat(first).isNotSameAs(address);
+        assertThat(second.getAddressLine1()).isEqualTo("123 High Street");
+        assertThat(cache.stats().getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should share the cached immutable instance without copying")
+    void shouldShareImmutableAddress() {
+        // Arrange
+        AddressCache cache = new AddressCache(10, 1_000_000, 60_000, clock);
+        RegisteredAddress address = RegisteredAddress.from(address("123 High Street"));
+        cache.put(key("09370669"), address, "etag-1");
+
+        // Act
+        AddressCache.CachedAddress first = cache.lookup(key("09370669"));
+        AddressCache.CachedAddress second = cache.lookup(key("09370669"));
+
+        // Assert
+        assertThat(first.sharedAddress()).isSameAs(address);
+        assertThat(second.sharedAddress()).isSameAs(address);
+        assertThat(first.address()).isEqualTo(address.toResponse()).isNotSameAs(second.address());
+        assertThat(first.etag()).isEqualTo("etag-1");
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void shouldExpireEntriesAfterTtl() {
+        // Arrange
+        AddressCache cache = new AddressCache(10, 1_000_000, 60_000, clock);
+        cache.put(key("09370669"), address("123 High Street"));
+
+        // Act
+        clock.advance(60_000);
+
+        // Assert
+        assertThat(cache.get(key("09370669"))).isNull();
+        CacheStats stats = cache.stats();
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getExpirationCount()).isEqualTo(1);
+        assertThat(stats.getSize()).isZero();
+        assertThat(stats.getWeight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when the entry bound is exceeded")
+    void shouldEvictLeastRecentlyUsedEntry() {
+        // Arrange
+        AddressCache cache = new AddressCache(2, 1_000_000, 60_000, clock);
+        cache.put(key("00000001"), address("One"));
+        cache.put(key("00000002"), address("Two"));
+        cache.get(key("00000001"));
+
+        // Act
+        cache.put(key("00000003"), address("Three"));
+
+        // Assert
+        assertThat(cache.get(key("00000002"))).isNull();
+        assertThat(cache.get(key("00000001"))).isNotNull();
+        assertThat(cache.get(key("00000003"))).isNotNull();
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict entries when the weight bound is exceeded")
+    void shouldEvictWhenWeightBoundExceeded() {
+        // Arrange
+        RegisteredAddressResponse address = address("123 High Street");
+        int weight = AddressCache.weigh(RegisteredAddress.from(address));
+        AddressCache cache = new AddressCache(100, weight * 2L, 60_000, clock);
+
+        // Act
+        cache.put(key("00000001"), address);
+        cache.put(key("00000002"), address);
+        cache.put(key("00000003"), address);
+
+        // Assert
+        CacheStats stats = cache.stats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getWeight()).isLessThanOrEqualTo(weight * 2L);
+        assertThat(stats.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get(key("00000001"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop the cached entry when a replacement is too heavy to cache")
+    void shouldInvalidateWhenReplacementExceedsWeightBound() {
+        // Arrange
+        RegisteredAddressResponse address = address("123 High Street");
+        int weight = AddressCache.weigh(RegisteredAddress.from(address));
+        AddressCache cache = new AddressCache(100, weight, 60_000, clock);
+        cache.put(key("09370669"), address);
+
+        // Act
+        cache.put(key("09370669"), address("123 High Street, Westminster, London"));
+
+        // Assert
+        assertThat(cache.get(key("09370669"))).isNull();
+        assertThat(cache.stats().getSize()).isZero();
+        assertThat(cache.stats().getWeight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep expired entries with an entity tag for revalidation")
+    void shouldKeepExpiredTaggedEntriesForRevalidation() {
+        // Arrange
+        AddressCache cache = new AddressCache(10, 1_000_000, 60_000, clock);
+        cache.put(key("09370669"), address("123 High Street"), "etag-1");
+        cache.put(key("00000001"), address("One"));
+        assertThat(cache.expiredEtag(key("09370669"))).isNull();
+
+        // Act
+        clock.advance(60_000);
+
+        // Assert
+        assertThat(cache.get(key("09370669"))).isNull();
+        assertThat(cache.get(key("00000001"))).isNull();
+        assertThat(cache.expiredEtag(key("09370669"))).isEqualTo("etag-1");
+        assertThat(cache.expiredEtag(key("00000001"))).isNull();
+        assertThat(cache.stats().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should restart the TTL of a renewed entry")
+    void shouldRenewRevalidatedEntry() {
+        // Arrange
+        AddressCache cache = new AddressCache(10, 1_000_000, 60_000, clock);
+        cache.put(key("09370669"), address("123 High Street"), "etag-1");
+        clock.advance(60_000);
+
+        // Act
+        RegisteredAddress stale = cache.renew(key("09370669"), "etag-0");
+        RegisteredAddress renewed = cache.renew(key("09370669"), "etag-1");
+
+        // Assert
+        assertThat(stale).isNull();
+        assertThat(renewed.addressLine1()).isEqualTo("123 High Street");
+        assertThat(cache.get(key("09370669"))).isEqualTo(renewed.toResponse());
+        assertThat(cache.expiredEtag(key("09370669"))).isNull();
+        assertThat(cache.renew(key("00000001"), "etag-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should report entries near expiry as due for refresh and serve them stale after it")
+    void shouldReportFreshness() {
+        // Arrange
+        AddressCache cache = new AddressCache(10, 1_000_000, 60_000, 10_000, 30_000, clock);
+        cache.put(key("09370669"), address("123 High Street"));
+
+        // Act & Assert
+        assertThat(cache.lookup(key("09370669")).freshness()).isEqualTo(AddressCache.Freshness.FRESH);
+
+        clock.advance(50_000);
+        assertThat(cache.lookup(key("09370669")).freshness()).isEqualTo(AddressCache.Freshness.REFRESH_DUE);
+
+        clock.advance(10_000);
+        AddressCache.CachedAddress stale = cache.lookup(key("09370669"));
+        assertThat(stale.freshness()).isEqualTo(AddressCache.Freshness.STALE);
+        assertThat(stale.address().getAddressLine1()).isEqualTo("123 High Street");
+        assertThat(cache.get(key("09370669"))).isNull();
+
+        clock.advance(30_000);
+        assertThat(cache.lookup(key("09370669"))).isNull();
+        assertThat(cache.stats().getExpirationCount()).isEqualTo(1);
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    /**
+     * Clock whose time only moves when the test advances it.
+     */
+    static final class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
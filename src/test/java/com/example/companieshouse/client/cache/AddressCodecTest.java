@@ -0,0 +1,134 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link AddressCodec}.
+ */
+@DisplayName("AddressCodec Unit Tests")
+class AddressCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip every field")
+    void shouldRoundTripAllFields() {
+        // Arrange
+        RegisteredAddressResponse address = RegisteredAddressResponse.builder()
+            .addressLine1("Crown House")
+            .addressLine2("27 Old Gloucester Street")
+            .locality("Llanfairpwllgwyngyll")
+            .postalCode("WC1N 3AX")
+            .country("England")
+            .region("Gwynedd")
+            .premises("Suite 4")
+            .careOf("Zoë Smith")
+            .poBox("PO Box 123")
+            .build();
+
+        // Act
+        RegisteredAddressResponse decoded = AddressCodec.decode(ByteBuffer.wrap(AddressCodec.encode(address)));
+
+        // Assert
+        assertThat(decoded).isEqualTo(address);
+    }
+
+    @Test
+    @DisplayName("Should encode a typical address in a fraction of its JSON size")
+    void shouldEncodeCompactly() {
+        // Arrange
+        RegisteredAddressResponse address = RegisteredAddressResponse.builder()
+            .addressLine1("10 Downing Street")
+            .locality("London")
+            .postalCode("SW1A 2AA")
+            .country("United Kingdom")
+            .region("Greater London")
+            .build();
+
+        // Act
+        byte[] encoded = AddressCodec.encode(address);
+        RegisteredAddressResponse decoded = AddressCodec.decode(ByteBuffer.wrap(encoded));
+
+        // Assert
+        assertThat(encoded).hasSize(1 + 1 + 17 + 1 + 1 + 8 + 1 + 1);
+        assertThat(decoded).isEqualTo(address);
+        assertThat(decoded.getCountry()).isSameAs(
+            AddressCodec.decode(ByteBuffer.wrap(encoded)).getCountry());
+    }
+
+    @Test
+    @DisplayName("Should keep null fields null and decode from the buffer position")
+    void shouldDecodeSequentialValues() {
+        // Arrange
+        RegisteredAddressResponse empty = new RegisteredAddressResponse();
+        RegisteredAddressResponse partial = RegisteredAddressResponse.builder().poBox("PO Box 9").build();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put(AddressCodec.encodeString(null))
+            .put(AddressCodec.encode(empty))
+            .put(AddressCodec.encodeString("\"etag-1\""))
+            .put(AddressCodec.encode(partial))
+            .flip();
+
+        // Act & Assert
+        assertThat(AddressCodec.decodeString(buffer)).isNull();
+        assertThat(AddressCodec.decode(buffer)).isEqualTo(empty);
+        assertThat(AddressCodec.decodeString(buffer)).isEqualTo("\"etag-1\"");
+        assertThat(AddressCodec.decode(buffer)).isEqualTo(partial);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should decode from a direct buffer")
+    void shouldDecodeFromDirectBuffer() {
+        // Arrange
+        RegisteredAddressResponse address = RegisteredAddressResponse.builder()
+            .addressLine1("1 High Street")
+            .locality("Kendal")
+            .build();
+        byte[] encoded = AddressCodec.encode(address);
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length).put(encoded).flip();
+
+        // Act
+        RegisteredAddressResponse decoded = AddressCodec.decode(direct);
+
+        // Assert
+        assertThat(decoded).isEqualTo(address);
+    }
+
+    @Test
+    @DisplayName("Should reject truncated input")
+    void shouldRejectTruncatedInput() {
+        // Arrange
+        byte[] encoded = AddressCodec.encode(RegisteredAddressResponse.builder()
+            .addressLine1("1 High Street")
+            .build());
+        ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(encoded, encoded.length - 3));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> AddressCodec.decode(truncated));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 127, 128, 16_383, 16_384, 2_097_151, 2_097_152, Integer.MAX_VALUE})
+    @DisplayName("Should round-trip varints at every size boundary")
+    void shouldRoundTripVarints(int value) {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.allocate(5);
+
+        // Act
+        AddressCodec.putVarint(buffer, value);
+        buffer.flip();
+
+        // Assert
+        assertThat(buffer.remaining()).isEqualTo(AddressCodec.varintSize(value));
+        assertThat(AddressCodec.getVarint(buffer)).isEqualTo(value);
+    }
+}
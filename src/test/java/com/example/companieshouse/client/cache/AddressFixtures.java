@@ -0,0 +1,46 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.client.CompanyNumber;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+
+/**
+ * Company numbers and addresses shared by the cache tests.
+ */
+final class AddressFixtures {
+
+    private AddressFixtures() {
+    }
+
+    static long key(String companyNumber) {
+        return CompanyNumber.pack(companyNumber);
+    }
+
+    static RegisteredAddressResponse address() {
+        return address("123 High Street");
+    }
+
+    static RegisteredAddressResponse address(String addressLine1) {
+        return RegisteredAddressResponse.builder()
+            .addressLine1(addressLine1)
+            .postalCode("SW1A 1AA")
+            .country("United Kingdom")
+            .build();
+    }
+
+    /**
+     * Returns an address with every field set.
+     */
+    static RegisteredAddressResponse fullAddress() {
+        return RegisteredAddressResponse.builder()
+            .addressLine1("Crown House")
+            .addressLine2("27 Old Gloucester Street")
+            .locality("London")
+            .postalCode("WC1N 3AX")
+            .country("England")
+            .region("Greater London")
+            .premises("Suite 4")
+            .careOf("Jane Smith")
+            .poBox("PO Box 123")
+            .build();
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.client.AddressLookupResult;
+import com.example.companieshouse.client.BatchLookupExecutor;
+import com.example.companieshouse.client.CompaniesHouseClient;
+import com.example.companieshouse.client.CompanyNumber;
+import com.example.companieshouse.client.ConditionalAddressResult;
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.dto.response.RegisteredAddress;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.example.companieshouse.client.cache.AddressFixtures.address;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CachingCompaniesHouseClient}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingCompaniesHouseClient Unit Tests")
+class CachingCompaniesHouseClientTest {
+
+    @Mock
+    private CompaniesHouseClient delegate;
+
+    private BatchLookupExecutor batchLookupExecutor;
+
+    private CachingCompaniesHouseClient client;
+
+    @BeforeEach
+    void setUp() {
+        batchLookupExecutor = new BatchLookupExecutor(Executors.newFixedThreadPool(2), 2);
+        AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+        client = new CachingCompaniesHouseClient(delegate,
+            new AddressCache(100, 1_000_000, 60_000, clock),
+            new NegativeResultCache(100, 10_000, clock),
+            batchLookupExecutor, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchLookupExecutor.close();
+    }
+
+    @Test
+    @DisplayName("Should call the delegate only once for repeated lookups")
+    void shouldCacheSuccessfulLookups() {
+        // Arrange
+        when(delegate.getRegisteredAddress("09370669")).thenReturn(address());
+
+        // Act
+        RegisteredAddressResponse first = client.getRegisteredAddress("09370669");
+        RegisteredAddressResponse second = client.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(second).isEqualTo(first);
+        verify(delegate, times(1)).getRegisteredAddress("09370669");
+        assertThat(client.getCacheStats().getHitCount()).isEqualTo(1);
+        assertThat(client.getCacheStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return the delegate's response on a miss and a copy on hits")
+    void shouldReturnDelegateResponseOnMiss() {
+        // Arrange
+        RegisteredAddressResponse fetched = address();
+        when(delegate.getRegisteredAddress("09370669")).thenReturn(fetched);
+
+        // Act
+        RegisteredAddressResponse miss = client.getRegisteredAddress("09370669");
+        RegisteredAddressResponse hit = client.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(miss).isSameAs(fetched);
+        assertThat(hit).isEqualTo(fetched).isNotSameAs(fetched);
+    }
+
+    @Test
+    @DisplayName("Should return the same immutable instance on every cache hit")
+    void shouldShareImmutableAddressOnHits() {
+        // Arrange
+        when(delegate.getRegisteredAddress("09370669")).thenReturn(address());
+
+        // Act
+        RegisteredAddress miss = client.getImmutableRegisteredAddress("09370669");
+        RegisteredAddress first = client.getImmutableRegisteredAddress("09370669");
+        RegisteredAddress second = client.getImmutableRegisteredAddress("9370669");
+
+        // Assert
+        assertThat(miss).isEqualTo(RegisteredAddress.from(address()));
+        assertThat(first).isSameAs(miss);
+        assertThat(second).isSameAs(first);
+        assertThat(client.getRegisteredAddress("09370669")).isEqualTo(address());
+        verify(delegate, times(1)).getRegisteredAddress("09370669");
+    }
+
+    @Test
+    @DisplayName("Should not cache failures other than not found")
+    void shouldNotCacheOtherFailures() {
+        // Arrange
+        when(delegate.getRegisteredAddress("09370669"))
+            .thenThrow(new CompaniesHouseApiException("Companies House API server error (HTTP 500)"));
+
+        // Act & Assert
+        assertThrows(CompaniesHouseApiException.class, () -> client.getRegisteredAddress("09370669"));
+        assertThrows(CompaniesHouseApiException.class, () -> client.getRegisteredAddress("09370669"));
+        verify(delegate, times(2)).getRegisteredAddress("09370669");
+    }
+
+    @Test
+    @DisplayName("Should answer repeated not-found lookups from the negative cache")
+    void shouldAnswerRepeatedNotFoundFromNegativeCache() {
+        // Arrange
+        when(delegate.getRegisteredAddress("99999999"))
+            .thenThrow(new CompanyNotFoundException("99999999"));
+
+        // Act
+        assertThrows(CompanyNotFoundException.class, () -> client.getRegisteredAddress("99999999"));
+        CompanyNotFoundException cached = assertThrows(
+            CompanyNotFoundException.class, () -> client.getRegisteredAddress(" 99999999 "));
+
+        // Assert
+        verify(delegate, times(1)).getRegisteredAddress("99999999");
+        assertThat(cached.getStackTrace()).isEmpty();
+        assertThat(client.getNegativeCacheStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should send only cache misses to the delegate batch")
+    void shouldBatchOnlyMisses() {
+        // Arrange
+        when(delegate.getRegisteredAddress("09370669")).thenReturn(address());
+        client.getRegisteredAddress("09370669");
+        when(delegate.getRegisteredAddresses(List.of("12345678")))
+            .thenReturn(Map.of("12345678", AddressLookupResult.success("12345678", address())));
+
+        // Act
+        Map<String, AddressLookupResult> results =
+            client.getRegisteredAddresses(List.of("12345678", "09370669", "12345678"));
+
+        // Assert
+        assertThat(results.keySet()).containsExactly("12345678", "09370669");
+        assertThat(results.values()).allMatch(AddressLookupResult::isSuccess);
+        verify(delegate).getRegisteredAddresses(List.of("12345678"));
+    }
+
+    @Test
+    @DisplayName("Should revalidate an expired entry with its entity tag")
+    void shouldRevalidateExpiredEntryWithEtag() {
+        // Arrange
+        AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+        CachingCompaniesHouseClient revalidatingClient = new CachingCompaniesHouseClient(delegate,
+            new AddressCache(100, 1_000_000, 60_000, clock), null, batchLookupExecutor, true);
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenReturn(ConditionalAddressResult.modified(address(), "etag-1"));
+        when(delegate.getRegisteredAddressIfModified("09370669", "etag-1"))
+            .thenReturn(ConditionalAddressResult.notModified("etag-1"));
+        revalidatingClient.getRegisteredAddress("09370669");
+        clock.advance(60_000);
+
+        // Act
+        RegisteredAddressResponse revalidated = revalidatingClient.getRegisteredAddress("09370669");
+        RegisteredAddressResponse cached = revalidatingClient.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(revalidated).isEqualTo(address());
+        assertThat(cached).isEqualTo(address());
+        verify(delegate, times(1)).getRegisteredAddressIfModified("09370669", null);
+        verify(delegate, times(1)).getRegisteredAddressIfModified("09370669", "etag-1");
+        verify(delegate, never()).getRegisteredAddress("09370669");
+    }
+
+    @Test
+    @DisplayName("Should keep the entity tag of an expired entry refreshed by a batch lookup")
+    void shouldKeepEtagWhenBatchReplacesExpiredEntry() {
+        // Arrange
+        AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+        CachingCompaniesHouseClient revalidatingClient = new CachingCompaniesHouseClient(delegate,
+            new AddressCache(100, 1_000_000, 60_000, clock), null, batchLookupExecutor, true);
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenReturn(ConditionalAddressResult.modified(address(), "etag-1"));
+        when(delegate.getRegisteredAddresses(List.of("09370669")))
+            .thenReturn(Map.of("09370669", AddressLookupResult.success("09370669", address())));
+        when(delegate.getRegisteredAddressIfModified("09370669", "etag-1"))
+            .thenReturn(ConditionalAddressResult.notModified("etag-1"));
+        revalidatingClient.getRegisteredAddress("09370669");
+        clock.advance(60_000);
+        revalidatingClient.getRegisteredAddresses(List.of("09370669"));
+        clock.advance(60_000);
+
+        // Act
+        RegisteredAddressResponse revalidated = revalidatingClient.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(revalidated).isEqualTo(address());
+        verify(delegate, times(1)).getRegisteredAddressIfModified("09370669", null);
+        verify(delegate).getRegisteredAddressIfModified("09370669", "etag-1");
+    }
+
+    @Test
+    @DisplayName("Should replace an expired entry whose profile has changed")
+    void shouldReplaceChangedEntryOnRevalidation() {
+        // Arrange
+        AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+        CachingCompaniesHouseClient revalidatingClient = new CachingCompaniesHouseClient(delegate,
+            new AddressCache(100, 1_000_000, 60_000, clock), null, batchLookupExecutor, true);
+        RegisteredAddressResponse moved = address().toBuilder().addressLine1("1 New Street").build();
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenReturn(ConditionalAddressResult.modified(address(), "etag-1"));
+        when(delegate.getRegisteredAddressIfModified("09370669", "etag-1"))
+            .thenReturn(ConditionalAddressResult.modified(moved, "etag-2"));
+        when(delegate.getRegisteredAddressIfModified("09370669", "etag-2"))
+            .thenReturn(ConditionalAddressResult.notModified("etag-2"));
+        revalidatingClient.getRegisteredAddress("09370669");
+        clock.advance(60_000);
+
+        // Act
+        RegisteredAddressResponse refreshed = revalidatingClient.getRegisteredAddress("09370669");
+        clock.advance(60_000);
+        RegisteredAddressResponse revalidated = revalidatingClient.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(refreshed.getAddressLine1()).isEqualTo("1 New Street");
+        assertThat(revalidated).isEqualTo(moved);
+        verify(delegate).getRegisteredAddressIfModified("09370669", "etag-2");
+    }
+
+    @Test
+    @DisplayName("Should serve a stale entry immediately and refresh it in the background")
+    void shouldServeStaleAndRefreshInBackground() {
+        // Arrange
+        AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+        CachingCompaniesHouseClient staleClient = new CachingCompaniesHouseClient(delegate,
+            new AddressCache(100, 1_000_000, 60_000, 0, 60_000, clock), null, batchLookupExecutor, false);
+        RegisteredAddressResponse moved = address().toBuilder().addressLine1("1 New Street").build();
+        when(delegate.getRegisteredAddress("09370669")).thenReturn(address(), moved);
+        staleClient.getRegisteredAddress("09370669");
+        clock.advance(60_000);
+
+        // Act
+        RegisteredAddressResponse stale = staleClient.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(stale).isEqualTo(address());
+        verify(delegate, timeout(5_000).times(2)).getRegisteredAddress("09370669");
+        await(() -> staleClient.getRegisteredAddress("09370669").equals(moved));
+        assertThat(staleClient.getBackgroundRefreshCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refresh an entry ahead of expiry without blocking the caller")
+    void shouldRefreshAhead() {
+        // Arrange
+        AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+        AddressCache cache = new AddressCache(100, 1_000_000, 60_000, 10_000, 0, clock);
+        CachingCompaniesHouseClient refreshAheadClient =
+            new CachingCompaniesHouseClient(delegate, cache, null, batchLookupExecutor, false);
+        when(delegate.getRegisteredAddress("09370669")).thenReturn(address());
+        refreshAheadClient.getRegisteredAddress("09370669");
+        clock.advance(55_000);
+
+        // Act
+        RegisteredAddressResponse hit = refreshAheadClient.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(hit).isEqualTo(address());
+        long key = CompanyNumber.pack("09370669");
+        await(() -> cache.lookup(key).freshness() == AddressCache.Freshness.FRESH);
+        verify(delegate, times(2)).getRegisteredAddress("09370669");
+        assertThat(refreshAheadClient.getBackgroundRefreshCount()).isEqualTo(1);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
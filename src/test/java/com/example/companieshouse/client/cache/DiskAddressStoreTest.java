@@ -0,0 +1,212 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.companieshouse.client.cache.AddressFixtures.address;
+import static com.example.companieshouse.client.cache.AddressFixtures.fullAddress;
+import static com.example.companieshouse.client.cache.AddressFixtures.key;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link DiskAddressStore}.
+ */
+@DisplayName("DiskAddressStore Unit Tests")
+class DiskAddressStoreTest {
+
+    private static final long SEGMENT_BYTES = 1 << 20;
+
+    @TempDir
+    Path directory;
+
+    private final AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+
+    @Test
+    @DisplayName("Should return a stored address with its entity tag")
+    void shouldRoundTripAddress() throws IOException {
+        // Arrange
+        RegisteredAddressResponse address = fullAddress();
+        try (DiskAddressStore store = open(10)) {
+            // Act
+            boolean stored = store.put(key("09370669"), address, "etag-1");
+            DiskAddressStore.StoredAddress result = store.get(key("09370669"));
+
+            // Assert
+            assertThat(stored).isTrue();
+            assertThat(result.address()).isEqualTo(address).isNotSameAs(address);
+            assertThat(result.etag()).isEqualTo("etag-1");
+            assertThat(result.fetchedAt()).isEqualTo(clock.millis());
+            assertThat(store.get(key("00000001"))).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve stored addresses after reopening")
+    void shouldSurviveReopen() throws IOException {
+        // Arrange
+        try (DiskAddressStore store = open(10)) {
+            store.put(key("09370669"), address("Old Street"), null);
+            store.put(key("09370669"), address("New Street"), "etag-2");
+            store.put(key("SC001234"), address("Glasgow Road"), null);
+            store.put(key("00000001"), address("Removed Road"), null);
+            store.invalidate(key("00000001"));
+        }
+
+        // Act
+        try (DiskAddressStore store = open(10)) {
+            // Assert
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.get(key("09370669")).address().getAddressLine1()).isEqualTo("New Street");
+            assertThat(store.get(key("09370669")).etag()).isEqualTo("etag-2");
+            assertThat(store.get(key("SC001234")).address().getAddressLine1()).isEqualTo("Glasgow Road");
+            assertThat(store.get(key("00000001"))).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should expire addresses a TTL after they were fetched, including across restarts")
+    void shouldExpireAfterTtl() throws IOException {
+        // Arrange
+        try (DiskAddressStore store = open(10)) {
+            store.put(key("09370669"), address("High Street"), null);
+
+            // Act
+            clock.advance(60_000);
+
+            // Assert
+            assertThat(store.get(key("09370669"))).isNull();
+            assertThat(store.size()).isZero();
+        }
+        try (DiskAddressStore store = open(10)) {
+            assertThat(store.size()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used address when the entry bound is exceeded")
+    void shouldEvictLeastRecentlyUsed() throws IOException {
+        // Arrange
+        try (DiskAddressStore store = open(2)) {
+            store.put(key("00000001"), address("One"), null);
+            store.put(key("00000002"), address("Two"), null);
+            store.get(key("00000001"));
+
+            // Act
+            store.put(key("00000003"), address("Three"), null);
+
+            // Assert
+            assertThat(store.get(key("00000002"))).isNull();
+            assertThat(store.get(key("00000001"))).isNotNull();
+            assertThat(store.get(key("00000003"))).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should truncate a partly written record at the end of the last segment")
+    void shouldRecoverFromTruncatedTail() throws IOException {
+        // Arrange
+        try (DiskAddressStore store = open(10)) {
+            store.put(key("09370669"), address("Kept Street"), null);
+            store.put(key("SC001234"), address("Torn Street"), null);
+        }
+        Path segment = segments().get(0);
+        long size = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+
+        // Act
+        try (DiskAddressStore store = open(10)) {
+            // Assert
+            assertThat(store.get(key("09370669")).address().getAddressLine1()).isEqualTo("Kept Street");
+            assertThat(store.get(key("SC001234"))).isNull();
+            store.put(key("00000001"), address("Appended Street"), null);
+        }
+        try (DiskAddressStore store = open(10)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.get(key("00000001")).address().getAddressLine1()).isEqualTo("Appended Street");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a segment file that is not a disk cache segment")
+    void shouldRejectForeignSegment() throws IOException {
+        // Arrange
+        Files.writeString(directory.resolve("segment-0000000001.log"), "company_number,address\n");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> open(10));
+    }
+
+    @Test
+    @DisplayName("Should compact sealed segments once most of their bytes are dead")
+    void shouldCompactDeadSegments() throws IOException {
+        // Arrange
+        try (DiskAddressStore store = open(10)) {
+            store.put(key("09370669"), address("Live Street"), "etag-1");
+
+            // Act
+            for (int i = 0; i < 50_000; i++) {
+                store.put(key("00000001"), address("Rewritten Street " + i), null);
+            }
+
+            // Assert
+            assertThat(store.segmentCount()).isLessThanOrEqualTo(2);
+            assertThat(store.get(key("09370669")).address().getAddressLine1()).isEqualTo("Live Street");
+            assertThat(store.get(key("00000001")).address().getAddressLine1()).isEqualTo("Rewritten Street 49999");
+        }
+        try (DiskAddressStore store = open(10)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.get(key("09370669")).etag()).isEqualTo("etag-1");
+        }
+    }
+
+    @Test
+    @DisplayName("Should not store an address too large for a record")
+    void shouldRejectOversizedAddress() throws IOException {
+        // Arrange
+        RegisteredAddressResponse address = address("x".repeat(2_000_000));
+        try (DiskAddressStore store = open(10)) {
+            // Act
+            boolean stored = store.put(key("09370669"), address, null);
+
+            // Assert
+            assertThat(stored).isFalse();
+            assertThat(store.get(key("09370669"))).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject use after close")
+    void shouldRejectUseAfterClose() throws IOException {
+        // Arrange
+        DiskAddressStore store = open(10);
+
+        // Act
+        store.close();
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> store.get(key("09370669")));
+    }
+
+    private DiskAddressStore open(int maxEntries) throws IOException {
+        return DiskAddressStore.open(directory, maxEntries, 60_000, SEGMENT_BYTES, clock);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.companieshouse.client.cache;
+
+import com.example.companieshouse.client.AddressLookupResult;
+import com.example.companieshouse.client.BatchLookupExecutor;
+import com.example.companieshouse.client.CompaniesHouseClient;
+import com.example.companieshouse.client.ConditionalAddressResult;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static com.example.companieshouse.client.cache.AddressFixtures.address;
+import static com.example.companieshouse.client.cache.AddressFixtures.key;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link DiskCachingCompaniesHouseClient}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiskCachingCompaniesHouseClient Unit Tests")
+class DiskCachingCompaniesHouseClientTest {
+
+    @Mock
+    private CompaniesHouseClient delegate;
+
+    @TempDir
+    Path directory;
+
+    private final AddressCacheTest.MutableClock clock = new AddressCacheTest.MutableClock();
+
+    private BatchLookupExecutor batchLookupExecutor;
+
+    private DiskAddressStore store;
+
+    private DiskCachingCompaniesHouseClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        batchLookupExecutor = new BatchLookupExecutor(Executors.newFixedThreadPool(2), 2);
+        store = openStore();
+        client = new DiskCachingCompaniesHouseClient(delegate, store, batchLookupExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        batchLookupExecutor.close();
+    }
+
+    @Test
+    @DisplayName("Should answer lookups from the store after a restart")
+    void shouldServeStoredAddressAfterRestart() throws IOException {
+        // Arrange
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenReturn(ConditionalAddressResult.modified(address(), "etag-1"));
+        client.getRegisteredAddress("09370669");
+        store.close();
+        store = openStore();
+        DiskCachingCompaniesHouseClient restarted =
+            new DiskCachingCompaniesHouseClient(delegate, store, batchLookupExecutor);
+
+        // Act
+        RegisteredAddressResponse result = restarted.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(result).isEqualTo(address());
+        verify(delegate, times(1)).getRegisteredAddressIfModified("09370669", null);
+    }
+
+    @Test
+    @DisplayName("Should forward conditional lookups to the delegate with the caller's entity tag")
+    void shouldForwardConditionalLookup() throws IOException {
+        // Arrange
+        RegisteredAddressResponse moved = address().toBuilder().addressLine1("1 New Street").build();
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenReturn(ConditionalAddressResult.modified(address(), "etag-1"));
+        when(delegate.getRegisteredAddressIfModified("09370669", "etag-1"))
+            .thenReturn(ConditionalAddressResult.modified(moved, "etag-2"));
+        client.getRegisteredAddress("09370669");
+
+        // Act
+        ConditionalAddressResult result = client.getRegisteredAddressIfModified("09370669", "etag-1");
+
+        // Assert
+        assertThat(result.getAddress()).isEqualTo(moved);
+        assertThat(result.getEtag()).isEqualTo("etag-2");
+        assertThat(store.get(key("09370669")).address()).isEqualTo(moved);
+        assertThat(store.get(key("09370669")).etag()).isEqualTo("etag-2");
+    }
+
+    @Test
+    @DisplayName("Should answer a conditional lookup without the stored entity tag from the store")
+    void shouldAnswerConditionalLookupWithoutEtagFromStore() {
+        // Arrange
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenReturn(ConditionalAddressResult.modified(address(), "etag-1"));
+        when(delegate.getRegisteredAddressIfModified("09370669", "etag-1"))
+            .thenReturn(ConditionalAddressResult.notModified("etag-1"));
+        client.getRegisteredAddress("09370669");
+
+        // Act
+        ConditionalAddressResult stored = client.getRegisteredAddressIfModified("09370669", null);
+        ConditionalAddressResult revalidated = client.getRegisteredAddressIfModified("09370669", "etag-1");
+
+        // Assert
+        assertThat(stored.getAddress()).isEqualTo(address());
+        assertThat(stored.getEtag()).isEqualTo("etag-1");
+        assertThat(revalidated.isModified()).isFalse();
+        verify(delegate, times(1)).getRegisteredAddressIfModified("09370669", null);
+        verify(delegate, times(1)).getRegisteredAddressIfModified("09370669", "etag-1");
+    }
+
+    @Test
+    @DisplayName("Should fill a cold in-memory cache stacked on the store without a request")
+    void shouldWarmInMemoryCacheFromStore() throws IOException {
+        // Arrange
+        store.put(key("09370669"), address(), "etag-1");
+        CachingCompaniesHouseClient caching = new CachingCompaniesHouseClient(client,
+            new AddressCache(100, 1_000_000, 1_000, clock), null, batchLookupExecutor, true);
+
+        // Act
+        RegisteredAddressResponse result = caching.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(result).isEqualTo(address());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should let an in-memory cache stacked on the store see changed addresses")
+    void shouldRevalidateInMemoryCacheThroughStore() {
+        // Arrange
+        CachingCompaniesHouseClient caching = new CachingCompaniesHouseClient(client,
+            new AddressCache(100, 1_000_000, 1_000, clock), null, batchLookupExecutor, true);
+        RegisteredAddressResponse moved = address().toBuilder().addressLine1("1 New Street").build();
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenReturn(ConditionalAddressResult.modified(address(), "etag-1"));
+        when(delegate.getRegisteredAddressIfModified("09370669", "etag-1"))
+            .thenReturn(ConditionalAddressResult.modified(moved, "etag-2"));
+        caching.getRegisteredAddress("09370669");
+        clock.advance(1_000);
+
+        // Act
+        RegisteredAddressResponse refreshed = caching.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(refreshed).isEqualTo(moved);
+        assertThat(client.getRegisteredAddress("09370669")).isEqualTo(moved);
+        verify(delegate).getRegisteredAddressIfModified("09370669", "etag-1");
+    }
+
+    @Test
+    @DisplayName("Should not store failures")
+    void shouldNotStoreFailures() {
+        // Arrange
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenThrow(new CompanyNotFoundException("09370669"));
+
+        // Act
+        assertThrows(CompanyNotFoundException.class, () -> client.getRegisteredAddress("09370669"));
+        assertThrows(CompanyNotFoundException.class, () -> client.getRegisteredAddress("09370669"));
+
+        // Assert
+        verify(delegate, times(2)).getRegisteredAddressIfModified("09370669", null);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should send only stored misses to the delegate's batch lookup")
+    void shouldBatchOnlyMisses() {
+        // Arrange
+        when(delegate.getRegisteredAddressIfModified("09370669", null))
+            .thenReturn(ConditionalAddressResult.modified(address(), null));
+        client.getRegisteredAddress("09370669");
+        when(delegate.getRegisteredAddresses(List.of("SC001234")))
+            .thenReturn(Map.of("SC001234", AddressLookupResult.success("SC001234", address())));
+
+        // Act
+        Map<String, AddressLookupResult> results = client.getRegisteredAddresses(List.of("09370669", "SC001234"));
+
+        // Assert
+        assertThat(results).containsOnlyKeys("09370669", "SC001234");
+        assertThat(results.values()).allMatch(AddressLookupResult::isSuccess);
+        assertThat(client.getRegisteredAddress("SC001234")).isEqualTo(address());
+        verify(delegate).getRegisteredAddressIfModified("09370669", null);
+        verify(delegate).getRegisteredAddresses(List.of("SC001234"));
+        verifyNoMoreInteractions(delegate);
+    }
+
+    private DiskAddressStore openStore() throws IOException {
+        return DiskAddressStore.open(directory, 100, 60_000, 1 << 20, clock);
+    }
+}
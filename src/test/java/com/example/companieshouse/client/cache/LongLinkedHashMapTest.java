@@ -0,0 +1,130 @@
+package com.example.companieshouse.client.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LongLinkedHashMap}.
+ */
+@DisplayName("LongLinkedHashMap Unit Tests")
+class LongLinkedHashMapTest {
+
+    @Test
+    @DisplayName("Should store, replace and remove values by key")
+    void shouldStoreReplaceAndRemove() {
+        // Arrange
+        LongLinkedHashMap<String> map = new LongLinkedHashMap<>();
+
+        // Act
+        assertThat(map.put(1L, "one", 100L)).isNull();
+        assertThat(map.put(1L, "uno", 200L)).isEqualTo("one");
+        map.put(2L, "two", 300L);
+
+        // Assert
+        int entry = map.find(1L);
+        assertThat(map.value(entry)).isEqualTo("uno");
+        assertThat(map.expiresAt(entry)).isEqualTo(200L);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.remove(1L)).isEqualTo("uno");
+        assertThat(map.find(1L)).isEqualTo(-1);
+        assertThat(map.remove(1L)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report the least recently used entry as eldest")
+    void shouldTrackRecency() {
+        // Arrange
+        LongLinkedHashMap<String> map = new LongLinkedHashMap<>();
+        map.put(1L, "one", 0L);
+        map.put(2L, "two", 0L);
+        map.put(3L, "three", 0L);
+
+        // Act
+        map.touch(map.find(1L));
+
+        // Assert
+        assertThat(map.removeEntry(map.eldest())).isEqualTo("two");
+        assertThat(map.removeEntry(map.eldest())).isEqualTo("three");
+        assertThat(map.removeEntry(map.eldest())).isEqualTo("one");
+        assertThat(map.eldest()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should iterate from the eldest to the most recently used entry")
+    void shouldIterateInRecencyOrder() {
+        // Arrange
+        LongLinkedHashMap<String> map = new LongLinkedHashMap<>();
+        map.put(1L, "one", 0L);
+        map.put(2L, "two", 0L);
+        map.put(3L, "three", 0L);
+        map.touch(map.find(2L));
+
+        // Act
+        StringBuilder keys = new StringBuilder();
+        for (int entry = map.eldest(); entry >= 0; entry = map.newer(entry)) {
+            keys.append(map.key(entry));
+        }
+
+        // Assert
+        assertThat(keys).hasToString("132");
+    }
+
+    @Test
+    @DisplayName("Should behave like an access-ordered LinkedHashMap under random operations")
+    void shouldMatchLinkedHashMap() {
+        // Arrange
+        LongLinkedHashMap<Integer> map = new LongLinkedHashMap<>();
+        Map<Long, Integer> reference = new LinkedHashMap<>(16, 0.75f, true);
+        Random random = new Random(42);
+
+        // Act & Assert
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(2_000);
+            switch (random.nextInt(4)) {
+                case 0 -> assertThat(map.put(key, i, i)).isEqualTo(reference.put(key, i));
+                case 1 -> {
+                    int entry = map.find(key);
+                    Integer expected = reference.get(key);
+                    assertThat(entry < 0 ? null : map.value(entry)).isEqualTo(expected);
+                    if (entry >= 0) {
+                        map.touch(entry);
+                    }
+                }
+                case 2 -> assertThat(map.remove(key)).isEqualTo(reference.remove(key));
+                default -> {
+                    if (!reference.isEmpty()) {
+                        Long eldestKey = reference.keySet().iterator().next();
+                        assertThat(map.removeEntry(map.eldest())).isEqualTo(reference.remove(eldestKey));
+                    }
+                }
+            }
+            assertThat(map.size()).isEqualTo(reference.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should be empty and reusable after clear")
+    void shouldClear() {
+        // Arrange
+        LongLinkedHashMap<String> map = new LongLinkedHashMap<>();
+        for (long key = 0; key < 1_000; key++) {
+            map.put(key, "value", 0L);
+        }
+
+        // Act
+        map.clear();
+        map.put(7L, "seven", 0L);
+
+        // Assert
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.find(500L)).isEqualTo(-1);
+        assertThat(map.value(map.find(7L))).isEqualTo("seven");
+    }
+}
@@ -29,6 +29,18 @@ class ExceptionTests {
         assertThat(exception).isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    @DisplayName("CompanyNotFoundException without stack trace should keep message and company number")
+    void testStacklessCompanyNotFoundException() {
+        // When: Stackless exception is created
+        CompanyNotFoundException exception = CompanyNotFoundException.withoutStackTrace("09370669");
+
+        // Then: Context is preserved but no stack trace is captured
+        assertThat(exception.getMessage()).contains("Company not found: 09370669");
+        assertThat(exception.getCompanyNumber()).isEqualTo("09370669");
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
     @Test
     @DisplayName("RateLimitExceededException should store retryAfter value")
     void testRateLimitExceededException() {
@@ -47,6 +59,19 @@ class ExceptionTests {
         assertThat(exception).isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    @DisplayName("RateLimitExceededException without stack trace should keep message and retryAfter")
+    void testStacklessRateLimitExceededException() {
+        // When: Stackless exception is created
+        RateLimitExceededException exception =
+            RateLimitExceededException.withoutStackTrace("Rate limit exceeded", 30L);
+
+        // Then: Context is preserved but no stack trace is captured
+        assertThat(exception.getMessage()).contains("Rate limit exceeded").contains("30");
+        assertThat(exception.getRetryAfter()).isEqualTo(30L);
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
+
     @Test
     @DisplayName("RateLimitExceededException should handle null retryAfter")
     void testRateLimitExceededExceptionWithNullRetryAfter() {
@@ -0,0 +1,120 @@
+package com.example.companieshouse.client.metrics;
+
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.client.exception.CompaniesHouseAuthenticationException;
+import com.example.companieshouse.client.exception.CompaniesHouseServerException;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.client.exception.InvalidResponseException;
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CompaniesHouseMetrics} and {@link RequestOutcome}.
+ */
+@DisplayName("CompaniesHouseMetrics Unit Tests")
+class CompaniesHouseMetricsTest {
+
+    private final MockClock clock = new MockClock();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+
+    private final CompaniesHouseMetrics metrics = new CompaniesHouseMetrics(registry);
+
+    @Test
+    @DisplayName("Should time requests by endpoint and outcome")
+    void shouldTimeRequestsByOutcome() {
+        // Arrange
+        long start = metrics.startRequest(CompaniesHouseMetrics.COMPANY_PROFILE);
+
+        // Act
+        clock.add(Duration.ofMillis(120));
+        metrics.recordRequest(CompaniesHouseMetrics.COMPANY_PROFILE, start, RequestOutcome.NOT_FOUND);
+
+        // Assert
+        Timer timer = registry.get("companies.house.api.requests")
+            .tag("endpoint", "company_profile")
+            .tag("outcome", "not_found")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(120.0);
+        assertThat(registry.get("companies.house.api.requests").tag("outcome", "success").timer().count())
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("Should track requests in flight")
+    void shouldTrackInFlightRequests() {
+        // Arrange
+        long first = metrics.startRequest(CompaniesHouseMetrics.COMPANY_PROFILE);
+        metrics.startRequest(CompaniesHouseMetrics.COMPANY_PROFILE);
+
+        // Act
+        metrics.recordRequest(CompaniesHouseMetrics.COMPANY_PROFILE, first, RequestOutcome.SUCCESS);
+
+        // Assert
+        assertThat(registry.get("companies.house.api.requests.in.flight").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record response sizes")
+    void shouldRecordResponseSizes() {
+        // Act
+        metrics.recordResponseSize(CompaniesHouseMetrics.COMPANY_PROFILE, 512);
+        metrics.recordResponseSize(CompaniesHouseMetrics.COMPANY_PROFILE, 2048);
+
+        // Assert
+        var summary = registry.get("companies.house.api.response.size").summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(2560.0);
+        assertThat(summary.getId().getBaseUnit()).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("Should record nothing with the no-op instance")
+    void shouldRecordNothingWhenNoop() {
+        // Act
+        CompaniesHouseMetrics noop = CompaniesHouseMetrics.noop();
+        long start = noop.startRequest(CompaniesHouseMetrics.COMPANY_PROFILE);
+        noop.recordRequest(CompaniesHouseMetrics.COMPANY_PROFILE, start, RequestOutcome.SUCCESS);
+        noop.recordResponseSize(CompaniesHouseMetrics.COMPANY_PROFILE, 100);
+
+        // Assert
+        assertThat(registry.getMeters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should classify failures into outcomes")
+    void shouldClassifyFailures() {
+        assertThat(RequestOutcome.of(new CompanyNotFoundException("09370669")))
+            .isEqualTo(RequestOutcome.NOT_FOUND);
+        assertThat(RequestOutcome.of(new RateLimitExceededException("Rate limit exceeded", 60L)))
+            .isEqualTo(RequestOutcome.RATE_LIMITED);
+        assertThat(RequestOutcome.of(new CompaniesHouseAuthenticationException("Authentication failed")))
+            .isEqualTo(RequestOutcome.AUTH_FAILED);
+        assertThat(RequestOutcome.of(new InvalidResponseException("bad json", null)))
+            .isEqualTo(RequestOutcome.PARSE_ERROR);
+        assertThat(RequestOutcome.of(new CompaniesHouseServerException("server error", 503, null)))
+            .isEqualTo(RequestOutcome.SERVER_ERROR);
+        assertThat(RequestOutcome.of(new CompaniesHouseServerException("timed out", null,
+            new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")))))
+            .isEqualTo(RequestOutcome.TIMEOUT);
+        assertThat(RequestOutcome.of(new CompaniesHouseServerException("refused", null,
+            new ResourceAccessException("I/O error", new ConnectException("Connection refused")))))
+            .isEqualTo(RequestOutcome.IO_ERROR);
+        assertThat(RequestOutcome.of(new CompaniesHouseApiException("Client error: HTTP 400")))
+            .isEqualTo(RequestOutcome.CLIENT_ERROR);
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.companieshouse.client.offline;
+
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link BasicCompanyDataImporter} and the {@link AddressIndex} it writes.
+ */
+@DisplayName("BasicCompanyDataImporter Unit Tests")
+class BasicCompanyDataImporterTest {
+
+    /**
+     * Header of the bulk snapshot, including its leading spaces, truncated after the
+     * address columns.
+     */
+    static final String HEADER = "CompanyName, CompanyNumber,RegAddress.CareOf,RegAddress.POBox,"
+        + "RegAddress.AddressLine1, RegAddress.AddressLine2,RegAddress.PostTown,RegAddress.County,"
+        + "RegAddress.Country,RegAddress.PostCode,CompanyCategory\n";
+
+    @TempDir
+    Path tempDir;
+
+    private final BasicCompanyDataImporter importer = new BasicCompanyDataImporter();
+
+    @Test
+    @DisplayName("Should import registered office addresses from the bulk CSV")
+    void shouldImportAddresses() throws IOException {
+        // Arrange
+        Path csv = csv(HEADER
+            + "\"EXAMPLE LTD\",09370669,,,\"123 High Street\",\"Floor 2\",London,\"Greater London\","
+            + "\"United Kingdom\",\"SW1A 1AA\",\"Private Limited Company\"\n"
+            + "\"CARE OF, \"\"QUOTED\"\" LTD\",SC123456,\"John Smith\",\"PO Box 123\",\"1 Main Street\",,"
+            + "Edinburgh,,Scotland,\"EH1 1AA\",\"Private Limited Company\"\r\n");
+        Path indexFile = tempDir.resolve("addresses.idx");
+
+        // Act
+        BasicCompanyDataImporter.ImportSummary summary = importer.importFile(csv, indexFile);
+
+        // Assert
+        assertThat(summary.getRowsRead()).isEqualTo(2);
+        assertThat(summary.getCompaniesIndexed()).isEqualTo(2);
+        assertThat(summary.getRowsSkipped()).isZero();
+        try (AddressIndex index = AddressIndex.open(indexFile)) {
+            assertThat(index.size()).isEqualTo(2);
+            assertThat(index.find("09370669")).isEqualTo(RegisteredAddressResponse.builder()
+                .addressLine1("123 High Street")
+                .addressLine2("Floor 2")
+                .locality("London")
+                .region("Greater London")
+                .country("United Kingdom")
+                .postalCode("SW1A 1AA")
+                .build());
+            RegisteredAddressResponse careOf = index.find("sc123456");
+            assertThat(careOf.getCareOf()).isEqualTo("John Smith");
+            assertThat(careOf.getPoBox()).isEqualTo("PO Box 123");
+            assertThat(careOf.getAddressLine2()).isNull();
+            assertThat(careOf.getRegion()).isNull();
+            assertThat(careOf.getPremises()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep quoted line breaks and non-ASCII characters")
+    void shouldReadQuotedLineBreaks() throws IOException {
+        // Arrange
+        Path csv = csv(HEADER
+            + "\"EXAMPLE LTD\",09370669,,,\"Unit 1\nThe Yard\",,\"Llanfair Pwllgwyngyll\",,Wales,"
+            + "\"LL61 5UJ\",\"Private Limited Company\"\n"
+            + "\"CAFÉ LTD\",00000006,,,\"1 Rue Café\",,Paris,,France,,\"Private Limited Company\"\n");
+        Path indexFile = tempDir.resolve("addresses.idx");
+
+        // Act
+        importer.importFile(csv, indexFile);
+
+        // Assert
+        try (AddressIndex index = AddressIndex.open(indexFile)) {
+            assertThat(index.find("09370669").getAddressLine1()).isEqualTo("Unit 1\nThe Yard");
+            assertThat(index.find("00000006").getAddressLine1()).isEqualTo("1 Rue Café");
+            assertThat(index.find("00000006").getPostalCode()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the last row for a repeated company number")
+    void shouldKeepLastDuplicate() throws IOException {
+        // Arrange
+        Path csv = csv(HEADER
+            + "\"OLD LTD\",09370669,,,\"Old Street\",,London,,,,\n"
+            + "\"OTHER LTD\",00000001,,,\"Other Street\",,Leeds,,,,\n"
+            + "\"NEW LTD\",09370669,,,\"New Street\",,London,,,,\n");
+        Path indexFile = tempDir.resolve("addresses.idx");
+
+        // Act
+        BasicCompanyDataImporter.ImportSummary summary = importer.importFile(csv, indexFile);
+
+        // Assert
+        assertThat(summary.getCompaniesIndexed()).isEqualTo(2);
+        try (AddressIndex index = AddressIndex.open(indexFile)) {
+            assertThat(index.find("09370669").getAddressLine1()).isEqualTo("New Street");
+            assertThat(index.find("00000001").getAddressLine1()).isEqualTo("Other Street");
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip rows whose company number cannot be indexed")
+    void shouldSkipInvalidCompanyNumbers() throws IOException {
+        // Arrange
+        Path csv = csv(HEADER
+            + "\"MALFORMED LTD\",12/34,,,\"Malformed Street\",,London,,,,\n"
+            + "\"VALID LTD\",09370669,,,\"Valid Street\",,London,,,,\n"
+            + "\"TRUNCATED ROW\"\n");
+        Path indexFile = tempDir.resolve("addresses.idx");
+
+        // Act
+        BasicCompanyDataImporter.ImportSummary summary = importer.importFile(csv, indexFile);
+
+        // Assert
+        assertThat(summary.getRowsRead()).isEqualTo(3);
+        assertThat(summary.getRowsSkipped()).isEqualTo(2);
+        try (AddressIndex index = AddressIndex.open(indexFile)) {
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(index.find("12/34")).isNull();
+            assertThat(index.find("99999999")).isNull();
+            assertThat(index.find("9370669").getAddressLine1()).isEqualTo("Valid Street");
+            assertThat(index.find(null)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip a row with an address field too long to index and keep importing")
+    void shouldSkipOversizedAddressField() throws IOException {
+        // Arrange
+        Path csv = csv(HEADER
+            + "\"BEFORE LTD\",00000001,,,\"Before Street\",,London,,,,\n"
+            + "\"OVERSIZED LTD\",09370669,,,\"Oversized Street\",\"" + "x".repeat(70_000) + "\",London,,,,\n"
+            + "\"AFTER LTD\",00000002,,,\"After Street\",,Leeds,,,,\n");
+        Path indexFile = tempDir.resolve("addresses.idx");
+
+        // Act
+        BasicCompanyDataImporter.ImportSummary summary = importer.importFile(csv, indexFile);
+
+        // Assert
+        assertThat(summary.getRowsRead()).isEqualTo(3);
+        assertThat(summary.getRowsSkipped()).isEqualTo(1);
+        try (AddressIndex index = AddressIndex.open(indexFile)) {
+            assertThat(index.size()).isEqualTo(2);
+            assertThat(index.find("09370669")).isNull();
+            assertThat(index.find("00000001").getAddressLine1()).isEqualTo("Before Street");
+            assertThat(index.find("00000002").getLocality()).isEqualTo("Leeds");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV without a CompanyNumber column")
+    void shouldRejectMissingCompanyNumberColumn() throws IOException {
+        // Arrange
+        Path csv = csv("CompanyName,RegAddress.PostCode\n\"EXAMPLE LTD\",\"SW1A 1AA\"\n");
+
+        // Act & Assert
+        assertThatThrownBy(() -> importer.importFile(csv, tempDir.resolve("addresses.idx")))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("CompanyNumber");
+        assertThat(tempDir.resolve("addresses.idx")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should reject a file that is not an address index")
+    void shouldRejectForeignFile() throws IOException {
+        // Arrange
+        Path file = csv(HEADER);
+
+        // Act & Assert
+        assertThatThrownBy(() -> AddressIndex.open(file))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Not an address index");
+    }
+
+    @Test
+    @DisplayName("Should reject a truncated address index")
+    void shouldRejectTruncatedIndex() throws IOException {
+        // Arrange
+        Path indexFile = tempDir.resolve("addresses.idx");
+        importer.importFile(csv(HEADER + "\"EXAMPLE LTD\",09370669,,,\"123 High Street\",,London,,,,\n"),
+            indexFile);
+        byte[] bytes = Files.readAllBytes(indexFile);
+        Files.write(indexFile, Arrays.copyOf(bytes, bytes.length - 1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> AddressIndex.open(indexFile))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Corrupt address index");
+    }
+
+    @Test
+    @DisplayName("Should keep answering from an open index after it is re-imported")
+    void shouldKeepOpenIndexAfterReimport() throws IOException {
+        // Arrange
+        Path indexFile = tempDir.resolve("addresses.idx");
+        importer.importFile(csv(HEADER + "\"EXAMPLE LTD\",09370669,,,\"Old Street\",,London,,,,\n"), indexFile);
+
+        try (AddressIndex index = AddressIndex.open(indexFile)) {
+            // Act
+            importer.importFile(csv(HEADER + "\"EXAMPLE LTD\",09370669,,,\"New Street\",,London,,,,\n"),
+                indexFile);
+
+            // Assert
+            assertThat(index.find("09370669").getAddressLine1()).isEqualTo("Old Street");
+        }
+        try (AddressIndex reopened = AddressIndex.open(indexFile)) {
+            assertThat(reopened.find("09370669").getAddressLine1()).isEqualTo("New Street");
+        }
+    }
+
+    private Path csv(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "BasicCompanyData-", ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
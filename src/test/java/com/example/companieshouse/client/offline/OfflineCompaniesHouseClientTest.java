@@ -0,0 +1,138 @@
+package com.example.companieshouse.client.offline;
+
+import com.example.companieshouse.client.AddressLookupResult;
+import com.example.companieshouse.client.BatchLookupExecutor;
+import com.example.companieshouse.client.CompaniesHouseClient;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.dto.response.RegisteredAddressResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link OfflineCompaniesHouseClient}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfflineCompaniesHouseClient Unit Tests")
+class OfflineCompaniesHouseClientTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private CompaniesHouseClient fallback;
+
+    private BatchLookupExecutor batchLookupExecutor;
+
+    private AddressIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        batchLookupExecutor = new BatchLookupExecutor(Executors.newFixedThreadPool(2), 2);
+        Path csv = tempDir.resolve("BasicCompanyData.csv");
+        Files.writeString(csv, BasicCompanyDataImporterTest.HEADER
+            + "\"EXAMPLE LTD\",09370669,,,\"123 High Street\",,London,,\"United Kingdom\",\"SW1A 1AA\",\n",
+            StandardCharsets.UTF_8);
+        Path indexFile = tempDir.resolve("addresses.idx");
+        new BasicCompanyDataImporter().importFile(csv, indexFile);
+        index = AddressIndex.open(indexFile);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+        batchLookupExecutor.close();
+    }
+
+    @Test
+    @DisplayName("Should answer indexed companies without calling the fallback")
+    void shouldAnswerFromIndex() {
+        // Arrange
+        OfflineCompaniesHouseClient client = new OfflineCompaniesHouseClient(index, fallback, batchLookupExecutor);
+
+        // Act
+        RegisteredAddressResponse address = client.getRegisteredAddress("09370669");
+
+        // Assert
+        assertThat(address.getAddressLine1()).isEqualTo("123 High Street");
+        assertThat(address.getPostalCode()).isEqualTo("SW1A 1AA");
+        verify(fallback, never()).getRegisteredAddress(any());
+        assertThat(client.getLocalHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should look up companies missing from the index through the fallback")
+    void shouldFallBackForMisses() {
+        // Arrange
+        RegisteredAddressResponse remote = RegisteredAddressResponse.builder().addressLine1("1 New Street").build();
+        when(fallback.getRegisteredAddress("16000001")).thenReturn(remote);
+        OfflineCompaniesHouseClient client = new OfflineCompaniesHouseClient(index, fallback, batchLookupExecutor);
+
+        // Act
+        RegisteredAddressResponse address = client.getRegisteredAddress("16000001");
+
+        // Assert
+        assertThat(address).isSameAs(remote);
+        assertThat(client.getLocalMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should throw CompanyNotFoundException for misses without a fallback")
+    void shouldThrowNotFoundWithoutFallback() {
+        // Arrange
+        OfflineCompaniesHouseClient client = new OfflineCompaniesHouseClient(index, null, batchLookupExecutor);
+
+        // Act & Assert
+        assertThrows(CompanyNotFoundException.class, () -> client.getRegisteredAddress("16000001"));
+        assertThrows(IllegalArgumentException.class, () -> client.getRegisteredAddress(" "));
+    }
+
+    @Test
+    @DisplayName("Should send only index misses to the fallback in a batch")
+    void shouldBatchOnlyMisses() {
+        // Arrange
+        RegisteredAddressResponse remote = RegisteredAddressResponse.builder().addressLine1("1 New Street").build();
+        when(fallback.getRegisteredAddresses(List.of("16000001")))
+            .thenReturn(Map.of("16000001", AddressLookupResult.success("16000001", remote)));
+        OfflineCompaniesHouseClient client = new OfflineCompaniesHouseClient(index, fallback, batchLookupExecutor);
+
+        // Act
+        Map<String, AddressLookupResult> results = client.getRegisteredAddresses(List.of("09370669", "16000001"));
+
+        // Assert
+        assertThat(results).containsOnlyKeys("09370669", "16000001");
+        assertThat(results.get("09370669").getAddress().getAddressLine1()).isEqualTo("123 High Street");
+        assertThat(results.get("16000001").getAddress()).isSameAs(remote);
+    }
+
+    @Test
+    @DisplayName("Should complete asynchronous lookups of indexed companies immediately")
+    void shouldCompleteAsyncHitsImmediately() {
+        // Arrange
+        OfflineCompaniesHouseClient client = new OfflineCompaniesHouseClient(index, fallback, batchLookupExecutor);
+
+        // Act & Assert
+        assertThat(client.getRegisteredAddressAsync("09370669")).isCompleted();
+        verify(fallback, never()).getRegisteredAddressAsync(any());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.companieshouse.client.ratelimit;
+
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link AdaptiveRateLimiter} and {@link RateLimitHeaderInterceptor}.
+ */
+@DisplayName("AdaptiveRateLimiter Unit Tests")
+class AdaptiveRateLimiterTest {
+
+    private static final long NOW_SECONDS = 1_700_000_000L;
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochSecond(NOW_SECONDS), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should not pace requests before any rate limit status is reported")
+    void shouldNotPaceWithoutStatus() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(RequestRateLimiter.unlimited(), 0, clock);
+
+        limiter.acquire();
+
+        assertThat(limiter.getPaceIntervalMillis()).isZero();
+        assertThat(limiter.availablePermits()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should spread the remaining requests evenly over the rest of the window")
+    void shouldSpreadRemainingRequestsOverWindow() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(RequestRateLimiter.unlimited(), 60_000, clock);
+
+        limiter.onRateLimitStatus(new RateLimitStatus(600L, 100, NOW_SECONDS + 50));
+
+        assertThat(limiter.getPaceIntervalMillis()).isEqualTo(500);
+        assertThat(limiter.availablePermits()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the window is exhausted and resets after the max wait")
+    void shouldFailWhenWindowExhausted() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(RequestRateLimiter.unlimited(), 1_000, clock);
+
+        limiter.onRateLimitStatus(new RateLimitStatus(600L, 0, NOW_SECONDS + 120));
+
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, limiter::acquire);
+        assertThat(exception.getRetryAfter()).isEqualTo(120L);
+    }
+
+    @Test
+    @DisplayName("Should not take a delegate permit when the window is exhausted")
+    void shouldNotConsumeDelegatePermitWhenWindowExhausted() {
+        TokenBucketRateLimiter bucket = new TokenBucketRateLimiter(1, 1, 60_000, 0);
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(bucket, 1_000, clock);
+
+        limiter.onRateLimitStatus(new RateLimitStatus(600L, 0, NOW_SECONDS + 120));
+
+        assertThrows(RateLimitExceededException.class, limiter::acquire);
+        assertThat(bucket.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop pacing once the reported window has reset")
+    void shouldIgnoreExpiredWindow() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(RequestRateLimiter.unlimited(), 0, clock);
+
+        limiter.onRateLimitStatus(new RateLimitStatus(600L, 0, NOW_SECONDS - 1));
+
+        limiter.acquire();
+        assertThat(limiter.getPaceIntervalMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should parse Companies House rate limit headers")
+    void shouldParseRateLimitHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Ratelimit-Limit", "600");
+        headers.add("X-Ratelimit-Remain", "598");
+        headers.add("X-Ratelimit-Reset", "1700000300");
+
+        RateLimitStatus status = RateLimitHeaderInterceptor.parse(headers);
+
+        assertThat(status).isEqualTo(new RateLimitStatus(600L, 598, 1_700_000_300L));
+    }
+
+    @Test
+    @DisplayName("Should ignore missing or malformed rate limit headers")
+    void shouldIgnoreMalformedRateLimitHeaders() {
+        HttpHeaders missing = new HttpHeaders();
+        HttpHeaders malformed = new HttpHeaders();
+        malformed.add("X-Ratelimit-Remaining", "lots");
+        malformed.add("X-Ratelimit-Reset", "1700000300");
+
+        assertThat(RateLimitHeaderInterceptor.parse(missing)).isNull();
+        assertThat(RateLimitHeaderInterceptor.parse(malformed)).isNull();
+    }
+}
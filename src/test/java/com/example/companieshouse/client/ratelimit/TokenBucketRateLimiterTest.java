@@ -0,0 +1,76 @@
+package com.example.companieshouse.client.ratelimit;
+
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link TokenBucketRateLimiter}.
+ */
+@DisplayName("TokenBucketRateLimiter Unit Tests")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("Should start full and allow a burst up to capacity")
+    void shouldAllowBurstUpToCapacity() {
+        // Arrange
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 3, 3_000, 0, nanoTime::get);
+
+        // Act & Assert
+        assertThat(limiter.availablePermits()).isEqualTo(3);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.availablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refill permits over time without exceeding capacity")
+    void shouldRefillOverTime() {
+        // Arrange
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 3, 3_000, 0, nanoTime::get);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // Act
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_000));
+
+        // Assert
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        assertThat(limiter.availablePermits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the next permit is further away than the max wait")
+    void shouldFailWhenWaitExceedsMaximum() {
+        // Arrange
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 60_000, 1_000, nanoTime::get);
+        limiter.acquire();
+
+        // Act & Assert
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, limiter::acquire);
+        assertThat(exception.getRetryAfter()).isEqualTo(60L);
+        assertThat(limiter.availablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Unlimited limiter should never run out of permits")
+    void unlimitedLimiterShouldNeverRunOut() {
+        RequestRateLimiter limiter = RequestRateLimiter.unlimited();
+
+        limiter.acquire();
+
+        assertThat(limiter.availablePermits()).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.companieshouse.client.retry;
+
+import com.example.companieshouse.client.exception.CompaniesHouseApiException;
+import com.example.companieshouse.client.exception.CompaniesHouseServerException;
+import com.example.companieshouse.client.exception.CompanyNotFoundException;
+import com.example.companieshouse.client.exception.RateLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link RetryPolicy}.
+ */
+@DisplayName("RetryPolicy Unit Tests")
+class RetryPolicyTest {
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+
+    private final List<Long> sleeps = new ArrayList<>();
+
+    /**
+     * Creates a policy whose sleeps advance the fake clock and whose jitter always
+     * picks the largest allowed delay.
+     */
+    private RetryPolicy policy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis, long deadlineMillis) {
+        return new RetryPolicy(maxAttempts, initialBackoffMillis, maxBackoffMillis, deadlineMillis,
+            nanoTime::get,
+            millis -> {
+                sleeps.add(millis);
+                nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+            },
+            (origin, bound) -> bound - 1);
+    }
+
+    @Test
+    @DisplayName("Should retry server errors until the call succeeds")
+    void shouldRetryServerErrorsUntilSuccess() {
+        // Arrange
+        RetryPolicy retryPolicy = policy(3, 100, 10_000, 60_000);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = retryPolicy.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CompaniesHouseServerException("server error", 503, null);
+            }
+            return "ok";
+        });
+
+        // Assert
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        assertThat(sleeps).containsExactly(300L, 900L);
+    }
+
+    @Test
+    @DisplayName("Should not retry failures that are not transient")
+    void shouldNotRetryNonRetryableFailures() {
+        // Arrange
+        RetryPolicy retryPolicy = policy(5, 100, 10_000, 60_000);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(CompanyNotFoundException.class, () -> retryPolicy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new CompanyNotFoundException("09370669");
+        }));
+        assertThat(attempts).hasValue(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should throw the last failure once attempts are used up")
+    void shouldThrowLastFailureWhenAttemptsExhausted() {
+        // Arrange
+        RetryPolicy retryPolicy = policy(2, 100, 10_000, 60_000);
+        CompaniesHouseServerException failure = new CompaniesHouseServerException("server error", 500, null);
+
+        // Act & Assert
+        CompaniesHouseApiException thrown = assertThrows(CompaniesHouseApiException.class,
+            () -> retryPolicy.execute(() -> {
+                throw failure;
+            }));
+        assertSame(failure, thrown);
+        assertThat(sleeps).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should wait at least the Retry-After period after a rate limit failure")
+    void shouldHonorRetryAfter() {
+        // Arrange
+        RetryPolicy retryPolicy = policy(2, 100, 10_000, 60_000);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        retryPolicy.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RateLimitExceededException("Rate limit exceeded", 5L);
+            }
+            return "ok";
+        });
+
+        // Assert
+        assertThat(sleeps).singleElement().satisfies(delay -> assertThat(delay).isBetween(5_000L, 5_100L));
+    }
+
+    @Test
+    @DisplayName("Should give up when the next delay would pass the deadline")
+    void shouldStopAtDeadline() {
+        // Arrange
+        RetryPolicy retryPolicy = policy(10, 100, 10_000, 2_000);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(RateLimitExceededException.class, () -> retryPolicy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new RateLimitExceededException("Rate limit exceeded", 60L);
+        }));
+        assertThat(attempts).hasValue(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep jittered backoff between the initial and maximum backoff")
+    void shouldBoundJitteredBackoff() {
+        // Arrange
+        RetryPolicy retryPolicy = new RetryPolicy(5, 100, 1_000, 60_000);
+
+        // Act & Assert
+        long backoff = 100;
+        for (int i = 0; i < 100; i++) {
+            backoff = retryPolicy.nextBackoffMillis(backoff);
+            assertThat(backoff).isBetween(100L, 1_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should make a single attempt with the no-retry policy")
+    void shouldNotRetryWithNonePolicy() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(CompaniesHouseServerException.class, () -> RetryPolicy.none().execute(() -> {
+            attempts.incrementAndGet();
+            throw new CompaniesHouseServerException("server error", 500, null);
+        }));
+        assertThat(attempts).hasValue(1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.companieshouse.client.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link Http2Transport} against an in-process HTTP/1.1 server.
+ */
+@DisplayName("Http2Transport Unit Tests")
+class Http2TransportTest {
+
+    private HttpServer server;
+
+    private Http2Transport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "{\"company_number\":\"09370669\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        transport = new Http2Transport(Duration.ofSeconds(2), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should prefer HTTP/2 and fall back to HTTP/1.1 servers")
+    void shouldFallBackToHttp11() {
+        // Arrange
+        RestClient restClient = RestClient.builder()
+            .baseUrl("http://localhost:" + server.getAddress().getPort())
+            .requestFactory(transport.requestFactory())
+            .build();
+
+        // Act
+        String body = restClient.get().uri("/company/{companyNumber}", "09370669").retrieve().body(String.class);
+
+        // Assert
+        assertThat(transport.httpClient().version()).isEqualTo(HttpClient.Version.HTTP_2);
+        assertThat(body).contains("09370669");
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.companieshouse.client.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PooledHttpTransport} against an in-process HTTP server.
+ */
+@DisplayName("PooledHttpTransport Unit Tests")
+class PooledHttpTransportTest {
+
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+
+    private PooledHttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        transport = new PooledHttpTransport(new PooledHttpTransport.Settings(
+            10, 5, Duration.ofSeconds(2), Duration.ofSeconds(5),
+            Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofMinutes(10), true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should reuse a kept-alive connection for sequential requests")
+    void shouldReuseConnection() {
+        // Arrange
+        RestClient restClient = RestClient.builder()
+            .baseUrl("http://localhost:" + server.getAddress().getPort())
+            .requestFactory(transport.requestFactory())
+            .build();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            restClient.get().uri("/company/{companyNumber}", "09370669").retrieve().toBodilessEntity();
+        }
+
+        // Assert
+        assertThat(clientAddresses).hasSize(1);
+        ConnectionPoolStats stats = transport.poolStats();
+        assertThat(stats.getLeased()).isZero();
+        assertThat(stats.getAvailable()).isEqualTo(1);
+        assertThat(stats.getMax()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should publish pool usage as gauges")
+    void shouldPublishPoolGauges() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Act
+        new ConnectionPoolMetrics(transport).bindTo(registry);
+
+        // Assert
+        assertThat(registry.get("companies.house.http.pool.max").gauge().value()).isEqualTo(10.0);
+        assertThat(registry.get("companies.house.http.pool.leased").gauge().value()).isZero();
+        assertThat(registry.get("companies.house.http.pool.pending").gauge().value()).isZero();
+    }
+}
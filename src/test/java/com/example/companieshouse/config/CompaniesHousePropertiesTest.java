@@ -55,6 +55,14 @@ class CompaniesHousePropertiesTest {
         assertThat(properties.getReadTimeoutMs()).isPositive();
     }
 
+    @Test
+    @DisplayName("Should default to platform-thread execution mode")
+    void testExecutionModeDefaultsToPlatform() {
+        assertThat(properties.getExecutionMode())
+            .isEqualTo(CompaniesHouseProperties.ExecutionMode.PLATFORM);
+        assertThat(properties.getBatch().getMaxConcurrency()).isPositive();
+    }
+
     @Test
     @DisplayName("Should reject placeholder API key in validation")
     void testPlaceholderApiKeyRejected() {
@@ -94,4 +102,31 @@ class CompaniesHousePropertiesTest {
         // Should not throw - null is handled by @NotBlank validation
         testProps.validateConfiguration();
     }
+
+    @Test
+    @DisplayName("Should reject enabled offline index without an index path")
+    void testOfflineIndexPathRequired() {
+        CompaniesHouseProperties testProps = new CompaniesHouseProperties();
+        testProps.setBaseUrl("http://localhost:8080");
+        testProps.setApiKey("valid-api-key-123");
+        testProps.getOffline().setEnabled(true);
+
+        assertThatThrownBy(testProps::validateConfiguration)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("offline.index-path");
+    }
+
+    @Test
+    @DisplayName("Should require cache refresh-ahead to be shorter than the TTL")
+    void testRefreshAheadShorterThanTtl() {
+        CompaniesHouseProperties testProps = new CompaniesHouseProperties();
+        testProps.setBaseUrl("http://localhost:8080");
+        testProps.setApiKey("valid-api-key-123");
+        testProps.getCache().setTtlMs(60_000);
+        testProps.getCache().setRefreshAheadMs(60_000);
+
+        assertThatThrownBy(testProps::validateConfiguration)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("cache.refresh-ahead-ms");
+    }
 }
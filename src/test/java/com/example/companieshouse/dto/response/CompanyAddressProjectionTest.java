@@ -0,0 +1,95 @@
+package com.example.companieshouse.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for streaming deserialization of {@link CompanyAddressProjection}.
+ * Verifies that the projection reads the same address as the full profile DTO.
+ */
+@JsonTest
+@DisplayName("CompanyAddressProjection Deserialization Tests")
+class CompanyAddressProjectionTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should extract the same address as full profile binding")
+    void shouldMatchFullProfileBinding() throws Exception {
+        for (String path : new String[] {
+            "__files/company-profile-success.json",
+            "__files/company-profile-with-care-of.json",
+            "__files/company-profile-large.json"}) {
+            // Given: A company profile response
+            String json = loadResource(path);
+
+            // When: Deserialized both ways
+            CompanyAddressProjection projection = objectMapper.readValue(json, CompanyAddressProjection.class);
+            CompanyProfileResponse profile = objectMapper.readValue(json, CompanyProfileResponse.class);
+
+            // Then: Addresses and entity tags are identical
+            assertThat(projection.getRegisteredOfficeAddress())
+                .as(path)
+                .isEqualTo(profile.getRegisteredOfficeAddress());
+            assertThat(projection.getEtag()).as(path).isEqualTo(profile.getEtag());
+            assertThat(projection.getRegisteredOfficeAddress().getCountry())
+                .as(path)
+                .isSameAs(profile.getRegisteredOfficeAddress().getCountry());
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip nested objects and arrays around the address")
+    void shouldSkipNestedStructures() throws Exception {
+        // Given: A large profile with nested accounts, links and previous names
+        String json = loadResource("__files/company-profile-large.json");
+
+        // When: Deserialize the projection
+        CompanyAddressProjection projection = objectMapper.readValue(json, CompanyAddressProjection.class);
+
+        // Then: Only the address is read
+        RegisteredAddressResponse address = projection.getRegisteredOfficeAddress();
+        assertThat(address.getPremises()).isEqualTo("Example House");
+        assertThat(address.getAddressLine1()).isEqualTo("1 Example Square");
+        assertThat(address.getPostalCode()).isEqualTo("E14 5AB");
+        assertThat(address.getCareOf()).isNull();
+        assertThat(projection.getEtag()).isEqualTo("f1d2d2f924e986ac86fdf7b36c94bcdf32beec15");
+    }
+
+    @Test
+    @DisplayName("Should handle missing or null address and unknown address fields")
+    void shouldHandleMissingAndUnknownFields() throws Exception {
+        // Given: Profiles without an address, with a null address and with extra fields
+        String missing = "{\"company_number\":\"09370669\"}";
+        String nullAddress = "{\"registered_office_address\":null}";
+        String extraFields = "{\"registered_office_address\":{\"locality\":\"Leeds\","
+            + "\"country\":null,\"geo\":{\"lat\":53.8},\"tags\":[1,2]}}";
+
+        // When / Then: Missing and null addresses yield null, unknown fields are ignored
+        assertThat(objectMapper.readValue(missing, CompanyAddressProjection.class)
+            .getRegisteredOfficeAddress()).isNull();
+        assertThat(objectMapper.readValue(nullAddress, CompanyAddressProjection.class)
+            .getRegisteredOfficeAddress()).isNull();
+        assertThat(objectMapper.readValue(extraFields, CompanyAddressProjection.class)
+            .getRegisteredOfficeAddress())
+            .isEqualTo(RegisteredAddressResponse.builder().locality("Leeds").build());
+    }
+
+    /**
+     * Helper method to load test resource files.
+     */
+    private String loadResource(String path) throws IOException {
+        ClassPathResource resource = new ClassPathResource(path);
+        return Files.readString(resource.getFile().toPath());
+    }
+}
@@ -152,6 +152,28 @@ class RegisteredAddressResponseTest {
                 .isEqualTo(original.getRegisteredOfficeAddress().getPostalCode());
     }
 
+    @Test
+    @DisplayName("Should share low-cardinality values between deserialized responses")
+    void shouldShareLowCardinalityValues() throws Exception {
+        // Given: The same profile JSON
+        String json = loadResource("__files/company-profile-success.json");
+
+        // When: Deserialize it twice
+        CompanyProfileResponse first = objectMapper.readValue(json, CompanyProfileResponse.class);
+        CompanyProfileResponse second = objectMapper.readValue(json, CompanyProfileResponse.class);
+
+        // Then: Pooled fields are the same instance, other fields are separate copies
+        assertThat(second.getCompanyStatus()).isSameAs(first.getCompanyStatus());
+        assertThat(second.getJurisdiction()).isSameAs(first.getJurisdiction());
+        assertThat(second.getRegisteredOfficeAddress().getCountry())
+                .isSameAs(first.getRegisteredOfficeAddress().getCountry());
+        assertThat(second.getRegisteredOfficeAddress().getLocality())
+                .isSameAs(first.getRegisteredOfficeAddress().getLocality());
+        assertThat(second.getRegisteredOfficeAddress().getAddressLine1())
+                .isEqualTo(first.getRegisteredOfficeAddress().getAddressLine1())
+                .isNotSameAs(first.getRegisteredOfficeAddress().getAddressLine1());
+    }
+
     /**
      * Helper method to load test resource files.
      */
@@ -0,0 +1,87 @@
+package com.example.companieshouse.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the immutable {@link RegisteredAddress} and {@link CompanyProfile} records.
+ * Verifies that they bind the same JSON as the mutable DTOs.
+ */
+@JsonTest
+@DisplayName("RegisteredAddress Record Tests")
+class RegisteredAddressTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should bind the same profile as the mutable DTOs")
+    void shouldMatchMutableBinding() throws Exception {
+        for (String path : new String[] {
+            "__files/company-profile-success.json",
+            "__files/company-profile-with-care-of.json",
+            "__files/company-profile-large.json"}) {
+            // Given: A company profile response
+            String json = loadResource(path);
+
+            // When: Deserialized to the record and to the mutable DTO
+            CompanyProfile profile = objectMapper.readValue(json, CompanyProfile.class);
+            CompanyProfileResponse response = objectMapper.readValue(json, CompanyProfileResponse.class);
+
+            // Then: Both hold the same values
+            assertThat(profile).as(path).isEqualTo(CompanyProfile.from(response));
+            assertThat(profile.toResponse()).as(path).isEqualTo(response);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serialize to the same snake_case JSON as the mutable DTO")
+    void shouldRoundTripJson() throws Exception {
+        // Given: An address record
+        RegisteredAddress address = new RegisteredAddress("Crown House", "27 Old Gloucester Street",
+            "London", "WC1N 3AX", "England", "Greater London", "Suite 4", "Jane Smith", "PO Box 123");
+
+        // When: Serialize it and read it back both ways
+        String json = objectMapper.writeValueAsString(address);
+
+        // Then: Field names match the API and the values survive
+        assertThat(json).contains("\"address_line_1\":\"Crown House\"", "\"care_of\":\"Jane Smith\"");
+        assertThat(objectMapper.readValue(json, RegisteredAddress.class)).isEqualTo(address);
+        assertThat(objectMapper.readValue(json, RegisteredAddressResponse.class)).isEqualTo(address.toResponse());
+    }
+
+    @Test
+    @DisplayName("Should handle missing fields and null addresses")
+    void shouldHandleMissingFields() throws Exception {
+        // Given: A profile without an address and an address with one field
+        String noAddress = "{\"company_number\":\"09370669\",\"registered_office_address\":null}";
+        String partial = "{\"locality\":\"Leeds\",\"geo\":{\"lat\":53.8}}";
+
+        // When: Deserialize
+        CompanyProfile profile = objectMapper.readValue(noAddress, CompanyProfile.class);
+        RegisteredAddress address = objectMapper.readValue(partial, RegisteredAddress.class);
+
+        // Then: Absent fields are null
+        assertThat(profile.registeredOfficeAddress()).isNull();
+        assertThat(profile.toResponse().getRegisteredOfficeAddress()).isNull();
+        assertThat(address).isEqualTo(new RegisteredAddress(null, null, "Leeds", null, null, null, null, null, null));
+        assertThat(RegisteredAddress.from(null)).isNull();
+    }
+
+    /**
+     * Helper method to load test resource files.
+     */
+    private String loadResource(String path) throws IOException {
+        ClassPathResource resource = new ClassPathResource(path);
+        return Files.readString(resource.getFile().toPath());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.companieshouse.dto.response;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link StringInternPool}.
+ */
+@DisplayName("StringInternPool Unit Tests")
+class StringInternPoolTest {
+
+    @Test
+    @DisplayName("Should return the first instance for equal values")
+    void shouldReturnCanonicalInstance() {
+        // Arrange
+        StringInternPool pool = new StringInternPool(16, 64);
+        String first = new String("United Kingdom");
+        String second = new String("United Kingdom");
+
+        // Act
+        String pooledFirst = pool.intern(first);
+        String pooledSecond = pool.intern(second);
+
+        // Assert
+        assertThat(pooledFirst).isSameAs(first);
+        assertThat(pooledSecond).isSameAs(first);
+        assertThat(pool.intern((String) null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should look up character ranges without creating a new string for pooled values")
+    void shouldInternCharacterRanges() {
+        // Arrange
+        StringInternPool pool = new StringInternPool(16, 64);
+        char[] buffer = "{\"country\":\"England\"}".toCharArray();
+
+        // Act
+        String created = pool.intern(buffer, 12, 7);
+        String pooled = pool.intern(buffer, 12, 7);
+
+        // Assert
+        assertThat(created).isEqualTo("England");
+        assertThat(pooled).isSameAs(created);
+        assertThat(pool.intern(new String("England"))).isSameAs(created);
+    }
+
+    @Test
+    @DisplayName("Should not pool values longer than the maximum length")
+    void shouldNotPoolLongValues() {
+        // Arrange
+        StringInternPool pool = new StringInternPool(16, 4);
+        String first = new String("Wales!");
+
+        // Act
+        pool.intern(first);
+        String second = pool.intern(new String("Wales!"));
+
+        // Assert
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should stay bounded by replacing colliding values")
+    void shouldReplaceCollidingValues() {
+        // Arrange
+        StringInternPool pool = new StringInternPool(1, 64);
+        String london = pool.intern("London");
+
+        // Act
+        String leeds = pool.intern("Leeds");
+        String londonAgain = pool.intern(new String("London"));
+
+        // Assert
+        assertThat(leeds).isEqualTo("Leeds");
+        assertThat(londonAgain).isEqualTo(london).isNotSameAs(london);
+        assertThat(pool.intern(new String("London"))).isSameAs(londonAgain);
+    }
+
+    @Test
+    @DisplayName("Should reject a capacity that is not a positive power of two")
+    void shouldRejectInvalidCapacity() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new StringInternPool(0, 64));
+        assertThrows(IllegalArgumentException.class, () -> new StringInternPool(12, 64));
+        assertThrows(IllegalArgumentException.class, () -> new StringInternPool(16, -1));
+    }
+}